@@ -0,0 +1,57 @@
+package com.exasol.adapter.benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.request.parser.PushdownSqlParser;
+import com.exasol.adapter.request.parser.TablesMetadataParser;
+import com.exasol.adapter.sql.SqlNode;
+
+/**
+ * Benchmark for parsing push-down statements into a tree of {@link SqlNode}s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PushdownSqlParserBenchmark {
+    @Param({ "1", "10" })
+    private int tables;
+    @Param({ "10", "1000" })
+    private int columns;
+    @Param({ "4", "200" })
+    private int predicateDepth;
+    @Param({ "10", "10000" })
+    private int inListLength;
+    private List<TableMetadata> involvedTables;
+    private JsonObject statement;
+
+    @Setup
+    public void setup() {
+        this.involvedTables = TablesMetadataParser.create()
+                .parse(readArray(SyntheticPayloads.involvedTables(this.tables, this.columns)));
+        try (final JsonReader reader = Json.createReader(new StringReader(SyntheticPayloads
+                .pushdownStatement(this.tables, this.columns, this.predicateDepth, this.inListLength)))) {
+            this.statement = reader.readObject();
+        }
+    }
+
+    static JsonArray readArray(final String json) {
+        try (final JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readArray();
+        }
+    }
+
+    @Benchmark
+    public SqlNode parseExpression() {
+        return PushdownSqlParser.createWithTablesMetadata(this.involvedTables).parseExpression(this.statement);
+    }
+}
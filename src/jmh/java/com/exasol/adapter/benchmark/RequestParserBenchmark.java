@@ -0,0 +1,50 @@
+package com.exasol.adapter.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.adapter.request.AdapterRequest;
+import com.exasol.adapter.request.parser.RequestParser;
+import com.exasol.adapter.request.parser.StreamingRequestParser;
+
+/**
+ * Benchmark for parsing complete push-down requests.
+ *
+ * <p>
+ * Run with {@code -prof gc} to see the allocation per parsed request.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestParserBenchmark {
+    @Param({ "1", "10" })
+    private int tables;
+    @Param({ "10", "500" })
+    private int columns;
+    @Param({ "4" })
+    private int predicateDepth;
+    @Param({ "100" })
+    private int inListLength;
+    private String rawRequest;
+
+    @Setup
+    public void setup() {
+        this.rawRequest = SyntheticPayloads.pushdownRequest(this.tables, this.columns, this.predicateDepth,
+                this.inListLength);
+    }
+
+    @Benchmark
+    public AdapterRequest parseWithObjectModel() {
+        return RequestParser.create().parse(this.rawRequest);
+    }
+
+    @Benchmark
+    public AdapterRequest parseStreaming() {
+        return StreamingRequestParser.create().parse(this.rawRequest);
+    }
+}
@@ -0,0 +1,40 @@
+package com.exasol.adapter.benchmark;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.adapter.capabilities.*;
+import com.exasol.adapter.response.GetCapabilitiesResponse;
+import com.exasol.adapter.response.converter.ResponseJsonConverter;
+
+/**
+ * Benchmark for converting a response that announces all capabilities.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseJsonConverterBenchmark {
+    private GetCapabilitiesResponse response;
+
+    @Setup
+    public void setup() {
+        final Capabilities capabilities = Capabilities.builder() //
+                .addMain(EnumSet.allOf(MainCapability.class)) //
+                .addLiteral(EnumSet.allOf(LiteralCapability.class)) //
+                .addPredicate(EnumSet.allOf(PredicateCapability.class)) //
+                .addScalarFunction(EnumSet.allOf(ScalarFunctionCapability.class)) //
+                .addAggregateFunction(EnumSet.allOf(AggregateFunctionCapability.class)) //
+                .build();
+        this.response = GetCapabilitiesResponse.builder().capabilities(capabilities).build();
+    }
+
+    @Benchmark
+    public String convertGetCapabilitiesResponse() {
+        return ResponseJsonConverter.getInstance().convertGetCapabilitiesResponse(this.response);
+    }
+}
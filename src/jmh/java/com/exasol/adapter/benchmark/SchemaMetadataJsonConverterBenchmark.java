@@ -0,0 +1,37 @@
+package com.exasol.adapter.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.adapter.metadata.SchemaMetadata;
+import com.exasol.adapter.metadata.converter.SchemaMetadataJsonConverter;
+
+/**
+ * Benchmark for converting schema metadata into JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaMetadataJsonConverterBenchmark {
+    @Param({ "1", "100", "2000" })
+    private int tables;
+    @Param({ "10", "500" })
+    private int columns;
+    private SchemaMetadata schemaMetadata;
+
+    @Setup
+    public void setup() {
+        this.schemaMetadata = SyntheticPayloads.schemaMetadata(this.tables, this.columns);
+    }
+
+    @Benchmark
+    public JsonObject convert() {
+        return SchemaMetadataJsonConverter.getInstance().convert(this.schemaMetadata);
+    }
+}
@@ -0,0 +1,202 @@
+package com.exasol.adapter.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metadata.DataType.ExaCharset;
+
+/**
+ * Generator for synthetic adapter requests and metadata of configurable size.
+ *
+ * <p>
+ * All generated tables have the same structure: table {@code T<i>} has the columns {@code C0} to {@code C<n-1>} whose
+ * data types cycle through {@code DECIMAL}, {@code VARCHAR}, {@code DOUBLE} and {@code TIMESTAMP}. Multiple tables are
+ * combined in a left-deep chain of inner joins.
+ * </p>
+ * <p>
+ * The filter of a generated push-down statement is a chain of alternately nested {@code AND} and {@code OR} predicates
+ * with the given nesting depth. The innermost predicate is an {@code IN} list with the given number of literals.
+ * </p>
+ */
+public final class SyntheticPayloads {
+    private static final String SCHEMA_METADATA_INFO = "\"schemaMetadataInfo\":{\"name\":\"BENCHMARK\","
+            + "\"adapterNotes\":\"\",\"properties\":{\"CONNECTION_NAME\":\"BENCHMARK_CONNECTION\"}}";
+
+    private SyntheticPayloads() {
+        // prevent instantiation
+    }
+
+    /**
+     * Create a complete push-down request.
+     *
+     * @param tables         number of involved tables
+     * @param columns        number of columns per table
+     * @param predicateDepth nesting depth of the filter predicates
+     * @param inListLength   number of literals in the innermost {@code IN} list
+     * @return push-down request as JSON string
+     */
+    public static String pushdownRequest(final int tables, final int columns, final int predicateDepth,
+            final int inListLength) {
+        return "{\"type\":\"pushdown\",\"pushdownRequest\":"
+                + pushdownStatement(tables, columns, predicateDepth, inListLength) //
+                + ",\"involvedTables\":" + involvedTables(tables, columns) + "," + SCHEMA_METADATA_INFO + "}";
+    }
+
+    /**
+     * Create the push-down statement part of a push-down request.
+     *
+     * @param tables         number of involved tables
+     * @param columns        number of columns per table
+     * @param predicateDepth nesting depth of the filter predicates
+     * @param inListLength   number of literals in the innermost {@code IN} list
+     * @return push-down statement as JSON string
+     */
+    public static String pushdownStatement(final int tables, final int columns, final int predicateDepth,
+            final int inListLength) {
+        final StringBuilder builder = new StringBuilder("{\"type\":\"select\",\"from\":");
+        appendFrom(builder, tables);
+        builder.append(",\"selectList\":[");
+        for (int tableIndex = 0; tableIndex < tables; ++tableIndex) {
+            for (int columnIndex = 0; columnIndex < columns; ++columnIndex) {
+                if ((tableIndex > 0) || (columnIndex > 0)) {
+                    builder.append(',');
+                }
+                appendColumn(builder, tableIndex, columnIndex);
+            }
+        }
+        builder.append("],\"filter\":");
+        appendFilter(builder, predicateDepth, inListLength);
+        builder.append('}');
+        return builder.toString();
+    }
+
+    private static void appendFrom(final StringBuilder builder, final int tables) {
+        if (tables == 1) {
+            appendTable(builder, 0);
+        } else {
+            builder.append("{\"type\":\"join\",\"join_type\":\"inner\",\"left\":");
+            appendFrom(builder, tables - 1);
+            builder.append(",\"right\":");
+            appendTable(builder, tables - 1);
+            builder.append(",\"condition\":{\"type\":\"predicate_equal\",\"left\":");
+            appendColumn(builder, 0, 0);
+            builder.append(",\"right\":");
+            appendColumn(builder, tables - 1, 0);
+            builder.append("}}");
+        }
+    }
+
+    private static void appendTable(final StringBuilder builder, final int tableIndex) {
+        builder.append("{\"type\":\"table\",\"name\":\"T").append(tableIndex).append("\"}");
+    }
+
+    private static void appendColumn(final StringBuilder builder, final int tableIndex, final int columnIndex) {
+        builder.append("{\"type\":\"column\",\"name\":\"C").append(columnIndex) //
+                .append("\",\"columnNr\":").append(columnIndex) //
+                .append(",\"tableName\":\"T").append(tableIndex).append("\"}");
+    }
+
+    private static void appendFilter(final StringBuilder builder, final int depth, final int inListLength) {
+        if (depth == 0) {
+            appendInList(builder, inListLength);
+        } else {
+            builder.append("{\"type\":\"").append(((depth % 2) == 0) ? "predicate_and" : "predicate_or")
+                    .append("\",\"expressions\":[{\"type\":\"predicate_less\",\"left\":");
+            appendColumn(builder, 0, 0);
+            builder.append(",\"right\":{\"type\":\"literal_exactnumeric\",\"value\":\"").append(depth).append("\"}},");
+            appendFilter(builder, depth - 1, inListLength);
+            builder.append("]}");
+        }
+    }
+
+    private static void appendInList(final StringBuilder builder, final int inListLength) {
+        builder.append("{\"type\":\"predicate_in_constlist\",\"expression\":");
+        appendColumn(builder, 0, 0);
+        builder.append(",\"arguments\":[");
+        for (int i = 0; i < inListLength; ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"type\":\"literal_exactnumeric\",\"value\":\"").append(i).append("\"}");
+        }
+        builder.append("]}");
+    }
+
+    /**
+     * Create the involved tables part of a push-down request.
+     *
+     * @param tables  number of tables
+     * @param columns number of columns per table
+     * @return JSON array of table metadata as string
+     */
+    public static String involvedTables(final int tables, final int columns) {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int tableIndex = 0; tableIndex < tables; ++tableIndex) {
+            if (tableIndex > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"name\":\"T").append(tableIndex).append("\",\"columns\":[");
+            for (int columnIndex = 0; columnIndex < columns; ++columnIndex) {
+                if (columnIndex > 0) {
+                    builder.append(',');
+                }
+                builder.append("{\"name\":\"C").append(columnIndex).append("\",\"dataType\":");
+                appendDataType(builder, columnIndex);
+                builder.append('}');
+            }
+            builder.append("]}");
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    private static void appendDataType(final StringBuilder builder, final int columnIndex) {
+        switch (columnIndex % 4) {
+        case 0:
+            builder.append("{\"type\":\"DECIMAL\",\"precision\":18,\"scale\":0}");
+            break;
+        case 1:
+            builder.append("{\"type\":\"VARCHAR\",\"size\":2000,\"characterSet\":\"UTF8\"}");
+            break;
+        case 2:
+            builder.append("{\"type\":\"DOUBLE\"}");
+            break;
+        default:
+            builder.append("{\"type\":\"TIMESTAMP\",\"withLocalTimeZone\":false}");
+        }
+    }
+
+    /**
+     * Create schema metadata.
+     *
+     * @param tables  number of tables
+     * @param columns number of columns per table
+     * @return schema metadata
+     */
+    public static SchemaMetadata schemaMetadata(final int tables, final int columns) {
+        final List<TableMetadata> tableMetadata = new ArrayList<>(tables);
+        for (int tableIndex = 0; tableIndex < tables; ++tableIndex) {
+            final List<ColumnMetadata> columnMetadata = new ArrayList<>(columns);
+            for (int columnIndex = 0; columnIndex < columns; ++columnIndex) {
+                columnMetadata.add(ColumnMetadata.builder().name("C" + columnIndex).adapterNotes("")
+                        .type(dataType(columnIndex)).build());
+            }
+            tableMetadata.add(new TableMetadata("T" + tableIndex, "", columnMetadata, ""));
+        }
+        return new SchemaMetadata("", tableMetadata);
+    }
+
+    private static DataType dataType(final int columnIndex) {
+        switch (columnIndex % 4) {
+        case 0:
+            return DataType.createDecimal(18, 0);
+        case 1:
+            return DataType.createVarChar(2000, ExaCharset.UTF8);
+        case 2:
+            return DataType.createDouble();
+        default:
+            return DataType.createTimestamp(false);
+        }
+    }
+}
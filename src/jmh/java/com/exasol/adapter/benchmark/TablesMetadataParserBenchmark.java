@@ -0,0 +1,39 @@
+package com.exasol.adapter.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.JsonArray;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.request.parser.TablesMetadataParser;
+
+/**
+ * Benchmark for parsing the table metadata of involved tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TablesMetadataParserBenchmark {
+    @Param({ "1", "100", "2000" })
+    private int tables;
+    @Param({ "10", "500" })
+    private int columns;
+    private JsonArray tablesAsJson;
+
+    @Setup
+    public void setup() {
+        this.tablesAsJson = PushdownSqlParserBenchmark
+                .readArray(SyntheticPayloads.involvedTables(this.tables, this.columns));
+    }
+
+    @Benchmark
+    public List<TableMetadata> parse() {
+        return TablesMetadataParser.create().parse(this.tablesAsJson);
+    }
+}
@@ -0,0 +1,115 @@
+package com.exasol.adapter;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.response.converter.ResponseJsonConverter;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Process-wide cache for the {@link AdapterFactory} and, if the factory allows it, the {@link VirtualSchemaAdapter}.
+ *
+ * <p>
+ * The Exasol database can reuse the UDF VM of a Virtual Schema adapter for multiple adapter calls. This cache makes
+ * sure that the classpath scan for the {@link AdapterFactory} only happens on the first call in a VM.
+ * </p>
+ * <p>
+ * Adapters are only reused when their factory opts in via {@link AdapterFactory#isAdapterReusable()}. Reused adapters
+ * are discarded after requests that change or remove the Virtual Schema, so that the next call gets a fresh adapter.
+ * </p>
+ */
+public final class AdapterCache {
+    private static final Logger LOGGER = Logger.getLogger(AdapterCache.class.getName());
+    private static final AdapterCache INSTANCE = new AdapterCache(AdapterCache::loadAdapterFactory);
+    private final Supplier<AdapterFactory> adapterFactoryLoader;
+    private volatile AdapterFactory adapterFactory;
+    private volatile AdapterCallExecutor adapterCallExecutor;
+
+    AdapterCache(final Supplier<AdapterFactory> adapterFactoryLoader) {
+        this.adapterFactoryLoader = adapterFactoryLoader;
+    }
+
+    /**
+     * Get the process-wide adapter cache
+     *
+     * @return adapter cache
+     */
+    public static AdapterCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static AdapterFactory loadAdapterFactory() {
+        final ServiceLoader<AdapterFactory> adapterFactoryLoader = ServiceLoader.load(AdapterFactory.class);
+        final Optional<AdapterFactory> adapterFactory = adapterFactoryLoader.findFirst();
+        return adapterFactory.orElseThrow(() -> new NoSuchElementException(
+                ExaError.messageBuilder("E-VS-COM-JAVA-29").message("No AdapterFactory was found.").toString()));
+    }
+
+    /**
+     * Get the adapter factory, loading it on the first call
+     *
+     * @return adapter factory
+     * @throws NoSuchElementException if no adapter factory is registered
+     */
+    public AdapterFactory getAdapterFactory() {
+        AdapterFactory factory = this.adapterFactory;
+        if (factory == null) {
+            synchronized (this) {
+                factory = this.adapterFactory;
+                if (factory == null) {
+                    factory = this.adapterFactoryLoader.get();
+                    final String factoryName = factory.getClass().getName();
+                    LOGGER.fine(() -> "Loaded adapter factory " + factoryName + ".");
+                    this.adapterFactory = factory;
+                }
+            }
+        }
+        return factory;
+    }
+
+    /**
+     * Get an executor for the next adapter call.
+     *
+     * @return cached executor if the adapter factory allows reusing adapters, otherwise an executor for a new adapter
+     */
+    AdapterCallExecutor getAdapterCallExecutor() {
+        final AdapterFactory factory = getAdapterFactory();
+        if (!factory.isAdapterReusable()) {
+            return createAdapterCallExecutor(factory);
+        }
+        AdapterCallExecutor executor = this.adapterCallExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.adapterCallExecutor;
+                if (executor == null) {
+                    executor = createAdapterCallExecutor(factory);
+                    this.adapterCallExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static AdapterCallExecutor createAdapterCallExecutor(final AdapterFactory factory) {
+        final ResponseJsonConverter responseConverter = factory.isParallelMetadataConversionEnabled()
+                ? ResponseJsonConverter.getParallelInstance()
+                : ResponseJsonConverter.getInstance();
+        return new AdapterCallExecutor(factory.createAdapter(), responseConverter);
+    }
+
+    /**
+     * Discard the cached adapter, so that the next adapter call creates a new one.
+     */
+    public synchronized void invalidateAdapter() {
+        this.adapterCallExecutor = null;
+    }
+
+    /**
+     * Discard the cached adapter factory and adapter, so that the next adapter call loads them again.
+     */
+    public synchronized void invalidate() {
+        this.adapterCallExecutor = null;
+        this.adapterFactory = null;
+    }
+}
@@ -1,6 +1,10 @@
 package com.exasol.adapter;
 
 import com.exasol.ExaMetadata;
+import com.exasol.adapter.jfr.AdapterCallEvent;
+import com.exasol.adapter.jfr.AdapterExecutionEvent;
+import com.exasol.adapter.metrics.AdapterCallPhase;
+import com.exasol.adapter.metrics.AdapterCallTimer;
 import com.exasol.adapter.request.*;
 import com.exasol.adapter.response.*;
 import com.exasol.adapter.response.converter.ResponseJsonConverter;
@@ -10,6 +14,7 @@ import com.exasol.adapter.response.converter.ResponseJsonConverter;
  */
 public class AdapterCallExecutor {
     private final VirtualSchemaAdapter adapter;
+    private final ResponseJsonConverter responseConverter;
 
     /**
      * Construct a new {@link AdapterCallExecutor}.
@@ -17,13 +22,52 @@ public class AdapterCallExecutor {
      * @param adapter an instance of {@link VirtualSchemaAdapter}
      */
     public AdapterCallExecutor(final VirtualSchemaAdapter adapter) {
+        this(adapter, ResponseJsonConverter.getInstance());
+    }
+
+    /**
+     * Construct a new {@link AdapterCallExecutor} with a specific response converter.
+     *
+     * @param adapter           an instance of {@link VirtualSchemaAdapter}
+     * @param responseConverter converter that turns the responses of the adapter into JSON
+     */
+    public AdapterCallExecutor(final VirtualSchemaAdapter adapter, final ResponseJsonConverter responseConverter) {
         this.adapter = adapter;
+        this.responseConverter = responseConverter;
     }
 
     @SuppressWarnings("squid:S2139")
     protected String executeAdapterCall(final AdapterRequest request, final ExaMetadata metadata)
             throws AdapterException {
-        return request.executeWith(this, metadata);
+        final AdapterCallEvent event = new AdapterCallEvent();
+        event.begin();
+        String response = null;
+        try {
+            response = request.executeWith(this, metadata);
+            return response;
+        } finally {
+            event.commit(request, AdapterCallTimer.getCurrentRequestLength(), response);
+        }
+    }
+
+    private <T> T executeAdapter(final AdapterRequest request, final AdapterMethod<T> adapterMethod)
+            throws AdapterException {
+        final AdapterExecutionEvent event = new AdapterExecutionEvent();
+        event.begin();
+        try {
+            return adapterMethod.call();
+        } finally {
+            event.commit(request);
+            AdapterCallTimer.endPhaseOfCurrentCall(AdapterCallPhase.ADAPTER_EXECUTION);
+        }
+    }
+
+    private String convertResponse(final ResponseConversion conversion) {
+        try {
+            return conversion.convert();
+        } finally {
+            AdapterCallTimer.endPhaseOfCurrentCall(AdapterCallPhase.RESPONSE_SERIALIZATION);
+        }
     }
 
     /**
@@ -36,8 +80,9 @@ public class AdapterCallExecutor {
      */
     public String executeCreateVirtualSchemaRequest(final CreateVirtualSchemaRequest request,
             final ExaMetadata metadata) throws AdapterException {
-        final CreateVirtualSchemaResponse response = this.adapter.createVirtualSchema(metadata, request);
-        return ResponseJsonConverter.getInstance().convertCreateVirtualSchemaResponse(response);
+        final CreateVirtualSchemaResponse response = executeAdapter(request,
+                () -> this.adapter.createVirtualSchema(metadata, request));
+        return convertResponse(() -> this.responseConverter.convertCreateVirtualSchemaResponse(response));
     }
 
     /**
@@ -50,8 +95,9 @@ public class AdapterCallExecutor {
      */
     public String executeDropVirtualSchemaRequest(final DropVirtualSchemaRequest request, final ExaMetadata metadata)
             throws AdapterException {
-        final DropVirtualSchemaResponse response = this.adapter.dropVirtualSchema(metadata, request);
-        return ResponseJsonConverter.getInstance().convertDropVirtualSchemaResponse(response);
+        final DropVirtualSchemaResponse response = executeAdapter(request,
+                () -> this.adapter.dropVirtualSchema(metadata, request));
+        return convertResponse(() -> this.responseConverter.convertDropVirtualSchemaResponse(response));
     }
 
     /**
@@ -64,8 +110,8 @@ public class AdapterCallExecutor {
      */
     public String executeRefreshRequest(final RefreshRequest request, final ExaMetadata metadata)
             throws AdapterException {
-        final RefreshResponse response = this.adapter.refresh(metadata, request);
-        return ResponseJsonConverter.getInstance().convertRefreshResponse(response);
+        final RefreshResponse response = executeAdapter(request, () -> this.adapter.refresh(metadata, request));
+        return convertResponse(() -> this.responseConverter.convertRefreshResponse(response));
     }
 
     /**
@@ -78,8 +124,9 @@ public class AdapterCallExecutor {
      */
     public String executeSetPropertiesRequest(final SetPropertiesRequest request, final ExaMetadata metadata)
             throws AdapterException {
-        final SetPropertiesResponse response = this.adapter.setProperties(metadata, request);
-        return ResponseJsonConverter.getInstance().convertSetPropertiesResponse(response);
+        final SetPropertiesResponse response = executeAdapter(request,
+                () -> this.adapter.setProperties(metadata, request));
+        return convertResponse(() -> this.responseConverter.convertSetPropertiesResponse(response));
     }
 
     /**
@@ -92,8 +139,9 @@ public class AdapterCallExecutor {
      */
     public String executeGetCapabilitiesRequest(final GetCapabilitiesRequest request, final ExaMetadata metadata)
             throws AdapterException {
-        final GetCapabilitiesResponse response = this.adapter.getCapabilities(metadata, request);
-        return ResponseJsonConverter.getInstance().convertGetCapabilitiesResponse(response);
+        final GetCapabilitiesResponse response = executeAdapter(request,
+                () -> this.adapter.getCapabilities(metadata, request));
+        return convertResponse(() -> this.responseConverter.convertGetCapabilitiesResponse(response));
     }
 
     /**
@@ -106,7 +154,23 @@ public class AdapterCallExecutor {
      */
     public String executePushDownRequest(final PushDownRequest request, final ExaMetadata metadata)
             throws AdapterException {
-        final PushDownResponse response = this.adapter.pushdown(metadata, request);
-        return ResponseJsonConverter.getInstance().convertPushDownResponse(response);
+        final PushDownResponse response = executeAdapter(request, () -> this.adapter.pushdown(metadata, request));
+        return convertResponse(() -> this.responseConverter.convertPushDownResponse(response));
+    }
+
+    /**
+     * Call of a {@link VirtualSchemaAdapter} method.
+     */
+    @FunctionalInterface
+    private interface AdapterMethod<T> {
+        T call() throws AdapterException;
+    }
+
+    /**
+     * Conversion of an adapter response to JSON.
+     */
+    @FunctionalInterface
+    private interface ResponseConversion {
+        String convert();
     }
-}
\ No newline at end of file
+}
@@ -24,4 +24,63 @@ public interface AdapterFactory {
      * @return Virtual Schema Adapter name
      */
     public String getAdapterName();
-}
\ No newline at end of file
+
+    /**
+     * Check whether the adapters created by this factory can be reused for multiple adapter calls.
+     *
+     * <p>
+     * Only return <code>true</code> if the adapter does not keep state between calls that depends on a single request.
+     * Reused adapters are discarded after requests that set properties or drop the Virtual Schema.
+     * </p>
+     *
+     * @return <code>true</code> if a single adapter instance can serve multiple calls; defaults to <code>false</code>
+     */
+    public default boolean isAdapterReusable() {
+        return false;
+    }
+
+    /**
+     * Check whether push-down statements should be parsed lazily for the adapters created by this factory.
+     *
+     * <p>
+     * If <code>true</code>, the push-down request contains a {@link com.exasol.adapter.sql.LazySqlStatementSelect}
+     * that parses each clause only when the adapter first accesses it. This pays off for adapters that skip parts of
+     * the statement, for example a pass-through that never looks at the filter.
+     * </p>
+     *
+     * @return <code>true</code> if SELECT clauses are parsed on first access; defaults to <code>false</code>
+     */
+    public default boolean isLazyPushdownParsingEnabled() {
+        return false;
+    }
+
+    /**
+     * Check whether the schema metadata in responses of the adapters created by this factory should be converted to
+     * JSON in parallel.
+     *
+     * <p>
+     * If <code>true</code>, the tables of large schemas in refresh and set properties responses are serialized on
+     * multiple cores. The resulting JSON is the same as with sequential conversion.
+     * </p>
+     *
+     * @return <code>true</code> if large schema metadata is converted in parallel; defaults to <code>false</code>
+     */
+    public default boolean isParallelMetadataConversionEnabled() {
+        return false;
+    }
+
+    /**
+     * Check whether the metadata of the involved tables in push-down requests should be parsed in parallel.
+     *
+     * <p>
+     * If <code>true</code>, large involved tables arrays are read as a whole instead of being streamed and their tables
+     * are parsed on multiple cores. This pays off for push-down requests that involve hundreds of tables. The parsed
+     * request is the same as with sequential parsing.
+     * </p>
+     *
+     * @return <code>true</code> if large table metadata arrays are parsed in parallel; defaults to <code>false</code>
+     */
+    public default boolean isParallelMetadataParsingEnabled() {
+        return false;
+    }
+}
@@ -1,15 +1,21 @@
 package com.exasol.adapter;
 
-import java.util.*;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.exasol.ExaMetadata;
+import com.exasol.adapter.metrics.AdapterCallPhase;
+import com.exasol.adapter.metrics.AdapterCallTimer;
 import com.exasol.adapter.request.AdapterRequest;
+import com.exasol.adapter.request.AdapterRequestType;
 import com.exasol.adapter.request.LoggingConfiguration;
-import com.exasol.adapter.request.parser.RequestParser;
+import com.exasol.adapter.request.parser.StreamingRequestParser;
+import com.exasol.adapter.request.parser.TablesMetadataParser;
 import com.exasol.errorreporting.ExaError;
-import com.exasol.logging.RemoteLogManager;
+import com.exasol.logging.RemoteLogSinkRegistry;
 import com.exasol.logging.VersionCollector;
 
 /**
@@ -18,6 +24,7 @@ import com.exasol.logging.VersionCollector;
  */
 public final class RequestDispatcher {
     private static final Logger LOGGER = Logger.getLogger(RequestDispatcher.class.getName());
+    private static final long UNKNOWN_REQUEST_LENGTH = -1;
 
     /**
      * Main entry point for all Virtual Schema Adapter requests issued by the Exasol database.
@@ -29,23 +36,125 @@ public final class RequestDispatcher {
      * @throws AdapterException in case the request type is not recognized
      */
     public static String adapterCall(final ExaMetadata metadata, final String rawRequest) throws AdapterException {
+        return handleAdapterCall(metadata, rawRequest.length(), (parser, timer) -> {
+            logRawRequest(rawRequest);
+            timer.endPhase(AdapterCallPhase.REQUEST_LOGGING);
+            return parser.parse(rawRequest);
+        });
+    }
+
+    /**
+     * Entry point for Virtual Schema Adapter requests provided as character stream.
+     * <p>
+     * The request is parsed directly from the stream without materializing it as string first, unless the raw request
+     * needs to be logged. The stream is closed after parsing.
+     * </p>
+     *
+     * @param metadata   metadata for the context in which the adapter exists (e.g. the schema into which it is
+     *                   installed)
+     * @param rawRequest request issued in the call to the Virtual Schema Adapter
+     * @return response resulting from the adapter call
+     * @throws AdapterException in case the request type is not recognized
+     */
+    public static String adapterCall(final ExaMetadata metadata, final Reader rawRequest) throws AdapterException {
+        return adapterCall(metadata, rawRequest, UNKNOWN_REQUEST_LENGTH);
+    }
+
+    private static String adapterCall(final ExaMetadata metadata, final Reader rawRequest, final long requestLength)
+            throws AdapterException {
+        return handleAdapterCall(metadata, requestLength, (parser, timer) -> parseRequest(rawRequest, parser, timer));
+    }
+
+    /**
+     * Entry point for Virtual Schema Adapter requests provided as UTF-8 encoded bytes.
+     * <p>
+     * The bytes between the buffer's position and limit are decoded while parsing. The position of the buffer is not
+     * changed.
+     * </p>
+     *
+     * @param metadata   metadata for the context in which the adapter exists (e.g. the schema into which it is
+     *                   installed)
+     * @param rawRequest request issued in the call to the Virtual Schema Adapter
+     * @return response resulting from the adapter call
+     * @throws AdapterException in case the request type is not recognized
+     */
+    public static String adapterCall(final ExaMetadata metadata, final ByteBuffer rawRequest) throws AdapterException {
+        final InputStream rawRequestStream = new ByteBufferInputStream(rawRequest.duplicate());
+        return adapterCall(metadata, new InputStreamReader(rawRequestStream, StandardCharsets.UTF_8),
+                rawRequest.remaining());
+    }
+
+    private static String handleAdapterCall(final ExaMetadata metadata, final long requestLength,
+            final RequestSource requestSource) throws AdapterException {
+        final AdapterCallTimer timer = AdapterCallTimer.start(requestLength);
         try {
-            return processAdapterCall(metadata, rawRequest);
+            final String response = processAdapterCall(metadata, requestSource, timer);
+            timer.finish(response);
+            return response;
         } catch (final Exception exception) {
+            timer.finishWithFailure();
             LOGGER.severe(exception::getMessage);
             LOGGER.log(Level.FINE, "Stack trace:", exception);
             throw exception;
         }
     }
 
-    private static String processAdapterCall(final ExaMetadata metadata, final String rawRequest)
-            throws AdapterException {
-        logVersionInformation();
-        logRawRequest(rawRequest);
-        final AdapterRequest adapterRequest = parseRequest(rawRequest);
+    // The adapter call executor ends the adapter execution and response serialization phases.
+    private static String processAdapterCall(final ExaMetadata metadata, final RequestSource requestSource,
+            final AdapterCallTimer timer) throws AdapterException {
+        final AdapterCache adapterCache = AdapterCache.getInstance();
+        final AdapterFactory adapterFactory = adapterCache.getAdapterFactory();
+        final AdapterCallExecutor adapterCallExecutor = adapterCache.getAdapterCallExecutor();
+        timer.endPhase(AdapterCallPhase.ADAPTER_LOOKUP);
+        final AdapterRequest adapterRequest = requestSource.parse(createRequestParser(adapterFactory), timer);
+        timer.setRequest(adapterRequest);
+        timer.endPhase(AdapterCallPhase.REQUEST_PARSING);
         configureAdapterLoggingAccordingToRequestSettings(adapterRequest);
-        final AdapterCallExecutor adapterCallExecutor = getAdapterCallExecutor();
-        return adapterCallExecutor.executeAdapterCall(adapterRequest, metadata);
+        logVersionInformation();
+        timer.endPhase(AdapterCallPhase.LOGGING_SETUP);
+        try {
+            return adapterCallExecutor.executeAdapterCall(adapterRequest, metadata);
+        } finally {
+            invalidateAdapterIfSchemaChanged(adapterRequest);
+        }
+    }
+
+    private static AdapterRequest parseRequest(final Reader rawRequest, final StreamingRequestParser parser,
+            final AdapterCallTimer timer) {
+        if (LOGGER.isLoggable(Level.FINER)) {
+            final String rawRequestAsString = readRawRequest(rawRequest);
+            logRawRequest(rawRequestAsString);
+            timer.endPhase(AdapterCallPhase.REQUEST_LOGGING);
+            return parser.parse(rawRequestAsString);
+        } else {
+            timer.endPhase(AdapterCallPhase.REQUEST_LOGGING);
+            return parser.parse(rawRequest);
+        }
+    }
+
+    private static StreamingRequestParser createRequestParser(final AdapterFactory adapterFactory) {
+        final TablesMetadataParser tablesMetadataParser = adapterFactory.isParallelMetadataParsingEnabled()
+                ? TablesMetadataParser.createParallel()
+                : TablesMetadataParser.create();
+        return StreamingRequestParser.create(adapterFactory.isLazyPushdownParsingEnabled(), tablesMetadataParser);
+    }
+
+    private static String readRawRequest(final Reader rawRequest) {
+        try {
+            final StringWriter writer = new StringWriter();
+            rawRequest.transferTo(writer);
+            return writer.toString();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(ExaError.messageBuilder("E-VS-COM-JAVA-35")
+                    .message("Unable to read adapter request.").toString(), exception);
+        }
+    }
+
+    private static void invalidateAdapterIfSchemaChanged(final AdapterRequest adapterRequest) {
+        final AdapterRequestType type = adapterRequest.getType();
+        if ((type == AdapterRequestType.SET_PROPERTIES) || (type == AdapterRequestType.DROP_VIRTUAL_SCHEMA)) {
+            AdapterCache.getInstance().invalidateAdapter();
+        }
     }
 
     private static void logVersionInformation() {
@@ -57,34 +166,57 @@ public final class RequestDispatcher {
         LOGGER.finer(() -> "Raw JSON request:\n" + rawRequest);
     }
 
-    private static AdapterRequest parseRequest(final String rawRequest) {
-        return new RequestParser().parse(rawRequest);
-    }
-
     private static void configureAdapterLoggingAccordingToRequestSettings(final AdapterRequest request) {
         final LoggingConfiguration configuration = LoggingConfiguration
                 .parseFromProperties(request.getSchemaMetadataInfo().getProperties());
-        final RemoteLogManager remoteLogManager = new RemoteLogManager();
+        final RemoteLogSinkRegistry sinkRegistry = RemoteLogSinkRegistry.getInstance();
         if (configuration.isRemoteLoggingConfigured()) {
-            remoteLogManager.setupRemoteLogger(configuration.getRemoteLoggingHost(),
+            sinkRegistry.configureRemoteLogging(configuration.getRemoteLoggingHost(),
                     configuration.getRemoteLoggingPort(), configuration.getLogLevel());
         } else {
-            remoteLogManager.setupConsoleLogger(configuration.getLogLevel());
+            sinkRegistry.configureConsoleLogging(configuration.getLogLevel());
         }
     }
 
-    private static AdapterCallExecutor getAdapterCallExecutor() {
-        return new AdapterCallExecutor(getVirtualSchemaAdapter());
+    /**
+     * Source of the adapter request that logs the raw request if requested and parses it.
+     */
+    @FunctionalInterface
+    private interface RequestSource {
+        AdapterRequest parse(StreamingRequestParser parser, AdapterCallTimer timer);
     }
 
-    private static VirtualSchemaAdapter getVirtualSchemaAdapter() {
-        return getAdapterFactory().createAdapter();
-    }
+    /**
+     * Input stream reading the remaining bytes of a {@link ByteBuffer}.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
 
-    private static AdapterFactory getAdapterFactory() {
-        final ServiceLoader<AdapterFactory> adapterFactoryLoader = ServiceLoader.load(AdapterFactory.class);
-        final Optional<AdapterFactory> adapterFactory = adapterFactoryLoader.findFirst();
-        return adapterFactory.orElseThrow(() -> new NoSuchElementException(
-                ExaError.messageBuilder("E-VS-COM-JAVA-29").message("No AdapterFactory was found.").toString()));
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
     }
-}
\ No newline at end of file
+}
@@ -4,26 +4,74 @@ import java.util.*;
 
 /**
  * Manages a set of supported capabilities
+ * <p>
+ * Instances are immutable and compare equal if they contain the same capabilities, so they can be shared between calls
+ * and threads and be used as cache keys. Internally all capabilities are stored in a single bitmask, one bit per
+ * capability, so that checks like {@link #supports(ScalarFunctionCapability)} or {@link #containsAll(Capabilities)} do
+ * not allocate.
+ * </p>
  */
 public final class Capabilities {
+    private static final MainCapability[] MAIN_CAPABILITIES = MainCapability.values();
+    private static final LiteralCapability[] LITERAL_CAPABILITIES = LiteralCapability.values();
+    private static final PredicateCapability[] PREDICATE_CAPABILITIES = PredicateCapability.values();
+    private static final ScalarFunctionCapability[] SCALAR_FUNCTION_CAPABILITIES = ScalarFunctionCapability.values();
+    private static final AggregateFunctionCapability[] AGGREGATE_FUNCTION_CAPABILITIES = AggregateFunctionCapability
+            .values();
+    private static final int MAIN_OFFSET = 0;
+    private static final int LITERAL_OFFSET = MAIN_OFFSET + MAIN_CAPABILITIES.length;
+    private static final int PREDICATE_OFFSET = LITERAL_OFFSET + LITERAL_CAPABILITIES.length;
+    private static final int SCALAR_FUNCTION_OFFSET = PREDICATE_OFFSET + PREDICATE_CAPABILITIES.length;
+    private static final int AGGREGATE_FUNCTION_OFFSET = SCALAR_FUNCTION_OFFSET + SCALAR_FUNCTION_CAPABILITIES.length;
+    private static final int CAPABILITY_COUNT = AGGREGATE_FUNCTION_OFFSET + AGGREGATE_FUNCTION_CAPABILITIES.length;
+    private static final int WORD_COUNT = (CAPABILITY_COUNT + Long.SIZE - 1) / Long.SIZE;
+    private static final String[] MAIN_CAPABILITY_NAMES = createCapabilityNames(MAIN_CAPABILITIES, "");
+    private static final String[] SCALAR_FUNCTION_CAPABILITY_NAMES = createCapabilityNames(
+            SCALAR_FUNCTION_CAPABILITIES, "FN_");
+    private static final String[] PREDICATE_CAPABILITY_NAMES = createCapabilityNames(PREDICATE_CAPABILITIES,
+            "FN_PRED_");
+    private static final String[] AGGREGATE_FUNCTION_CAPABILITY_NAMES = createCapabilityNames(
+            AGGREGATE_FUNCTION_CAPABILITIES, "FN_AGG_");
+    private static final String[] LITERAL_CAPABILITY_NAMES = createCapabilityNames(LITERAL_CAPABILITIES, "LITERAL_");
+    private final long[] bits;
     private final Set<MainCapability> mainCapabilities;
     private final Set<LiteralCapability> literalCapabilities;
     private final Set<PredicateCapability> predicateCapabilities;
     private final Set<ScalarFunctionCapability> scalarFunctionCapabilities;
     private final Set<AggregateFunctionCapability> aggregateFunctionCapabilities;
+    private volatile List<String> capabilityNames;
 
-    private Capabilities(final Builder builder) {
-        this.mainCapabilities = EnumSet.copyOf(builder.mainCapabilities);
-        this.literalCapabilities = EnumSet.copyOf(builder.literalCapabilities);
-        this.predicateCapabilities = EnumSet.copyOf(builder.predicateCapabilities);
-        this.scalarFunctionCapabilities = EnumSet.copyOf(builder.scalarFunctionCapabilities);
-        this.aggregateFunctionCapabilities = EnumSet.copyOf(builder.aggregateFunctionCapabilities);
+    private Capabilities(final long[] bits) {
+        this.bits = bits;
+        this.mainCapabilities = new CapabilitySetView<>(bits, MAIN_OFFSET, MAIN_CAPABILITIES);
+        this.literalCapabilities = new CapabilitySetView<>(bits, LITERAL_OFFSET, LITERAL_CAPABILITIES);
+        this.predicateCapabilities = new CapabilitySetView<>(bits, PREDICATE_OFFSET, PREDICATE_CAPABILITIES);
+        this.scalarFunctionCapabilities = new CapabilitySetView<>(bits, SCALAR_FUNCTION_OFFSET,
+                SCALAR_FUNCTION_CAPABILITIES);
+        this.aggregateFunctionCapabilities = new CapabilitySetView<>(bits, AGGREGATE_FUNCTION_OFFSET,
+                AGGREGATE_FUNCTION_CAPABILITIES);
+    }
+
+    private static String[] createCapabilityNames(final Enum<?>[] capabilities, final String prefix) {
+        final String[] names = new String[capabilities.length];
+        for (final Enum<?> capability : capabilities) {
+            names[capability.ordinal()] = (prefix + capability.name()).intern();
+        }
+        return names;
+    }
+
+    static boolean isSet(final long[] bits, final int index) {
+        return (bits[index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    private static void set(final long[] bits, final int index) {
+        bits[index / Long.SIZE] |= 1L << index;
     }
 
     /**
      * Get the Virtual Schema's adapters main capabilities
      *
-     * @return main capabilities
+     * @return unmodifiable view of the main capabilities
      */
     public Set<MainCapability> getMainCapabilities() {
         return this.mainCapabilities;
@@ -32,7 +80,7 @@ public final class Capabilities {
     /**
      * Get the Virtual Schema's adapters literal capabilities
      *
-     * @return scalar literal capabilities
+     * @return unmodifiable view of the scalar literal capabilities
      */
     public Set<LiteralCapability> getLiteralCapabilities() {
         return this.literalCapabilities;
@@ -41,7 +89,7 @@ public final class Capabilities {
     /**
      * Get the Virtual Schema's adapters predicate capabilities
      *
-     * @return predicate capabilities
+     * @return unmodifiable view of the predicate capabilities
      */
     public Set<PredicateCapability> getPredicateCapabilities() {
         return this.predicateCapabilities;
@@ -50,7 +98,7 @@ public final class Capabilities {
     /**
      * Get the Virtual Schema's adapters scalar function capabilities
      *
-     * @return scalar function capabilities
+     * @return unmodifiable view of the scalar function capabilities
      */
     public Set<ScalarFunctionCapability> getScalarFunctionCapabilities() {
         return this.scalarFunctionCapabilities;
@@ -59,44 +107,187 @@ public final class Capabilities {
     /**
      * Get the Virtual Schema's adapters aggregate function capabilities
      *
-     * @return aggregate function capabilities
+     * @return unmodifiable view of the aggregate function capabilities
      */
     public Set<AggregateFunctionCapability> getAggregateFunctionCapabilities() {
         return this.aggregateFunctionCapabilities;
     }
 
+    /**
+     * Check if a main capability is supported
+     *
+     * @param capability capability to check
+     * @return <code>true</code> if the capability is supported
+     */
+    public boolean supports(final MainCapability capability) {
+        return isSet(this.bits, MAIN_OFFSET + capability.ordinal());
+    }
+
+    /**
+     * Check if a literal capability is supported
+     *
+     * @param capability capability to check
+     * @return <code>true</code> if the capability is supported
+     */
+    public boolean supports(final LiteralCapability capability) {
+        return isSet(this.bits, LITERAL_OFFSET + capability.ordinal());
+    }
+
+    /**
+     * Check if a predicate capability is supported
+     *
+     * @param capability capability to check
+     * @return <code>true</code> if the capability is supported
+     */
+    public boolean supports(final PredicateCapability capability) {
+        return isSet(this.bits, PREDICATE_OFFSET + capability.ordinal());
+    }
+
+    /**
+     * Check if a scalar function capability is supported
+     *
+     * @param capability capability to check
+     * @return <code>true</code> if the capability is supported
+     */
+    public boolean supports(final ScalarFunctionCapability capability) {
+        return isSet(this.bits, SCALAR_FUNCTION_OFFSET + capability.ordinal());
+    }
+
+    /**
+     * Check if an aggregate function capability is supported
+     *
+     * @param capability capability to check
+     * @return <code>true</code> if the capability is supported
+     */
+    public boolean supports(final AggregateFunctionCapability capability) {
+        return isSet(this.bits, AGGREGATE_FUNCTION_OFFSET + capability.ordinal());
+    }
+
+    /**
+     * Check if all capabilities of another {@link Capabilities} object are supported
+     *
+     * @param other capabilities to check
+     * @return <code>true</code> if this object contains all capabilities of the other one
+     */
+    public boolean containsAll(final Capabilities other) {
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            if ((other.bits[i] & ~this.bits[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create the union of this and another {@link Capabilities} object
+     *
+     * @param other capabilities to add
+     * @return new {@link Capabilities} object containing the capabilities of both
+     */
+    public Capabilities union(final Capabilities other) {
+        final long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            result[i] = this.bits[i] | other.bits[i];
+        }
+        return new Capabilities(result);
+    }
+
+    /**
+     * Create a copy of this {@link Capabilities} object without the capabilities of another one
+     *
+     * @param other capabilities to remove
+     * @return new {@link Capabilities} object; this object stays unchanged
+     */
+    public Capabilities subtract(final Capabilities other) {
+        final long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            result[i] = this.bits[i] & ~other.bits[i];
+        }
+        return new Capabilities(result);
+    }
+
     /**
      * Removes unsupported capabilities
      *
      * @param capabilitiesToExclude unsupported capabilities
      * @return supported capabilities
+     * @see #subtract(Capabilities)
      */
     public Capabilities subtractCapabilities(final Capabilities capabilitiesToExclude) {
-        final Builder builder = builder();
-        final Set<MainCapability> mainCapabilitiesWithExclusions = this.mainCapabilities;
-        mainCapabilitiesWithExclusions.removeAll(capabilitiesToExclude.getMainCapabilities());
-        final Set<LiteralCapability> literalCapabilitiesWithExclusions = this.literalCapabilities;
-        literalCapabilitiesWithExclusions.removeAll(capabilitiesToExclude.getLiteralCapabilities());
-        final Set<PredicateCapability> predicateCapabilitiesWithExclusions = this.predicateCapabilities;
-        predicateCapabilitiesWithExclusions.removeAll(capabilitiesToExclude.getPredicateCapabilities());
-        final Set<ScalarFunctionCapability> scalarCapabilitiesWithExclusions = this.scalarFunctionCapabilities;
-        scalarCapabilitiesWithExclusions.removeAll(capabilitiesToExclude.getScalarFunctionCapabilities());
-        final Set<AggregateFunctionCapability> aggregateCapabilitiesWithExclusions = this.aggregateFunctionCapabilities;
-        aggregateCapabilitiesWithExclusions.removeAll(capabilitiesToExclude.getAggregateFunctionCapabilities());
+        return subtract(capabilitiesToExclude);
+    }
 
-        builder.addMain(mainCapabilitiesWithExclusions).addPredicate(predicateCapabilitiesWithExclusions)
-                .addLiteral(literalCapabilitiesWithExclusions).addScalarFunction(scalarCapabilitiesWithExclusions)
-                .addAggregateFunction(aggregateCapabilitiesWithExclusions);
-        return builder.build();
+    /**
+     * Get the names of all capabilities as they appear in the adapter response.
+     * <p>
+     * The names are prefixed by the capability category (e.g. <code>FN_PRED_EQUAL</code>) and ordered by main, scalar
+     * function, predicate, aggregate function and literal capabilities. The list is computed once per instance and the
+     * name strings are shared between all instances.
+     * </p>
+     *
+     * @return unmodifiable list of capability names
+     */
+    public List<String> getCapabilityNames() {
+        List<String> names = this.capabilityNames;
+        if (names == null) {
+            names = createCapabilityNames();
+            this.capabilityNames = names;
+        }
+        return names;
+    }
+
+    private List<String> createCapabilityNames() {
+        final List<String> names = new ArrayList<>(size());
+        addCapabilityNames(names, MAIN_OFFSET, MAIN_CAPABILITY_NAMES);
+        addCapabilityNames(names, SCALAR_FUNCTION_OFFSET, SCALAR_FUNCTION_CAPABILITY_NAMES);
+        addCapabilityNames(names, PREDICATE_OFFSET, PREDICATE_CAPABILITY_NAMES);
+        addCapabilityNames(names, AGGREGATE_FUNCTION_OFFSET, AGGREGATE_FUNCTION_CAPABILITY_NAMES);
+        addCapabilityNames(names, LITERAL_OFFSET, LITERAL_CAPABILITY_NAMES);
+        return Collections.unmodifiableList(names);
+    }
+
+    private void addCapabilityNames(final List<String> names, final int offset, final String[] capabilityNames) {
+        for (int ordinal = 0; ordinal < capabilityNames.length; ++ordinal) {
+            if (isSet(this.bits, offset + ordinal)) {
+                names.add(capabilityNames[ordinal]);
+            }
+        }
+    }
+
+    private int size() {
+        int size = 0;
+        for (final long word : this.bits) {
+            size += Long.bitCount(word);
+        }
+        return size;
     }
 
     /**
      * @return <code>true</code> if the object does not contain any capabilities
      */
     public boolean isEmpty() {
-        return this.mainCapabilities.isEmpty() && this.literalCapabilities.isEmpty()
-                && this.predicateCapabilities.isEmpty() && this.scalarFunctionCapabilities.isEmpty()
-                && this.aggregateFunctionCapabilities.isEmpty();
+        for (final long word : this.bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Capabilities)) {
+            return false;
+        }
+        return Arrays.equals(this.bits, ((Capabilities) other).bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.bits);
     }
 
     /**
@@ -112,12 +303,7 @@ public final class Capabilities {
      * Builder for {@link Capabilities}
      */
     public static final class Builder {
-        final Set<MainCapability> mainCapabilities = EnumSet.noneOf(MainCapability.class);
-        final Set<LiteralCapability> literalCapabilities = EnumSet.noneOf(LiteralCapability.class);
-        final Set<PredicateCapability> predicateCapabilities = EnumSet.noneOf(PredicateCapability.class);
-        final Set<ScalarFunctionCapability> scalarFunctionCapabilities = EnumSet.noneOf(ScalarFunctionCapability.class);
-        final Set<AggregateFunctionCapability> aggregateFunctionCapabilities = EnumSet
-                .noneOf(AggregateFunctionCapability.class);
+        private final long[] bits = new long[WORD_COUNT];
 
         /**
          * Create new capability instance
@@ -125,7 +311,7 @@ public final class Capabilities {
          * @return new capability instance
          */
         public Capabilities build() {
-            return new Capabilities(this);
+            return new Capabilities(this.bits.clone());
         }
 
         /**
@@ -135,7 +321,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addMain(final MainCapability... capabilities) {
-            this.mainCapabilities.addAll(Arrays.asList(capabilities));
+            for (final MainCapability capability : capabilities) {
+                set(this.bits, MAIN_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -146,7 +334,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addMain(final Set<MainCapability> capabilities) {
-            this.mainCapabilities.addAll(capabilities);
+            for (final MainCapability capability : capabilities) {
+                set(this.bits, MAIN_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -157,7 +347,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addLiteral(final LiteralCapability... capabilities) {
-            this.literalCapabilities.addAll(Arrays.asList(capabilities));
+            for (final LiteralCapability capability : capabilities) {
+                set(this.bits, LITERAL_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -168,7 +360,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addLiteral(final Set<LiteralCapability> capabilities) {
-            this.literalCapabilities.addAll(capabilities);
+            for (final LiteralCapability capability : capabilities) {
+                set(this.bits, LITERAL_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -179,7 +373,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addPredicate(final PredicateCapability... capabilities) {
-            this.predicateCapabilities.addAll(Arrays.asList(capabilities));
+            for (final PredicateCapability capability : capabilities) {
+                set(this.bits, PREDICATE_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -190,7 +386,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addPredicate(final Set<PredicateCapability> capabilities) {
-            this.predicateCapabilities.addAll(capabilities);
+            for (final PredicateCapability capability : capabilities) {
+                set(this.bits, PREDICATE_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -201,7 +399,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addScalarFunction(final ScalarFunctionCapability... capabilities) {
-            this.scalarFunctionCapabilities.addAll(Arrays.asList(capabilities));
+            for (final ScalarFunctionCapability capability : capabilities) {
+                set(this.bits, SCALAR_FUNCTION_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -212,7 +412,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addScalarFunction(final Set<ScalarFunctionCapability> capabilities) {
-            this.scalarFunctionCapabilities.addAll(capabilities);
+            for (final ScalarFunctionCapability capability : capabilities) {
+                set(this.bits, SCALAR_FUNCTION_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -223,7 +425,9 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addAggregateFunction(final AggregateFunctionCapability... capabilities) {
-            this.aggregateFunctionCapabilities.addAll(Arrays.asList(capabilities));
+            for (final AggregateFunctionCapability capability : capabilities) {
+                set(this.bits, AGGREGATE_FUNCTION_OFFSET + capability.ordinal());
+            }
             return this;
         }
 
@@ -234,8 +438,10 @@ public final class Capabilities {
          * @return builder instance for fluent programming
          */
         public Builder addAggregateFunction(final Set<AggregateFunctionCapability> capabilities) {
-            this.aggregateFunctionCapabilities.addAll(capabilities);
+            for (final AggregateFunctionCapability capability : capabilities) {
+                set(this.bits, AGGREGATE_FUNCTION_OFFSET + capability.ordinal());
+            }
             return this;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.exasol.adapter.capabilities;
+
+import java.util.*;
+
+/**
+ * Read-only {@link Set} view on one capability category inside the bitmask of a {@link Capabilities} object.
+ *
+ * @param <T> capability type
+ */
+final class CapabilitySetView<T extends Enum<T>> extends AbstractSet<T> {
+    private final long[] bits;
+    private final int offset;
+    private final T[] constants;
+
+    CapabilitySetView(final long[] bits, final int offset, final T[] constants) {
+        this.bits = bits;
+        this.offset = offset;
+        this.constants = constants;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        if ((object == null) || (this.constants.length == 0)
+                || (object.getClass() != this.constants[0].getDeclaringClass())) {
+            return false;
+        }
+        return Capabilities.isSet(this.bits, this.offset + ((Enum<?>) object).ordinal());
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int ordinal = 0; ordinal < this.constants.length; ++ordinal) {
+            if (Capabilities.isSet(this.bits, this.offset + ordinal)) {
+                ++size;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nextOrdinal(0) < 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int nextOrdinal = nextOrdinal(0);
+
+            @Override
+            public boolean hasNext() {
+                return this.nextOrdinal >= 0;
+            }
+
+            @Override
+            public T next() {
+                if (this.nextOrdinal < 0) {
+                    throw new NoSuchElementException();
+                }
+                final T capability = CapabilitySetView.this.constants[this.nextOrdinal];
+                this.nextOrdinal = nextOrdinal(this.nextOrdinal + 1);
+                return capability;
+            }
+        };
+    }
+
+    private int nextOrdinal(final int fromOrdinal) {
+        for (int ordinal = fromOrdinal; ordinal < this.constants.length; ++ordinal) {
+            if (Capabilities.isSet(this.bits, this.offset + ordinal)) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,67 @@
+package com.exasol.adapter.jfr;
+
+import java.util.List;
+
+import com.exasol.adapter.request.AdapterRequest;
+import com.exasol.adapter.request.PushDownRequest;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for the execution of an adapter request, including the conversion of the response to JSON.
+ */
+@Name("com.exasol.adapter.AdapterCall")
+@Label("Adapter Call")
+@Category({ "Exasol", "Virtual Schema" })
+@Description("Execution of a Virtual Schema adapter request")
+@StackTrace(false)
+public final class AdapterCallEvent extends Event {
+    @Label("Request Type")
+    private String requestType;
+
+    @Label("Virtual Schema Name")
+    private String virtualSchemaName;
+
+    @Label("Raw Request Length")
+    @Description("Characters or bytes of the raw JSON request, -1 if unknown")
+    private long requestLength;
+
+    @Label("Involved Table Count")
+    @Description("Number of tables involved in a push-down request, -1 for other requests")
+    private int involvedTableCount;
+
+    @Label("Output Length")
+    @Description("Characters of the JSON response, -1 if the call failed")
+    private long outputLength;
+
+    /**
+     * Commit the event if it is enabled and exceeds the configured threshold.
+     *
+     * @param request       executed request
+     * @param requestLength length of the raw request or {@code -1} if unknown
+     * @param response      JSON response or {@code null} if the call failed
+     */
+    public void commit(final AdapterRequest request, final long requestLength, final String response) {
+        if (shouldCommit()) {
+            this.requestType = String.valueOf(request.getType());
+            this.virtualSchemaName = getVirtualSchemaName(request);
+            this.requestLength = requestLength;
+            this.involvedTableCount = countInvolvedTables(request);
+            this.outputLength = (response == null) ? -1 : response.length();
+            commit();
+        }
+    }
+
+    static String getVirtualSchemaName(final AdapterRequest request) {
+        return (request.getSchemaMetadataInfo() == null) ? null : request.getVirtualSchemaName();
+    }
+
+    private static int countInvolvedTables(final AdapterRequest request) {
+        if (request instanceof PushDownRequest) {
+            final List<?> involvedTables = ((PushDownRequest) request).getInvolvedTablesMetadata();
+            return (involvedTables == null) ? 0 : involvedTables.size();
+        } else {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.exasol.adapter.jfr;
+
+import com.exasol.adapter.request.AdapterRequest;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for the work of the adapter itself, for example {@code pushdown} or {@code refresh}, without
+ * the conversion of the response.
+ */
+@Name("com.exasol.adapter.AdapterExecution")
+@Label("Adapter Execution")
+@Category({ "Exasol", "Virtual Schema" })
+@Description("Call of a Virtual Schema adapter method")
+@StackTrace(false)
+public final class AdapterExecutionEvent extends Event {
+    @Label("Request Type")
+    private String requestType;
+
+    @Label("Virtual Schema Name")
+    private String virtualSchemaName;
+
+    /**
+     * Commit the event if it is enabled and exceeds the configured threshold.
+     *
+     * @param request request the adapter handled
+     */
+    public void commit(final AdapterRequest request) {
+        if (shouldCommit()) {
+            this.requestType = String.valueOf(request.getType());
+            this.virtualSchemaName = AdapterCallEvent.getVirtualSchemaName(request);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.exasol.adapter.jfr;
+
+import com.exasol.adapter.sql.SqlNode;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for parsing the SQL statement of a push-down request.
+ */
+@Name("com.exasol.adapter.PushdownParse")
+@Label("Push-down Statement Parsing")
+@Category({ "Exasol", "Virtual Schema", "Request Parsing" })
+@Description("Conversion of the JSON push-down statement to SQL nodes")
+@StackTrace(false)
+public final class PushdownParseEvent extends Event {
+    @Label("Statement Type")
+    private String statementType;
+
+    @Label("Lazy")
+    @Description("True if the clauses of SELECT statements are parsed on first access")
+    private boolean lazy;
+
+    @Label("Involved Table Count")
+    private int involvedTableCount;
+
+    /**
+     * Commit the event if it is enabled and exceeds the configured threshold.
+     *
+     * @param statement          parsed statement or {@code null} if parsing failed
+     * @param lazy               {@code true} if clauses of SELECT statements are parsed lazily
+     * @param involvedTableCount number of tables involved in the push-down request
+     */
+    public void commit(final SqlNode statement, final boolean lazy, final int involvedTableCount) {
+        if (shouldCommit()) {
+            this.statementType = (statement == null) ? null : String.valueOf(statement.getType());
+            this.lazy = lazy;
+            this.involvedTableCount = involvedTableCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.exasol.adapter.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for converting an adapter response to JSON.
+ */
+@Name("com.exasol.adapter.ResponseConversion")
+@Label("Response Conversion")
+@Category({ "Exasol", "Virtual Schema", "Response Conversion" })
+@Description("Conversion of an adapter response to JSON")
+@StackTrace(false)
+public final class ResponseConversionEvent extends Event {
+    @Label("Response Type")
+    private String responseType;
+
+    @Label("Output Length")
+    @Description("Characters of the JSON response, -1 if the conversion failed")
+    private long outputLength;
+
+    /**
+     * Commit the event if it is enabled and exceeds the configured threshold.
+     *
+     * @param responseType type of the response as it appears in the JSON
+     * @param response     JSON response or {@code null} if the conversion failed
+     */
+    public void commit(final String responseType, final String response) {
+        if (shouldCommit()) {
+            this.responseType = responseType;
+            this.outputLength = (response == null) ? -1 : response.length();
+            commit();
+        }
+    }
+}
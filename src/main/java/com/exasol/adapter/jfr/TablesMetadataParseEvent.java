@@ -0,0 +1,42 @@
+package com.exasol.adapter.jfr;
+
+import java.util.List;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for parsing the metadata of the tables involved in a request.
+ */
+@Name("com.exasol.adapter.TablesMetadataParse")
+@Label("Tables Metadata Parsing")
+@Category({ "Exasol", "Virtual Schema", "Request Parsing" })
+@Description("Conversion of the JSON table metadata to TableMetadata objects")
+@StackTrace(false)
+public final class TablesMetadataParseEvent extends Event {
+    @Label("Table Count")
+    @Description("Number of parsed tables, -1 if parsing failed")
+    private int tableCount;
+
+    @Label("Parallel")
+    private boolean parallel;
+
+    @Label("Streaming")
+    @Description("True if the tables were parsed from the events of a streaming parser")
+    private boolean streaming;
+
+    /**
+     * Commit the event if it is enabled and exceeds the configured threshold.
+     *
+     * @param tables    parsed tables or {@code null} if parsing failed
+     * @param parallel  {@code true} if the tables were parsed in parallel
+     * @param streaming {@code true} if the tables were parsed from a streaming parser
+     */
+    public void commit(final List<?> tables, final boolean parallel, final boolean streaming) {
+        if (shouldCommit()) {
+            this.tableCount = (tables == null) ? -1 : tables.size();
+            this.parallel = parallel;
+            this.streaming = streaming;
+            commit();
+        }
+    }
+}
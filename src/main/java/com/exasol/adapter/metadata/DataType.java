@@ -1,14 +1,28 @@
 package com.exasol.adapter.metadata;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an EXASOL data type.
+ * <p>
+ * Data types are immutable flyweights: the factory methods return a shared instance for each distinct type, so that
+ * large schemas with thousands of columns only hold a handful of data type objects.
+ * </p>
  */
 public class DataType {
     public static final int MAX_EXASOL_CHAR_SIZE = 2000;
     public static final int MAX_EXASOL_VARCHAR_SIZE = 2000000;
     public static final int MAX_EXASOL_DECIMAL_PRECISION = 36;
+    private static final int MAX_POOL_SIZE = 4096;
+    private static final Map<DataType, DataType> POOL = new ConcurrentHashMap<>();
+    private static final DataType DOUBLE = createSimpleType(ExaDataType.DOUBLE);
+    private static final DataType DATE = createSimpleType(ExaDataType.DATE);
+    private static final DataType BOOLEAN = createSimpleType(ExaDataType.BOOLEAN);
+    private static final DataType UNSUPPORTED = createSimpleType(ExaDataType.UNSUPPORTED);
+    private static final DataType TIMESTAMP = createTimestampType(false);
+    private static final DataType TIMESTAMP_WITH_LOCAL_TIME_ZONE = createTimestampType(true);
 
     private ExaDataType exaDataType;
     private int precision;
@@ -37,6 +51,40 @@ public class DataType {
         // prevent instantiation
     }
 
+    private static DataType createSimpleType(final ExaDataType exaDataType) {
+        final DataType type = new DataType();
+        type.exaDataType = exaDataType;
+        return type;
+    }
+
+    private static DataType createTimestampType(final boolean withLocalTimezone) {
+        final DataType type = createSimpleType(ExaDataType.TIMESTAMP);
+        type.withLocalTimezone = withLocalTimezone;
+        return type;
+    }
+
+    /**
+     * Get the canonical instance for a data type.
+     * <p>
+     * The pool is bounded. In the unlikely case that a VM sees more distinct parameterized types than that, the
+     * remaining types are returned without being pooled.
+     * </p>
+     *
+     * @param type data type to look up
+     * @return shared instance equal to the given type
+     */
+    private static DataType intern(final DataType type) {
+        final DataType pooled = POOL.get(type);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (POOL.size() >= MAX_POOL_SIZE) {
+            return type;
+        }
+        final DataType previous = POOL.putIfAbsent(type, type);
+        return (previous == null) ? type : previous;
+    }
+
     /**
      * Create a <code>VARCHAR</code> data type with a given size and character set
      *
@@ -49,7 +97,7 @@ public class DataType {
         type.exaDataType = ExaDataType.VARCHAR;
         type.size = size;
         type.charset = charset;
-        return type;
+        return intern(type);
     }
 
     /**
@@ -74,7 +122,7 @@ public class DataType {
         type.exaDataType = ExaDataType.CHAR;
         type.size = size;
         type.charset = charset;
-        return type;
+        return intern(type);
     }
 
     /**
@@ -99,7 +147,7 @@ public class DataType {
         type.exaDataType = ExaDataType.DECIMAL;
         type.precision = precision;
         type.scale = scale;
-        return type;
+        return intern(type);
     }
 
     /**
@@ -108,9 +156,7 @@ public class DataType {
      * @return <code>DOUBLE</code> data type
      */
     public static DataType createDouble() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.DOUBLE;
-        return type;
+        return DOUBLE;
     }
 
     /**
@@ -119,9 +165,7 @@ public class DataType {
      * @return <code>DATE</code> data type
      */
     public static DataType createDate() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.DATE;
-        return type;
+        return DATE;
     }
 
     /**
@@ -130,9 +174,7 @@ public class DataType {
      * @return <code>UNSUPPORTED</code> data type
      */
     public static DataType createUnsupported() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.UNSUPPORTED;
-        return type;
+        return UNSUPPORTED;
     }
 
     /**
@@ -143,10 +185,7 @@ public class DataType {
      * @return <code>TIMESTAMP</code> data type
      */
     public static DataType createTimestamp(final boolean withLocalTimezone) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.TIMESTAMP;
-        type.withLocalTimezone = withLocalTimezone;
-        return type;
+        return withLocalTimezone ? TIMESTAMP_WITH_LOCAL_TIME_ZONE : TIMESTAMP;
     }
 
     /**
@@ -155,9 +194,7 @@ public class DataType {
      * @return <code>BOOL</code> data type
      */
     public static DataType createBool() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.BOOLEAN;
-        return type;
+        return BOOLEAN;
     }
 
     /**
@@ -172,7 +209,7 @@ public class DataType {
         final DataType type = new DataType();
         type.exaDataType = ExaDataType.GEOMETRY;
         type.geometrySrid = srid;
-        return type;
+        return intern(type);
     }
 
     /**
@@ -190,7 +227,7 @@ public class DataType {
         type.intervalType = IntervalType.DAY_TO_SECOND;
         type.precision = precision;
         type.intervalFraction = fraction;
-        return type;
+        return intern(type);
     }
 
     /**
@@ -206,7 +243,7 @@ public class DataType {
         type.exaDataType = ExaDataType.INTERVAL;
         type.intervalType = IntervalType.YEAR_TO_MONTH;
         type.precision = precision;
-        return type;
+        return intern(type);
     }
 
     /**
@@ -219,7 +256,7 @@ public class DataType {
         final DataType type = new DataType();
         type.exaDataType = ExaDataType.HASHTYPE;
         type.byteSize = byteSize;
-        return type;
+        return intern(type);
     }
 
     /**
@@ -0,0 +1,98 @@
+package com.exasol.adapter.metadata;
+
+import java.util.*;
+
+/**
+ * Difference between two snapshots of the metadata of a Virtual Schema.
+ * <p>
+ * Tables are matched by name. A table counts as changed if its adapter notes, comment or any of its columns differ
+ * between the snapshots.
+ * </p>
+ */
+public final class SchemaMetadataDiff {
+    private final List<TableMetadata> addedTables;
+    private final List<TableMetadata> changedTables;
+    private final List<TableMetadata> removedTables;
+    private final boolean adapterNotesChanged;
+
+    private SchemaMetadataDiff(final List<TableMetadata> addedTables, final List<TableMetadata> changedTables,
+            final List<TableMetadata> removedTables, final boolean adapterNotesChanged) {
+        this.addedTables = Collections.unmodifiableList(addedTables);
+        this.changedTables = Collections.unmodifiableList(changedTables);
+        this.removedTables = Collections.unmodifiableList(removedTables);
+        this.adapterNotesChanged = adapterNotesChanged;
+    }
+
+    /**
+     * Compare two snapshots of the schema metadata.
+     *
+     * @param previous previous snapshot
+     * @param current  current snapshot
+     * @return difference between the snapshots
+     */
+    public static SchemaMetadataDiff compare(final SchemaMetadata previous, final SchemaMetadata current) {
+        final Map<String, TableMetadata> previousTablesByName = new LinkedHashMap<>();
+        for (final TableMetadata table : previous.getTables()) {
+            previousTablesByName.put(table.getName(), table);
+        }
+        final List<TableMetadata> addedTables = new ArrayList<>();
+        final List<TableMetadata> changedTables = new ArrayList<>();
+        for (final TableMetadata table : current.getTables()) {
+            final TableMetadata previousTable = previousTablesByName.remove(table.getName());
+            if (previousTable == null) {
+                addedTables.add(table);
+            } else if (!previousTable.equals(table)) {
+                changedTables.add(table);
+            }
+        }
+        final List<TableMetadata> removedTables = new ArrayList<>(previousTablesByName.values());
+        final boolean adapterNotesChanged = !Objects.equals(previous.getAdapterNotes(), current.getAdapterNotes());
+        return new SchemaMetadataDiff(addedTables, changedTables, removedTables, adapterNotesChanged);
+    }
+
+    /**
+     * Get the tables that only exist in the current snapshot
+     *
+     * @return added tables in the order of the current snapshot
+     */
+    public List<TableMetadata> getAddedTables() {
+        return this.addedTables;
+    }
+
+    /**
+     * Get the tables that exist in both snapshots but differ
+     *
+     * @return changed tables as they appear in the current snapshot
+     */
+    public List<TableMetadata> getChangedTables() {
+        return this.changedTables;
+    }
+
+    /**
+     * Get the tables that only exist in the previous snapshot
+     *
+     * @return removed tables in the order of the previous snapshot
+     */
+    public List<TableMetadata> getRemovedTables() {
+        return this.removedTables;
+    }
+
+    /**
+     * Check if the schema-level adapter notes differ between the snapshots
+     *
+     * @return <code>true</code> if the adapter notes changed
+     */
+    public boolean isAdapterNotesChanged() {
+        return this.adapterNotesChanged;
+    }
+
+    /**
+     * Check if the snapshots differ at all
+     *
+     * @return <code>true</code> if tables were added, changed or removed or the adapter notes changed
+     */
+    public boolean hasChanges() {
+        return this.adapterNotesChanged || !this.addedTables.isEmpty() || !this.changedTables.isEmpty()
+                || !this.removedTables.isEmpty();
+    }
+}
@@ -1,8 +1,9 @@
 package com.exasol.adapter.metadata.converter;
 
-import java.util.Collections;
+import java.util.*;
 
 import javax.json.*;
+import javax.json.stream.JsonGenerator;
 
 import com.exasol.adapter.metadata.*;
 import com.exasol.adapter.metadata.DataType.*;
@@ -23,6 +24,7 @@ public final class SchemaMetadataJsonConverter {
     private static final String COMMENT_KEY = "comment";
     private static final String IDENTITY_KEY = "isIdentity";
     private static final String DEFAULT_KEY = "default";
+    private static final String COLUMNS_KEY = "columns";
     private final JsonBuilderFactory factory = Json.createBuilderFactory(Collections.emptyMap());
 
     /**
@@ -72,7 +74,7 @@ public final class SchemaMetadataJsonConverter {
         if (table.hasComment()) {
             tableBuilder.add(COMMENT_KEY, table.getComment());
         }
-        tableBuilder.add("columns", columnsBuilder);
+        tableBuilder.add(COLUMNS_KEY, columnsBuilder);
         return tableBuilder;
     }
 
@@ -96,6 +98,120 @@ public final class SchemaMetadataJsonConverter {
         return columnBuilder;
     }
 
+    /**
+     * Write the JSON representation of the given schema metadata to a JSON generator.
+     * <p>
+     * This produces the same JSON as {@link #convert(SchemaMetadata)} without building the intermediate object tree.
+     * The generator must be in a state where it accepts a value, for example directly after
+     * {@link JsonGenerator#writeKey(String)}.
+     * </p>
+     *
+     * @param schemaMetadata schema metadata to be written
+     * @param generator      JSON generator the schema metadata is written to
+     */
+    public void write(final SchemaMetadata schemaMetadata, final JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.writeStartArray(TABLES_KEY);
+        for (final TableMetadata table : schemaMetadata.getTables()) {
+            writeTableMetadata(table, generator);
+        }
+        generator.writeEnd();
+        generator.write(ADAPTER_NOTES_KEY, schemaMetadata.getAdapterNotes());
+        generator.writeEnd();
+    }
+
+    private void writeTableMetadata(final TableMetadata table, final JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write(TYPE_KEY, "table");
+        generator.write(TABLE_NAME_KEY, table.getName());
+        if (table.hasAdapterNote()) {
+            generator.write(ADAPTER_NOTES_KEY, table.getAdapterNotes());
+        }
+        if (table.hasComment()) {
+            generator.write(COMMENT_KEY, table.getComment());
+        }
+        generator.writeStartArray(COLUMNS_KEY);
+        for (final ColumnMetadata column : table.getColumns()) {
+            writeColumnMetadata(column, generator);
+        }
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+    private void writeColumnMetadata(final ColumnMetadata column, final JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write(TABLE_NAME_KEY, column.getName());
+        generator.write(ADAPTER_NOTES_KEY, column.getAdapterNotes());
+        generator.writeKey(DATA_TYPE_KEY);
+        writeType(column.getType(), generator);
+        if (!column.isNullable()) {
+            generator.write(NULLABLE_KEY, false);
+        }
+        if (column.isIdentity()) {
+            generator.write(IDENTITY_KEY, true);
+        }
+        if (column.hasDefault()) {
+            generator.write(DEFAULT_KEY, column.getDefaultValue());
+        }
+        if (column.hasComment()) {
+            generator.write(COMMENT_KEY, column.getComment());
+        }
+        generator.writeEnd();
+    }
+
+    /**
+     * Write the JSON representation of a data type to a JSON generator.
+     * <p>
+     * This produces the same JSON as {@link #convertType(DataType)}. The generator must be in a state where it accepts
+     * a value.
+     * </p>
+     *
+     * @param dataType  data type to be written
+     * @param generator JSON generator the data type is written to
+     */
+    public void writeType(final DataType dataType, final JsonGenerator generator) {
+        final ExaDataType exaDataType = dataType.getExaDataType();
+        if (exaDataType == ExaDataType.UNSUPPORTED) {
+            throw createUnsupportedDataTypeException();
+        }
+        generator.writeStartObject();
+        generator.write(TYPE_KEY, getExasolDataTypeName(exaDataType));
+        switch (exaDataType) {
+        case DECIMAL:
+            generator.write("precision", dataType.getPrecision());
+            generator.write("scale", dataType.getScale());
+            break;
+        case VARCHAR: // falling through intentionally
+        case CHAR:
+            generator.write("size", dataType.getSize());
+            generator.write("characterSet", getCharacterSetName(dataType.getCharset()));
+            break;
+        case TIMESTAMP:
+            generator.write("withLocalTimeZone", dataType.isWithLocalTimezone());
+            break;
+        case GEOMETRY:
+            generator.write("srid", dataType.getGeometrySrid());
+            break;
+        case INTERVAL:
+            generator.write("fromTo", intervalTypeAsString(dataType.getIntervalType()));
+            generator.write("precision", dataType.getPrecision());
+            if (dataType.getIntervalType() == IntervalType.DAY_TO_SECOND) {
+                generator.write("fraction", dataType.getIntervalFraction());
+            }
+            break;
+        case HASHTYPE:
+            generator.write("bytesize", dataType.getByteSize());
+            break;
+        case DOUBLE: // falling through intentionally
+        case DATE:
+        case BOOLEAN:
+            break;
+        default:
+            throw createUnexpectedDataTypeException(exaDataType);
+        }
+        generator.writeEnd();
+    }
+
     /**
      * Convert a data type to its JSON representation
      *
@@ -107,9 +223,7 @@ public final class SchemaMetadataJsonConverter {
         typeAsJson.add(TYPE_KEY, getExasolDataTypeName(dataType.getExaDataType()));
         switch (dataType.getExaDataType()) {
         case UNSUPPORTED:
-            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-1")
-                    .message("Unsupported data type found trying to serialize schema metadata. {{report}}")
-                    .unquotedParameter("report", ErrorMessages.askForBugReport()).toString());
+            throw createUnsupportedDataTypeException();
         case DECIMAL:
             typeAsJson.add("precision", dataType.getPrecision());
             typeAsJson.add("scale", dataType.getScale());
@@ -136,13 +250,23 @@ public final class SchemaMetadataJsonConverter {
         case BOOLEAN:
             break;
         default:
-            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-2")
-                    .message("Unexpected data type {{dataType}} encountered while trying to serialize schema metadata.")
-                    .parameter("dataType", dataType.getExaDataType()).toString());
+            throw createUnexpectedDataTypeException(dataType.getExaDataType());
         }
         return typeAsJson.build();
     }
 
+    private IllegalArgumentException createUnsupportedDataTypeException() {
+        return new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-1")
+                .message("Unsupported data type found trying to serialize schema metadata. {{report}}")
+                .unquotedParameter("report", ErrorMessages.askForBugReport()).toString());
+    }
+
+    private IllegalArgumentException createUnexpectedDataTypeException(final ExaDataType exaDataType) {
+        return new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-2")
+                .message("Unexpected data type {{dataType}} encountered while trying to serialize schema metadata.")
+                .parameter("dataType", exaDataType).toString());
+    }
+
     private void addIntervalToRoot(final DataType dataType, final JsonObjectBuilder dataTypeAsJson) {
         dataTypeAsJson.add("fromTo", intervalTypeAsString(dataType.getIntervalType()));
         dataTypeAsJson.add("precision", dataType.getPrecision());
@@ -0,0 +1,136 @@
+package com.exasol.adapter.metrics;
+
+import java.util.Locale;
+
+import com.exasol.adapter.request.AdapterRequestType;
+
+/**
+ * Timings and dimensions of a single adapter call.
+ *
+ * <p>
+ * Sizes and counts that are not known for a call are reported as {@code -1}. That is the case for the request length
+ * of requests read from a character stream, for the involved tables and push-down nodes of requests other than
+ * push-down and for the response length and push-down nodes after a failed call.
+ * </p>
+ */
+public final class AdapterCallMetrics {
+    private static final AdapterCallPhase[] PHASES = AdapterCallPhase.values();
+    private final AdapterRequestType requestType;
+    private final long requestLength;
+    private final int involvedTableCount;
+    private final int pushDownNodeCount;
+    private final long responseLength;
+    private final boolean successful;
+    private final long[] phaseNanos;
+
+    AdapterCallMetrics(final AdapterRequestType requestType, final long requestLength, final int involvedTableCount,
+            final int pushDownNodeCount, final long responseLength, final boolean successful,
+            final long[] phaseNanos) {
+        this.requestType = requestType;
+        this.requestLength = requestLength;
+        this.involvedTableCount = involvedTableCount;
+        this.pushDownNodeCount = pushDownNodeCount;
+        this.responseLength = responseLength;
+        this.successful = successful;
+        this.phaseNanos = phaseNanos;
+    }
+
+    /**
+     * Get the type of the request.
+     *
+     * @return request type or {@code null} if the request could not be parsed
+     */
+    public AdapterRequestType getRequestType() {
+        return this.requestType;
+    }
+
+    /**
+     * Get the length of the raw request.
+     *
+     * @return number of characters of a string request, number of bytes of a binary request or {@code -1} if unknown
+     */
+    public long getRequestLength() {
+        return this.requestLength;
+    }
+
+    /**
+     * Get the number of tables involved in a push-down request.
+     *
+     * @return number of involved tables or {@code -1} for other requests
+     */
+    public int getInvolvedTableCount() {
+        return this.involvedTableCount;
+    }
+
+    /**
+     * Get the number of SQL nodes in the statement of a push-down request.
+     *
+     * @return number of nodes or {@code -1} for other requests and failed calls
+     */
+    public int getPushDownNodeCount() {
+        return this.pushDownNodeCount;
+    }
+
+    /**
+     * Get the length of the JSON response.
+     *
+     * @return number of characters of the response or {@code -1} if the call failed
+     */
+    public long getResponseLength() {
+        return this.responseLength;
+    }
+
+    /**
+     * Check if the adapter call returned a response.
+     *
+     * @return {@code true} if the call succeeded, {@code false} if it threw an exception
+     */
+    public boolean isSuccessful() {
+        return this.successful;
+    }
+
+    /**
+     * Get the time spent in a phase.
+     *
+     * @param phase phase of the adapter call
+     * @return duration in nanoseconds, {@code 0} if the phase was not reached
+     */
+    public long getPhaseNanos(final AdapterCallPhase phase) {
+        return this.phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Get the time spent in all phases together.
+     *
+     * @return duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (final long nanos : this.phaseNanos) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("Adapter call ") //
+                .append(this.requestType == null ? "of unknown type" : this.requestType) //
+                .append(this.successful ? " finished" : " failed") //
+                .append(" after ").append(formatMillis(getTotalNanos())).append(" (");
+        for (final AdapterCallPhase phase : PHASES) {
+            if (phase.ordinal() > 0) {
+                builder.append(", ");
+            }
+            builder.append(phase.getDescription()).append(' ').append(formatMillis(getPhaseNanos(phase)));
+        }
+        return builder.append("), request length ").append(this.requestLength) //
+                .append(", involved tables ").append(this.involvedTableCount) //
+                .append(", push-down nodes ").append(this.pushDownNodeCount) //
+                .append(", response length ").append(this.responseLength).append('.').toString();
+    }
+
+    private static String formatMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.exasol.adapter.metrics;
+
+/**
+ * Receiver of the timings of adapter calls.
+ *
+ * <p>
+ * Implementations are found with the {@link java.util.ServiceLoader}, so to install a sink list its class name in
+ * {@code META-INF/services/com.exasol.adapter.metrics.AdapterCallMetricsSink}. Sinks can also be added at runtime with
+ * {@link AdapterCallTimer#addSink(AdapterCallMetricsSink)}.
+ * </p>
+ * <p>
+ * Sinks are called on the thread that processed the adapter call, after the response was created. They should return
+ * quickly and must be thread-safe.
+ * </p>
+ */
+public interface AdapterCallMetricsSink {
+    /**
+     * Receive the timings of a finished adapter call.
+     *
+     * @param metrics timings and dimensions of the adapter call
+     */
+    void accept(AdapterCallMetrics metrics);
+}
@@ -0,0 +1,34 @@
+package com.exasol.adapter.metrics;
+
+/**
+ * Phase of an adapter call that is timed separately.
+ */
+public enum AdapterCallPhase {
+    /** Looking up the adapter factory and creating or reusing the adapter */
+    ADAPTER_LOOKUP("adapter lookup"),
+    /** Reading and logging the raw request if log level {@code FINER} is enabled */
+    REQUEST_LOGGING("request logging"),
+    /** Parsing the JSON request */
+    REQUEST_PARSING("request parsing"),
+    /** Configuring log handlers and logging the version information */
+    LOGGING_SETUP("logging setup"),
+    /** The work of the adapter itself, for example {@code pushdown} or {@code refresh} */
+    ADAPTER_EXECUTION("adapter execution"),
+    /** Converting the adapter's response to JSON */
+    RESPONSE_SERIALIZATION("response serialization");
+
+    private final String description;
+
+    AdapterCallPhase(final String description) {
+        this.description = description;
+    }
+
+    /**
+     * Get a human-readable description of the phase.
+     *
+     * @return description
+     */
+    public String getDescription() {
+        return this.description;
+    }
+}
@@ -0,0 +1,196 @@
+package com.exasol.adapter.metrics;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.request.*;
+import com.exasol.adapter.sql.SqlNodeWalker;
+
+/**
+ * Stopwatch for the phases of a single adapter call.
+ *
+ * <p>
+ * A phase ends with {@link #endPhase(AdapterCallPhase)} and the next one starts at the same moment, so that each call
+ * costs one {@link System#nanoTime()}. When the call is finished, the timings go to all registered
+ * {@link AdapterCallMetricsSink}s and, if log level {@code FINE} is enabled, into a summary log line. If there is
+ * neither, finishing the call creates no objects.
+ * </p>
+ * <p>
+ * While a call is running, its timer is bound to the processing thread, so that code further down the call chain can
+ * end a phase with {@link #endPhaseOfCurrentCall(AdapterCallPhase)} without having access to the timer.
+ * </p>
+ */
+public final class AdapterCallTimer {
+    private static final Logger LOGGER = Logger.getLogger(AdapterCallTimer.class.getName());
+    private static final ThreadLocal<AdapterCallTimer> CURRENT_TIMER = new ThreadLocal<>();
+    private static final List<AdapterCallMetricsSink> SINKS = loadSinks();
+    private final long[] phaseNanos = new long[AdapterCallPhase.values().length];
+    private final long requestLength;
+    private long phaseStart;
+    private int endedPhases = 0;
+    private AdapterRequestType requestType = null;
+    private int involvedTableCount = -1;
+    private PushDownRequest pushDownRequest = null;
+
+    private AdapterCallTimer(final long requestLength) {
+        this.requestLength = requestLength;
+        this.phaseStart = System.nanoTime();
+    }
+
+    private static List<AdapterCallMetricsSink> loadSinks() {
+        final List<AdapterCallMetricsSink> sinks = new CopyOnWriteArrayList<>();
+        for (final AdapterCallMetricsSink sink : ServiceLoader.load(AdapterCallMetricsSink.class)) {
+            sinks.add(sink);
+        }
+        return sinks;
+    }
+
+    /**
+     * Start timing an adapter call on the current thread.
+     *
+     * @param requestLength length of the raw request or {@code -1} if unknown
+     * @return new timer
+     */
+    public static AdapterCallTimer start(final long requestLength) {
+        final AdapterCallTimer timer = new AdapterCallTimer(requestLength);
+        CURRENT_TIMER.set(timer);
+        return timer;
+    }
+
+    /**
+     * End a phase of the adapter call that is currently timed on this thread.
+     * <p>
+     * Does nothing if no call is timed, for example when an {@code AdapterCallExecutor} is used directly.
+     * </p>
+     *
+     * @param phase phase that ends now
+     */
+    public static void endPhaseOfCurrentCall(final AdapterCallPhase phase) {
+        final AdapterCallTimer timer = CURRENT_TIMER.get();
+        if (timer != null) {
+            timer.endPhase(phase);
+        }
+    }
+
+    /**
+     * Get the raw request length of the adapter call that is currently timed on this thread.
+     *
+     * @return length of the raw request or {@code -1} if unknown or if no call is timed
+     */
+    public static long getCurrentRequestLength() {
+        final AdapterCallTimer timer = CURRENT_TIMER.get();
+        return (timer == null) ? -1 : timer.requestLength;
+    }
+
+    /**
+     * End a phase and start the next one.
+     * <p>
+     * If a phase ends more than once, the durations add up.
+     * </p>
+     *
+     * @param phase phase that ends now
+     */
+    public void endPhase(final AdapterCallPhase phase) {
+        final long now = System.nanoTime();
+        this.phaseNanos[phase.ordinal()] += now - this.phaseStart;
+        this.phaseStart = now;
+        this.endedPhases |= 1 << phase.ordinal();
+    }
+
+    /**
+     * Check if a phase was ended at least once.
+     *
+     * @param phase phase of the adapter call
+     * @return {@code true} if time was recorded for the phase
+     */
+    public boolean hasEnded(final AdapterCallPhase phase) {
+        return (this.endedPhases & (1 << phase.ordinal())) != 0;
+    }
+
+    /**
+     * Record the dimensions of the parsed request.
+     *
+     * @param request parsed adapter request
+     */
+    public void setRequest(final AdapterRequest request) {
+        this.requestType = request.getType();
+        if (request instanceof PushDownRequest) {
+            this.pushDownRequest = (PushDownRequest) request;
+            final List<?> involvedTables = this.pushDownRequest.getInvolvedTablesMetadata();
+            this.involvedTableCount = (involvedTables == null) ? 0 : involvedTables.size();
+        }
+    }
+
+    /**
+     * Finish timing a successful call and report the timings.
+     *
+     * @param response JSON response of the call
+     */
+    public void finish(final String response) {
+        report(true, response.length());
+    }
+
+    /**
+     * Finish timing a failed call and report the timings.
+     */
+    public void finishWithFailure() {
+        report(false, -1);
+    }
+
+    private void report(final boolean successful, final long responseLength) {
+        CURRENT_TIMER.remove();
+        final boolean summaryLogged = LOGGER.isLoggable(Level.FINE);
+        if (SINKS.isEmpty() && !summaryLogged) {
+            return;
+        }
+        final int pushDownNodeCount = successful ? countPushDownNodes() : -1;
+        final AdapterCallMetrics metrics = new AdapterCallMetrics(this.requestType, this.requestLength,
+                this.involvedTableCount, pushDownNodeCount, responseLength, successful, this.phaseNanos.clone());
+        for (final AdapterCallMetricsSink sink : SINKS) {
+            try {
+                sink.accept(metrics);
+            } catch (final RuntimeException exception) {
+                LOGGER.log(Level.WARNING, exception,
+                        () -> "Metrics sink " + sink.getClass().getName() + " failed to record an adapter call.");
+            }
+        }
+        if (summaryLogged) {
+            LOGGER.fine(metrics::toString);
+        }
+    }
+
+    // Walking the statement parses clauses of lazily parsed statements that the adapter did not access. That is why
+    // the nodes are only counted after successful calls and only if the metrics are reported at all.
+    private int countPushDownNodes() {
+        if ((this.pushDownRequest == null) || (this.pushDownRequest.getSelect() == null)) {
+            return -1;
+        }
+        final int[] nodeCount = new int[1];
+        SqlNodeWalker.walk(this.pushDownRequest.getSelect(), node -> {
+            ++nodeCount[0];
+            return true;
+        });
+        return nodeCount[0];
+    }
+
+    /**
+     * Register an additional metrics sink.
+     *
+     * @param sink sink that receives the timings of all following adapter calls
+     */
+    public static void addSink(final AdapterCallMetricsSink sink) {
+        SINKS.add(sink);
+    }
+
+    /**
+     * Remove a metrics sink.
+     *
+     * @param sink sink to be removed
+     */
+    public static void removeSink(final AdapterCallMetricsSink sink) {
+        SINKS.remove(sink);
+    }
+}
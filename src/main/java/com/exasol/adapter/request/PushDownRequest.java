@@ -7,6 +7,7 @@ import com.exasol.adapter.AdapterCallExecutor;
 import com.exasol.adapter.AdapterException;
 import com.exasol.adapter.metadata.SchemaMetadataInfo;
 import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.sql.SqlRenderCache;
 import com.exasol.adapter.sql.SqlStatement;
 
 /**
@@ -16,6 +17,7 @@ import com.exasol.adapter.sql.SqlStatement;
 public class PushDownRequest extends AbstractAdapterRequest {
     private final SqlStatement select;
     private final List<TableMetadata> involvedTablesMetadata;
+    private volatile SqlRenderCache.Key renderCacheKey;
 
     /**
      * Create a new request of type {@link PushDownRequest}
@@ -49,6 +51,24 @@ public class PushDownRequest extends AbstractAdapterRequest {
         return this.involvedTablesMetadata;
     }
 
+    /**
+     * Get the key of this request's statement and involved tables for a {@link SqlRenderCache}.
+     * <p>
+     * The key is computed on the first call and then reused, so that repeated lookups do not walk the statement
+     * again.
+     * </p>
+     *
+     * @return render cache key
+     */
+    public SqlRenderCache.Key getRenderCacheKey() {
+        SqlRenderCache.Key key = this.renderCacheKey;
+        if (key == null) {
+            key = SqlRenderCache.Key.of(this.select, this.involvedTablesMetadata);
+            this.renderCacheKey = key;
+        }
+        return key;
+    }
+
     @Override
     public String executeWith(final AdapterCallExecutor adapterCallExecutor, final ExaMetadata metadata)
             throws AdapterException {
@@ -4,14 +4,16 @@ import com.exasol.errorreporting.ExaError;
 
 import static com.exasol.adapter.request.parser.RequestParserConstants.PROPERTIES_KEY;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.logging.Logger;
 
 import javax.json.*;
 import javax.json.JsonValue.ValueType;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
 /**
  * Abstract base class for parsers reading fragments of the Virtual Schema requests.
@@ -23,29 +25,135 @@ class AbstractRequestParser {
      * Create a JSON reader for raw request data.
      *
      * <p>
-     * The data stream fed into this reader must be UTF-8 encoded.
+     * The reader works directly on the characters of the string, without encoding them first.
      *
      * @param rawRequest raw JSON string representing an adapter request or part thereof
      * @return JSON reader
      */
     protected JsonReader createJsonReader(final String rawRequest) {
-        final ByteArrayInputStream rawRequestStream = new ByteArrayInputStream(
-                rawRequest.getBytes(StandardCharsets.UTF_8));
-        return Json.createReader(rawRequestStream);
+        return createJsonReader(new StringReader(rawRequest));
+    }
+
+    /**
+     * Create a JSON reader for raw request data.
+     *
+     * @param rawRequest character stream containing an adapter request or part thereof
+     * @return JSON reader
+     */
+    protected JsonReader createJsonReader(final Reader rawRequest) {
+        return Json.createReader(rawRequest);
+    }
+
+    /**
+     * Create a streaming JSON parser for raw request data.
+     *
+     * <p>
+     * The parser works directly on the characters of the string, without encoding them first.
+     *
+     * @param rawRequest raw JSON string representing an adapter request or part thereof
+     * @return JSON parser
+     */
+    protected JsonParser createJsonParser(final String rawRequest) {
+        return createJsonParser(new StringReader(rawRequest));
+    }
+
+    /**
+     * Create a streaming JSON parser for raw request data.
+     *
+     * @param rawRequest character stream containing an adapter request or part thereof
+     * @return JSON parser
+     */
+    protected JsonParser createJsonParser(final Reader rawRequest) {
+        return Json.createParser(rawRequest);
+    }
+
+    /**
+     * Skip the value that starts with the given parser event.
+     *
+     * @param parser JSON parser
+     * @param event  event that starts the value to be skipped
+     */
+    protected void skipValue(final JsonParser parser, final Event event) {
+        if (event == Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    /**
+     * Read a string value or fall back to a default if the value is not a string.
+     *
+     * @param parser       JSON parser
+     * @param event        event that starts the value
+     * @param defaultValue value returned in case the JSON value is not a string
+     * @return string value or default
+     */
+    protected String readString(final JsonParser parser, final Event event, final String defaultValue) {
+        if (event == Event.VALUE_STRING) {
+            return parser.getString();
+        } else {
+            skipValue(parser, event);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Read a boolean value.
+     *
+     * @param event event representing the value
+     * @param key   key under which the value is stored (used in error messages)
+     * @return boolean value
+     */
+    protected boolean readBoolean(final Event event, final String key) {
+        if (event == Event.VALUE_TRUE) {
+            return true;
+        } else if (event == Event.VALUE_FALSE) {
+            return false;
+        } else {
+            throw createUnexpectedEventException(event, key);
+        }
+    }
+
+    /**
+     * Read the next event and make sure it is the expected one.
+     *
+     * @param parser   JSON parser
+     * @param expected expected event
+     * @param context  key or structure that is being parsed (used in error messages)
+     */
+    protected void expectEvent(final JsonParser parser, final Event expected, final String context) {
+        final Event event = parser.next();
+        if (event != expected) {
+            throw createUnexpectedEventException(event, context);
+        }
+    }
+
+    /**
+     * Create an exception for a JSON element that does not match the structure of an adapter request.
+     *
+     * @param event   unexpected event
+     * @param context key or structure that is being parsed
+     * @return exception
+     */
+    protected RequestParserException createUnexpectedEventException(final Event event, final String context) {
+        return new RequestParserException(ExaError.messageBuilder("E-VS-COM-JAVA-33")
+                .message("Unexpected JSON element {{event}} encountered while parsing {{context}} of adapter request.")
+                .parameter("event", event) //
+                .parameter("context", context).toString());
     }
 
     protected Map<String, String> parseProperties(final JsonObject jsonSchemaMedadataInfo) {
         if (jsonSchemaMedadataInfo.containsKey(PROPERTIES_KEY)) {
-            return convertJsonObjectsToPropertyMap(jsonSchemaMedadataInfo);
+            return convertJsonObjectToPropertyMap(jsonSchemaMedadataInfo.getJsonObject(PROPERTIES_KEY));
         } else {
             return Collections.emptyMap();
         }
     }
 
-    private Map<String, String> convertJsonObjectsToPropertyMap(final JsonObject root) {
+    protected Map<String, String> convertJsonObjectToPropertyMap(final JsonObject jsonProperties) {
         final Map<String, String> properties;
         properties = new HashMap<>();
-        final JsonObject jsonProperties = root.getJsonObject(PROPERTIES_KEY);
         for (final Entry<String, JsonValue> entry : jsonProperties.entrySet()) {
             addProperty(properties, entry);
         }
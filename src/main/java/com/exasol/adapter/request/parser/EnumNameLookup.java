@@ -0,0 +1,98 @@
+package com.exasol.adapter.request.parser;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Case-insensitive lookup of enum constants by name.
+ *
+ * <p>
+ * Node types, function names and data types in push-down requests are resolved once per JSON node. Compared to
+ * {@code Enum.valueOf(type, name.toUpperCase())} the lookup needs one probe into a precomputed table and creates no
+ * temporary upper-case string. Case is folded for ASCII letters only, which covers all constant names.
+ * </p>
+ * <p>
+ * The table is immutable after construction and can be shared between threads.
+ * </p>
+ *
+ * @param <E> enum type
+ */
+final class EnumNameLookup<E extends Enum<E>> {
+    private final Class<E> enumClass;
+    private final Object[] slots;
+    private final int mask;
+
+    private EnumNameLookup(final Class<E> enumClass) {
+        this.enumClass = enumClass;
+        final E[] constants = enumClass.getEnumConstants();
+        final int capacity = Integer.highestOneBit(Math.max(2, constants.length * 4) - 1) << 1;
+        this.slots = new Object[capacity];
+        this.mask = capacity - 1;
+        for (final E constant : constants) {
+            int index = hash(constant.name()) & this.mask;
+            while (this.slots[index] != null) {
+                index = (index + 1) & this.mask;
+            }
+            this.slots[index] = constant;
+        }
+    }
+
+    /**
+     * Create a lookup for all constants of an enum.
+     *
+     * @param <E>       enum type
+     * @param enumClass enum class
+     * @return new lookup
+     */
+    static <E extends Enum<E>> EnumNameLookup<E> of(final Class<E> enumClass) {
+        return new EnumNameLookup<>(enumClass);
+    }
+
+    /**
+     * Find the constant with the given name, ignoring case.
+     *
+     * @param name name of the constant
+     * @return constant or {@code null} if the name is {@code null} or unknown
+     */
+    E find(final String name) {
+        if (name == null) {
+            return null;
+        }
+        int index = hash(name) & this.mask;
+        Object slot;
+        while ((slot = this.slots[index]) != null) {
+            final E constant = this.enumClass.cast(slot);
+            if (constant.name().equalsIgnoreCase(name)) {
+                return constant;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return null;
+    }
+
+    /**
+     * Get the constant with the given name, ignoring case.
+     *
+     * @param name name of the constant
+     * @return constant
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    E get(final String name) {
+        final E constant = find(name);
+        if (constant == null) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-40")
+                    .message("Unknown {{type}} name {{name}}.") //
+                    .unquotedParameter("type", this.enumClass.getSimpleName()) //
+                    .parameter("name", name).toString());
+        }
+        return constant;
+    }
+
+    private static int hash(final String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); ++i) {
+            final char character = name.charAt(i);
+            hash = (31 * hash) + (((character >= 'a') && (character <= 'z')) ? (character - ('a' - 'A')) : character);
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
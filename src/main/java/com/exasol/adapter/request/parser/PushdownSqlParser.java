@@ -5,9 +5,11 @@ import static com.exasol.adapter.sql.SqlPredicateIsJson.TypeConstraints;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 
 import javax.json.*;
 
+import com.exasol.adapter.jfr.PushdownParseEvent;
 import com.exasol.adapter.metadata.*;
 import com.exasol.adapter.metadata.DataType.ExaCharset;
 import com.exasol.adapter.metadata.DataType.IntervalType;
@@ -25,19 +27,81 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     private static final String DISTINCT_KEY = "distinct";
     private static final String DATA_TYPE = "dataType";
     private static final String SEPARATOR_KEY = "separator";
+    private static final String EXPRESSIONS_KEY = "expressions";
+    private static final String FILTER_KEY = "filter";
+    private static final String HAVING_KEY = "having";
+    private static final String LIMIT_KEY = "limit";
+    private static final String GROUP_BY_KEY = "groupBy";
+    private static final String SELECT_LIST_KEY = "selectList";
+    private static final String FROM_KEY = "from";
+    private static final String TYPE_KEY = "type";
+    private static final EnumNameLookup<SqlNodeType> NODE_TYPES = EnumNameLookup.of(SqlNodeType.class);
+    private static final EnumNameLookup<JoinType> JOIN_TYPES = EnumNameLookup.of(JoinType.class);
+    private static final EnumNameLookup<ScalarFunction> SCALAR_FUNCTIONS = EnumNameLookup.of(ScalarFunction.class);
+    private static final EnumNameLookup<AggregateFunction> AGGREGATE_FUNCTIONS = EnumNameLookup
+            .of(AggregateFunction.class);
+    private static final EnumNameLookup<DataType.ExaDataType> DATA_TYPES = EnumNameLookup
+            .of(DataType.ExaDataType.class);
+    private static final EnumNameLookup<TypeConstraints> TYPE_CONSTRAINTS = EnumNameLookup.of(TypeConstraints.class);
+    private static final EnumNameLookup<BehaviorType> OVERFLOW_BEHAVIOR_TYPES = EnumNameLookup.of(BehaviorType.class);
+    private static final int MAX_SHORT_INTEGER_DIGITS = 18;
 
     private final List<TableMetadata> involvedTablesMetadata;
+    private final Map<String, TableMetadata> involvedTablesByName;
+    private final Map<String, Map<String, ColumnMetadata>> columnsByTableName = new HashMap<>();
+    private final boolean lazySelect;
 
-    private PushdownSqlParser(final List<TableMetadata> involvedTablesMetadata) {
+    private PushdownSqlParser(final List<TableMetadata> involvedTablesMetadata, final boolean lazySelect) {
         this.involvedTablesMetadata = involvedTablesMetadata;
+        this.involvedTablesByName = indexTablesByName(involvedTablesMetadata);
+        this.lazySelect = lazySelect;
+    }
+
+    private static Map<String, TableMetadata> indexTablesByName(final List<TableMetadata> tables) {
+        final Map<String, TableMetadata> tablesByName = new HashMap<>(tables.size() * 2);
+        for (final TableMetadata table : tables) {
+            tablesByName.putIfAbsent(table.getName(), table);
+        }
+        return tablesByName;
+    }
+
+    private static Map<String, ColumnMetadata> indexColumnsByName(final TableMetadata table) {
+        final List<ColumnMetadata> columns = table.getColumns();
+        final Map<String, ColumnMetadata> columnsByName = new HashMap<>(columns.size() * 2);
+        for (final ColumnMetadata column : columns) {
+            columnsByName.putIfAbsent(column.getName(), column);
+        }
+        return columnsByName;
+    }
+
+    /**
+     * Parse the root statement of a push-down request.
+     *
+     * @param statement JSON push-down statement
+     * @return parsed statement
+     */
+    SqlStatement parseStatement(final JsonObject statement) {
+        final PushdownParseEvent event = new PushdownParseEvent();
+        event.begin();
+        SqlStatement result = null;
+        try {
+            result = (SqlStatement) parseExpression(statement);
+            return result;
+        } finally {
+            event.commit(result, this.lazySelect,
+                    (this.involvedTablesMetadata == null) ? 0 : this.involvedTablesMetadata.size());
+        }
     }
 
     public SqlNode parseExpression(final JsonObject expression) {
-        final String typeName = expression.getString("type", "");
+        final String typeName = expression.getString(TYPE_KEY, "");
         final SqlNodeType type = fromTypeName(typeName);
+        if (type == null) {
+            throw createUnknownNodeTypeException(typeName);
+        }
         switch (type) {
         case SELECT:
-            return parseSelect(expression);
+            return this.lazySelect ? parseLazySelect(expression) : parseSelect(expression);
         case TABLE:
             return parseTable(expression);
         case JOIN:
@@ -109,41 +173,90 @@ public final class PushdownSqlParser extends AbstractRequestParser {
         case FUNCTION_AGGREGATE_LISTAGG:
             return parseFunctionAggregateListagg(expression);
         default:
-            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-8") //
-                    .message("Unknown node type: {{typeName}}") //
-                    .parameter("typeName", typeName).toString());
+            throw createUnknownNodeTypeException(typeName);
         }
     }
 
+    private static IllegalArgumentException createUnknownNodeTypeException(final String typeName) {
+        return new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-8") //
+                .message("Unknown node type: {{typeName}}") //
+                .parameter("typeName", typeName).toString());
+    }
+
     private SqlStatementSelect parseSelect(final JsonObject select) {
         // FROM clause
-        final SqlNode from = parseExpression(select.getJsonObject("from"));
+        final SqlNode from = parseExpression(select.getJsonObject(FROM_KEY));
         // SELECT list
         final SqlSelectList selectList = createSelectList(select, from);
-        final SqlExpressionList groupByClause = parseGroupBy(select.getJsonArray("groupBy"));
+        final SqlExpressionList groupByClause = parseGroupBy(select.getJsonArray(GROUP_BY_KEY));
         // WHERE clause
-        SqlNode whereClause = null;
-        if (select.containsKey("filter")) {
-            whereClause = parseExpression(select.getJsonObject("filter"));
-        }
-        SqlNode having = null;
-        if (select.containsKey("having")) {
-            having = parseExpression(select.getJsonObject("having"));
-        }
-        SqlOrderBy orderBy = null;
-        if (select.containsKey(ORDER_BY_KEY)) {
-            orderBy = parseOrderBy(select.getJsonArray(ORDER_BY_KEY));
-        }
-        SqlLimit limit = null;
-        if (select.containsKey("limit")) {
-            limit = parseLimit(select.getJsonObject("limit"));
-        }
+        final JsonObject filterJson = select.getJsonObject(FILTER_KEY);
+        final SqlNode whereClause = (filterJson == null) ? null : parseExpression(filterJson);
+        final JsonObject havingJson = select.getJsonObject(HAVING_KEY);
+        final SqlNode having = (havingJson == null) ? null : parseExpression(havingJson);
+        final JsonArray orderByJson = select.getJsonArray(ORDER_BY_KEY);
+        final SqlOrderBy orderBy = (orderByJson == null) ? null : parseOrderBy(orderByJson);
+        final JsonObject limitJson = select.getJsonObject(LIMIT_KEY);
+        final SqlLimit limit = (limitJson == null) ? null : parseLimit(limitJson);
         return SqlStatementSelect.builder().selectList(selectList).fromClause(from).whereClause(whereClause)
                 .groupBy(groupByClause).having(having).orderBy(orderBy).limit(limit).build();
     }
 
+    /**
+     * Create a SELECT statement that parses each clause on first access.
+     * <p>
+     * The clauses are parsed while holding the lock of this parser, because the parser caches column metadata in
+     * non-thread-safe maps. A missing select list is derived from the FROM clause. Both share a single parse of the
+     * FROM clause, no matter which of them is accessed first.
+     * </p>
+     */
+    private SqlStatementSelect parseLazySelect(final JsonObject select) {
+        final Supplier<SqlNode> from = new MemoizingSupplier<>(() -> parseExpression(select.getJsonObject(FROM_KEY)));
+        final LazySqlStatementSelect.Builder builder = LazySqlStatementSelect.lazyBuilder()
+                .fromClause(synchronizedSupplier(from))
+                .selectList(synchronizedSupplier(() -> createLazySelectList(select, from)));
+        final JsonArray groupByJson = select.getJsonArray(GROUP_BY_KEY);
+        if (groupByJson != null) {
+            builder.groupBy(synchronizedSupplier(() -> parseGroupBy(groupByJson)));
+        }
+        final JsonObject filterJson = select.getJsonObject(FILTER_KEY);
+        if (filterJson != null) {
+            builder.whereClause(synchronizedSupplier(() -> parseExpression(filterJson)));
+        }
+        final JsonObject havingJson = select.getJsonObject(HAVING_KEY);
+        if (havingJson != null) {
+            builder.having(synchronizedSupplier(() -> parseExpression(havingJson)));
+        }
+        final JsonArray orderByJson = select.getJsonArray(ORDER_BY_KEY);
+        if (orderByJson != null) {
+            builder.orderBy(synchronizedSupplier(() -> parseOrderBy(orderByJson)));
+        }
+        final JsonObject limitJson = select.getJsonObject(LIMIT_KEY);
+        if (limitJson != null) {
+            builder.limit(synchronizedSupplier(() -> parseLimit(limitJson)));
+        }
+        return builder.build();
+    }
+
+    private SqlSelectList createLazySelectList(final JsonObject select, final Supplier<SqlNode> from) {
+        final JsonArray selectListJson = select.getJsonArray(SELECT_LIST_KEY);
+        if (selectListJson != null) {
+            return parseSelectList(selectListJson);
+        } else {
+            return createSelectList(select, from.get());
+        }
+    }
+
+    private <T> Supplier<T> synchronizedSupplier(final Supplier<T> supplier) {
+        return () -> {
+            synchronized (this) {
+                return supplier.get();
+            }
+        };
+    }
+
     private SqlSelectList createSelectList(final JsonObject select, final SqlNode from) {
-        final JsonArray selectListJson = select.getJsonArray("selectList");
+        final JsonArray selectListJson = select.getJsonArray(SELECT_LIST_KEY);
         if (selectListJson == null) {
             return SqlSelectList.createRegularSelectList(collectAllInvolvedColumns(from));
         } else {
@@ -154,8 +267,8 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     private SqlNode parseTable(final JsonObject exp) {
         final String tableName = exp.getString("name");
         final TableMetadata tableMetadata = findInvolvedTableMetadata(tableName);
-        if (exp.containsKey("alias")) {
-            final String tableAlias = exp.getString("alias");
+        final String tableAlias = exp.getString("alias", null);
+        if (tableAlias != null) {
             return new SqlTable(tableName, tableAlias, tableMetadata);
         } else {
             return new SqlTable(tableName, tableMetadata);
@@ -175,8 +288,8 @@ public final class PushdownSqlParser extends AbstractRequestParser {
         final String columnName = exp.getString("name");
         final String tableName = exp.getString("tableName");
         final ColumnMetadata columnMetadata = findColumnMetadata(tableName, columnName);
-        if (exp.containsKey("tableAlias")) {
-            final String tableAlias = exp.getString("tableAlias");
+        final String tableAlias = exp.getString("tableAlias", null);
+        if (tableAlias != null) {
             return new SqlColumn(columnId, columnMetadata, tableName, tableAlias);
         } else {
             return new SqlColumn(columnId, columnMetadata, tableName);
@@ -220,12 +333,12 @@ public final class PushdownSqlParser extends AbstractRequestParser {
 
     private List<SqlNode> collectAllInvolvedColumns(final SqlNode from) {
         final List<SqlTable> involvedTables = collectInvolvedTables(from);
-        final Map<String, TableMetadata> tableMetadataMap = getInvolvedTablesMetadataMap();
         final List<SqlNode> selectListElements = new ArrayList<>();
         for (final SqlTable table : involvedTables) {
             final String tableName = table.getName();
-            if (tableMetadataMap.containsKey(tableName)) {
-                final List<ColumnMetadata> columns = tableMetadataMap.get(tableName).getColumns();
+            final TableMetadata tableMetadata = this.involvedTablesByName.get(tableName);
+            if (tableMetadata != null) {
+                final List<ColumnMetadata> columns = tableMetadata.getColumns();
                 for (int i = 0, columnsSize = columns.size(); i < columnsSize; ++i) {
                     selectListElements.add(createColumn(i, table, columns.get(i)));
                 }
@@ -265,14 +378,6 @@ public final class PushdownSqlParser extends AbstractRequestParser {
         return involvedTables;
     }
 
-    private Map<String, TableMetadata> getInvolvedTablesMetadataMap() {
-        final Map<String, TableMetadata> tableMetadataMap = new HashMap<>(this.involvedTablesMetadata.size());
-        for (final TableMetadata involvedTableMeta : this.involvedTablesMetadata) {
-            tableMetadataMap.put(involvedTableMeta.getName(), involvedTableMeta);
-        }
-        return tableMetadataMap;
-    }
-
     private SqlColumn createColumn(final int index, final SqlTable table, final ColumnMetadata columnMetadata) {
         if (table.hasAlias()) {
             return new SqlColumn(index, columnMetadata, table.getName(), table.getAlias());
@@ -318,8 +423,9 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     private SqlNode parsePredicateLike(final JsonObject exp) {
         final SqlNode likeLeft = parseExpression(exp.getJsonObject(EXPRESSION));
         final SqlNode likePattern = parseExpression(exp.getJsonObject("pattern"));
-        if (exp.containsKey("escapeChar")) {
-            final SqlNode escapeChar = parseExpression(exp.getJsonObject("escapeChar"));
+        final JsonObject escapeCharJson = exp.getJsonObject("escapeChar");
+        if (escapeCharJson != null) {
+            final SqlNode escapeChar = parseExpression(escapeCharJson);
             return new SqlPredicateLike(likeLeft, likePattern, escapeChar);
         }
         return new SqlPredicateLike(likeLeft, likePattern);
@@ -355,22 +461,57 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     }
 
     private SqlNode parsePredicateOr(final JsonObject exp) {
-        final List<SqlNode> orPredicates = getListOfSqlNodes(exp, "expressions");
+        final List<SqlNode> orPredicates = parseFlattenedOperands(exp, SqlNodeType.PREDICATE_OR);
         return new SqlPredicateOr(orPredicates);
     }
 
-    private List<SqlNode> getListOfSqlNodes(final JsonObject jsonExpression, final String key) {
-        final List<SqlNode> arguments = new ArrayList<>();
-        if (jsonExpression.containsKey(key)) {
-            for (final JsonObject jsonObject : jsonExpression.getJsonArray(key).getValuesAs(JsonObject.class)) {
-                arguments.add(parseExpression(jsonObject));
+    /**
+     * Parse the operands of an AND or OR predicate, pulling the operands of directly nested predicates of the same type
+     * up into one n-ary list.
+     * <p>
+     * Nested chains are expanded with an explicit stack, so deep chains of generated predicates do not grow the call
+     * stack.
+     * </p>
+     */
+    private List<SqlNode> parseFlattenedOperands(final JsonObject exp, final SqlNodeType type) {
+        final List<SqlNode> operands = new ArrayList<>();
+        final Deque<Iterator<JsonObject>> pending = new ArrayDeque<>();
+        pending.push(getOperands(exp).iterator());
+        while (!pending.isEmpty()) {
+            final Iterator<JsonObject> iterator = pending.peek();
+            if (iterator.hasNext()) {
+                final JsonObject operand = iterator.next();
+                if (fromTypeName(operand.getString(TYPE_KEY, "")) == type) {
+                    pending.push(getOperands(operand).iterator());
+                } else {
+                    operands.add(parseExpression(operand));
+                }
+            } else {
+                pending.pop();
             }
         }
+        return operands;
+    }
+
+    private static List<JsonObject> getOperands(final JsonObject exp) {
+        final JsonArray operands = exp.getJsonArray(EXPRESSIONS_KEY);
+        return (operands == null) ? Collections.emptyList() : operands.getValuesAs(JsonObject.class);
+    }
+
+    private List<SqlNode> getListOfSqlNodes(final JsonObject jsonExpression, final String key) {
+        final JsonArray jsonArguments = jsonExpression.getJsonArray(key);
+        if (jsonArguments == null) {
+            return new ArrayList<>();
+        }
+        final List<SqlNode> arguments = new ArrayList<>(jsonArguments.size());
+        for (final JsonObject jsonObject : jsonArguments.getValuesAs(JsonObject.class)) {
+            arguments.add(parseExpression(jsonObject));
+        }
         return arguments;
     }
 
     private SqlNode parsePredicateAnd(final JsonObject exp) {
-        final List<SqlNode> andedPredicates = getListOfSqlNodes(exp, "expressions");
+        final List<SqlNode> andedPredicates = parseFlattenedOperands(exp, SqlNodeType.PREDICATE_AND);
         return new SqlPredicateAnd(andedPredicates);
     }
 
@@ -381,27 +522,28 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     }
 
     private DataType getDataType(final JsonObject dataType) {
-        final String typeName = dataType.getString("type").toUpperCase();
-        switch (typeName) {
-        case "DECIMAL":
+        final String typeName = dataType.getString(TYPE_KEY);
+        final DataType.ExaDataType type = DATA_TYPES.find(typeName);
+        switch ((type == null) ? DataType.ExaDataType.UNSUPPORTED : type) {
+        case DECIMAL:
             return DataType.createDecimal(dataType.getInt("precision"), dataType.getInt("scale"));
-        case "DOUBLE":
+        case DOUBLE:
             return DataType.createDouble();
-        case "VARCHAR":
+        case VARCHAR:
             return getVarchar(dataType);
-        case "CHAR":
+        case CHAR:
             return getChar(dataType);
-        case "BOOLEAN":
+        case BOOLEAN:
             return DataType.createBool();
-        case "DATE":
+        case DATE:
             return DataType.createDate();
-        case "TIMESTAMP":
+        case TIMESTAMP:
             return getTimestamp(dataType);
-        case "INTERVAL":
+        case INTERVAL:
             return getInterval(dataType);
-        case "GEOMETRY":
+        case GEOMETRY:
             return getGeometry(dataType);
-        case "HASHTYPE":
+        case HASHTYPE:
             return getHashtype(dataType);
         default:
             throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-11")
@@ -476,8 +618,31 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     }
 
     private SqlNode parseLiteralExactNumeric(final JsonObject exp) {
-        final BigDecimal exactVal = new BigDecimal(exp.getString(VALUE));
-        return new SqlLiteralExactnumeric(exactVal);
+        final String exactString = exp.getString(VALUE);
+        if (isShortInteger(exactString)) {
+            return new SqlLiteralExactnumeric(Long.parseLong(exactString));
+        } else {
+            return new SqlLiteralExactnumeric(new BigDecimal(exactString));
+        }
+    }
+
+    /**
+     * Check if a number consists of an optional minus sign and at most 18 digits, so that it is guaranteed to fit into
+     * a {@code long}.
+     */
+    private static boolean isShortInteger(final String number) {
+        final int start = number.startsWith("-") ? 1 : 0;
+        final int length = number.length() - start;
+        if ((length == 0) || (length > MAX_SHORT_INTEGER_DIGITS)) {
+            return false;
+        }
+        for (int i = start; i < number.length(); ++i) {
+            final char character = number.charAt(i);
+            if ((character < '0') || (character > '9')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private SqlNode parseLiteralDouble(final JsonObject exp) {
@@ -505,8 +670,7 @@ public final class PushdownSqlParser extends AbstractRequestParser {
 
     private SqlNode parsePredicateIsJson(final JsonObject jsonExpression) {
         final SqlNode expression = parseExpression(jsonExpression.getJsonObject(EXPRESSION));
-        final TypeConstraints typeConstraint = TypeConstraints
-                .valueOf(jsonExpression.getString("typeConstraint").toUpperCase());
+        final TypeConstraints typeConstraint = TYPE_CONSTRAINTS.get(jsonExpression.getString("typeConstraint"));
         final KeyUniquenessConstraint keyUniquenessConstraint = KeyUniquenessConstraint
                 .of(jsonExpression.getString("keyUniquenessConstraint"));
         return new SqlPredicateIsJson(expression, typeConstraint, keyUniquenessConstraint);
@@ -514,8 +678,7 @@ public final class PushdownSqlParser extends AbstractRequestParser {
 
     private SqlNode parsePredicateIsNotJson(final JsonObject jsonExpression) {
         final SqlNode expression = parseExpression(jsonExpression.getJsonObject(EXPRESSION));
-        final TypeConstraints typeConstraint = TypeConstraints
-                .valueOf(jsonExpression.getString("typeConstraint").toUpperCase());
+        final TypeConstraints typeConstraint = TYPE_CONSTRAINTS.get(jsonExpression.getString("typeConstraint"));
         final KeyUniquenessConstraint keyUniquenessConstraint = KeyUniquenessConstraint
                 .of(jsonExpression.getString("keyUniquenessConstraint"));
         return new SqlPredicateIsNotJson(expression, typeConstraint, keyUniquenessConstraint);
@@ -542,10 +705,8 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     private SqlNode parseFunctionScalarCase(final JsonObject exp) {
         final List<SqlNode> caseArguments = getListOfSqlNodes(exp, ARGUMENTS_KEY);
         final List<SqlNode> caseResults = getListOfSqlNodes(exp, "results");
-        SqlNode caseBasis = null;
-        if (exp.containsKey("basis")) {
-            caseBasis = parseExpression(exp.getJsonObject("basis"));
-        }
+        final JsonObject caseBasisJson = exp.getJsonObject("basis");
+        final SqlNode caseBasis = (caseBasisJson == null) ? null : parseExpression(caseBasisJson);
         return new SqlFunctionScalarCase(caseArguments, caseResults, caseBasis);
     }
 
@@ -570,7 +731,7 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     private SqlFunctionScalarJsonValue.Behavior getScalarJsonValueBehavior(final JsonObject jsonObject,
             final String key) {
         final JsonObject behaviorJson = jsonObject.getJsonObject(key);
-        final String behaviorTypeString = behaviorJson.getString("type");
+        final String behaviorTypeString = behaviorJson.getString(TYPE_KEY);
         final SqlFunctionScalarJsonValue.BehaviorType behaviorType = SqlFunctionScalarJsonValue.BehaviorType
                 .valueOf(behaviorTypeString);
         final Optional<SqlNode> expression = getScalarJsonValueExpression(behaviorJson, behaviorType);
@@ -589,22 +750,21 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     private SqlNode parseFunctionAggregate(final JsonObject exp) {
         final String setFunctionName = exp.getString("name");
         final List<SqlNode> setArguments = getListOfSqlNodes(exp, ARGUMENTS_KEY);
-        final boolean distinct = exp.containsKey(DISTINCT_KEY) && exp.getBoolean(DISTINCT_KEY);
+        final boolean distinct = exp.getBoolean(DISTINCT_KEY, false);
         return new SqlFunctionAggregate(fromAggregationFunctionName(setFunctionName), setArguments, distinct);
     }
 
     private SqlNode parseFunctionAggregateGroupConcat(final JsonObject expression) {
         final SqlNode argument = getSingleArgument(expression);
         final SqlFunctionAggregateGroupConcat.Builder builder = SqlFunctionAggregateGroupConcat.builder(argument);
-        if (expression.containsKey(DISTINCT_KEY)) {
-            builder.distinct(expression.getBoolean(DISTINCT_KEY));
+        builder.distinct(expression.getBoolean(DISTINCT_KEY, false));
+        final JsonArray orderByJson = expression.getJsonArray(ORDER_BY_KEY);
+        if (orderByJson != null) {
+            builder.orderBy(parseOrderBy(orderByJson));
         }
-        if (expression.containsKey(ORDER_BY_KEY)) {
-            builder.orderBy(parseOrderBy(expression.getJsonArray(ORDER_BY_KEY)));
-        }
-        if (expression.containsKey(SEPARATOR_KEY)) {
-            final SqlLiteralString separator = getSeparator(expression);
-            builder.separator(separator);
+        final JsonValue separatorJson = expression.get(SEPARATOR_KEY);
+        if (separatorJson != null) {
+            builder.separator(getSeparator(separatorJson));
         }
         return builder.build();
     }
@@ -614,12 +774,11 @@ public final class PushdownSqlParser extends AbstractRequestParser {
         return parseExpression(arguments.get(0));
     }
 
-    private SqlLiteralString getSeparator(final JsonObject expression) {
-        final JsonValue jsonSeparator = expression.get(SEPARATOR_KEY);
+    private SqlLiteralString getSeparator(final JsonValue jsonSeparator) {
         if (jsonSeparator.getValueType() == JsonValue.ValueType.STRING) {
-            return new SqlLiteralString(expression.getString(SEPARATOR_KEY));
+            return new SqlLiteralString(((JsonString) jsonSeparator).getString());
         } else {
-            return (SqlLiteralString) parseExpression(expression.getJsonObject(SEPARATOR_KEY));
+            return (SqlLiteralString) parseExpression(jsonSeparator.asJsonObject());
         }
     }
 
@@ -627,15 +786,14 @@ public final class PushdownSqlParser extends AbstractRequestParser {
         final SqlNode argument = getSingleArgument(expression);
         final Behavior overflowBehavior = parseOverflowBehavior(expression);
         final Builder builder = SqlFunctionAggregateListagg.builder(argument, overflowBehavior);
-        if (expression.containsKey(DISTINCT_KEY)) {
-            builder.distinct(expression.getBoolean(DISTINCT_KEY));
-        }
-        if (expression.containsKey(ORDER_BY_KEY)) {
-            builder.orderBy(parseOrderBy(expression.getJsonArray(ORDER_BY_KEY)));
-        }
-        if (expression.containsKey(SEPARATOR_KEY)) {
-            final SqlLiteralString separator = (SqlLiteralString) parseExpression(
-                    expression.getJsonObject(SEPARATOR_KEY));
+        builder.distinct(expression.getBoolean(DISTINCT_KEY, false));
+        final JsonArray orderByJson = expression.getJsonArray(ORDER_BY_KEY);
+        if (orderByJson != null) {
+            builder.orderBy(parseOrderBy(orderByJson));
+        }
+        final JsonObject separatorJson = expression.getJsonObject(SEPARATOR_KEY);
+        if (separatorJson != null) {
+            final SqlLiteralString separator = (SqlLiteralString) parseExpression(separatorJson);
             builder.separator(separator);
         }
         return builder.build();
@@ -643,14 +801,14 @@ public final class PushdownSqlParser extends AbstractRequestParser {
 
     private Behavior parseOverflowBehavior(final JsonObject expression) {
         final JsonObject overflowBehaviorJson = expression.getJsonObject("overflowBehavior");
-        final BehaviorType behaviorType = BehaviorType.valueOf(overflowBehaviorJson.getString("type").toUpperCase());
+        final BehaviorType behaviorType = OVERFLOW_BEHAVIOR_TYPES.get(overflowBehaviorJson.getString(TYPE_KEY));
         final Behavior overflowBehavior = new Behavior(behaviorType);
         if (behaviorType == BehaviorType.TRUNCATE) {
             overflowBehavior.setTruncationType(
                     TruncationType.parseTruncationType(overflowBehaviorJson.getString("truncationType")));
-            if (overflowBehaviorJson.containsKey("truncationFiller")) {
-                final SqlLiteralString truncationFiller = (SqlLiteralString) parseExpression(
-                        overflowBehaviorJson.getJsonObject("truncationFiller"));
+            final JsonObject truncationFillerJson = overflowBehaviorJson.getJsonObject("truncationFiller");
+            if (truncationFillerJson != null) {
+                final SqlLiteralString truncationFiller = (SqlLiteralString) parseExpression(truncationFillerJson);
                 overflowBehavior.setTruncationFiller(truncationFiller);
             }
         }
@@ -661,36 +819,34 @@ public final class PushdownSqlParser extends AbstractRequestParser {
      * Mapping from join type name (as in json api) to enum
      */
     private static JoinType fromJoinTypeName(final String typeName) {
-        return Enum.valueOf(JoinType.class, typeName.toUpperCase());
+        return JOIN_TYPES.get(typeName);
     }
 
     /**
      * Mapping from scalar function name (as in json api) to enum
      */
     private static ScalarFunction fromScalarFunctionName(final String functionName) {
-        return Enum.valueOf(ScalarFunction.class, functionName.toUpperCase());
+        return SCALAR_FUNCTIONS.get(functionName);
     }
 
     /**
      * Mapping from aggregate function name (as in json api) to enum
      */
     private static AggregateFunction fromAggregationFunctionName(final String functionName) {
-        return Enum.valueOf(AggregateFunction.class, functionName.toUpperCase());
+        return AGGREGATE_FUNCTIONS.get(functionName);
     }
 
     /**
-     * Mapping from type name (as in json api) to enum
+     * Mapping from type name (as in json api) to enum, {@code null} if the name is unknown
      */
     private static SqlNodeType fromTypeName(final String typeName) {
-        return Enum.valueOf(SqlNodeType.class, typeName.toUpperCase());
+        return NODE_TYPES.find(typeName);
     }
 
     private TableMetadata findInvolvedTableMetadata(final String tableName) {
-        assert this.involvedTablesMetadata != null;
-        for (final TableMetadata tableMetadata : this.involvedTablesMetadata) {
-            if (tableMetadata.getName().equals(tableName)) {
-                return tableMetadata;
-            }
+        final TableMetadata tableMetadata = this.involvedTablesByName.get(tableName);
+        if (tableMetadata != null) {
+            return tableMetadata;
         }
         throw new IllegalStateException(ExaError.messageBuilder("E-VS-COM-JAVA-14").message(
                 "Could not find table metadata for involved table \"{{tableName}}\". All involved tables: {{involvedTables}}")
@@ -700,10 +856,10 @@ public final class PushdownSqlParser extends AbstractRequestParser {
 
     private ColumnMetadata findColumnMetadata(final String tableName, final String columnName) {
         final TableMetadata tableMetadata = findInvolvedTableMetadata(tableName);
-        for (final ColumnMetadata columnMetadata : tableMetadata.getColumns()) {
-            if (columnMetadata.getName().equals(columnName)) {
-                return columnMetadata;
-            }
+        final ColumnMetadata columnMetadata = this.columnsByTableName
+                .computeIfAbsent(tableName, name -> indexColumnsByName(tableMetadata)).get(columnName);
+        if (columnMetadata != null) {
+            return columnMetadata;
         }
         throw new IllegalStateException(ExaError.messageBuilder("E-VS-COM-JAVA-15").message(
                 "Could not find column metadata for involved table \"{{tableName}}\" and column \"{{columnName}}\". "
@@ -719,6 +875,41 @@ public final class PushdownSqlParser extends AbstractRequestParser {
      * @return new instance
      */
     public static PushdownSqlParser createWithTablesMetadata(final List<TableMetadata> involvedTableMetadata) {
-        return new PushdownSqlParser(involvedTableMetadata);
+        return new PushdownSqlParser(involvedTableMetadata, false);
+    }
+
+    /**
+     * Create a new instance of a {@link PushdownSqlParser} that returns a {@link LazySqlStatementSelect} for SELECT
+     * statements, so that each clause is only parsed when it is accessed.
+     *
+     * @param involvedTableMetadata metadata of the tables involved in the push-down
+     * @return new instance
+     */
+    public static PushdownSqlParser createLazyWithTablesMetadata(final List<TableMetadata> involvedTableMetadata) {
+        return new PushdownSqlParser(involvedTableMetadata, true);
+    }
+
+    /**
+     * Supplier that computes its value on the first call and then returns the same value.
+     * <p>
+     * Not thread-safe on its own. Lazy clauses only call it while holding the lock of the parser.
+     * </p>
+     */
+    private static final class MemoizingSupplier<T> implements Supplier<T> {
+        private Supplier<T> delegate;
+        private T value;
+
+        private MemoizingSupplier(final Supplier<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T get() {
+            if (this.delegate != null) {
+                this.value = this.delegate.get();
+                this.delegate = null;
+            }
+            return this.value;
+        }
     }
 }
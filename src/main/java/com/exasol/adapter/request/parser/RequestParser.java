@@ -2,6 +2,8 @@ package com.exasol.adapter.request.parser;
 
 import static com.exasol.adapter.request.parser.RequestParserConstants.*;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.*;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -19,6 +21,37 @@ import com.exasol.errorreporting.ExaError;
  */
 public class RequestParser extends AbstractRequestParser {
     private static final Logger LOGGER = Logger.getLogger(RequestParser.class.getName());
+    private final boolean lazySelect;
+    private final TablesMetadataParser tablesMetadataParser;
+
+    /**
+     * Create a {@link RequestParser} that parses push-down statements completely.
+     */
+    public RequestParser() {
+        this(false);
+    }
+
+    /**
+     * Create a {@link RequestParser}.
+     *
+     * @param lazySelect <code>true</code> if the clauses of push-down SELECT statements should only be parsed on first
+     *                   access
+     */
+    protected RequestParser(final boolean lazySelect) {
+        this(lazySelect, TablesMetadataParser.create());
+    }
+
+    /**
+     * Create a {@link RequestParser} with a specific parser for the involved tables.
+     *
+     * @param lazySelect           <code>true</code> if the clauses of push-down SELECT statements should only be parsed
+     *                             on first access
+     * @param tablesMetadataParser parser for the metadata of the involved tables, for example a parallel one
+     */
+    protected RequestParser(final boolean lazySelect, final TablesMetadataParser tablesMetadataParser) {
+        this.lazySelect = lazySelect;
+        this.tablesMetadataParser = tablesMetadataParser;
+    }
 
     /**
      * Parse a JSON string containing a Virtual Schema Adapter request into the abstract representation of that request
@@ -28,6 +61,18 @@ public class RequestParser extends AbstractRequestParser {
      * @throws RequestParserException if an unknown request type is encountered
      */
     public AdapterRequest parse(final String rawRequest) {
+        return parse(new StringReader(rawRequest));
+    }
+
+    /**
+     * Parse a character stream containing a Virtual Schema Adapter request into the abstract representation of that
+     * request
+     *
+     * @param rawRequest request as JSON character stream
+     * @return parsed request
+     * @throws RequestParserException if an unknown request type is encountered
+     */
+    public AdapterRequest parse(final Reader rawRequest) {
         try (final JsonReader reader = createJsonReader(rawRequest)) {
             return parseFromReader(reader);
         }
@@ -52,13 +97,17 @@ public class RequestParser extends AbstractRequestParser {
         case REQUEST_TYPE_PUSHDOWN:
             return parsePushdownRequest(root, metadataInfo);
         default:
-            throw new RequestParserException(ExaError.messageBuilder("E-VS-COM-JAVA-16")
-                    .message("Could not parse unknown adapter request type identifier {{type}}.")
-                    .mitigation("Check whether versions of Exasol database and Virtual Schema Adapter are compatible.")
-                    .parameter("type", type).toString());
+            throw createUnknownRequestTypeException(type);
         }
     }
 
+    static RequestParserException createUnknownRequestTypeException(final String type) {
+        return new RequestParserException(ExaError.messageBuilder("E-VS-COM-JAVA-16")
+                .message("Could not parse unknown adapter request type identifier {{type}}.")
+                .mitigation("Check whether versions of Exasol database and Virtual Schema Adapter are compatible.")
+                .parameter("type", type).toString());
+    }
+
     private AbstractAdapterRequest parseRefreshRequest(final JsonObject root, final SchemaMetadataInfo metadataInfo) {
         if (root.containsKey(REFRESH_TABLES_KEY)) {
             final List<String> tables = root.getJsonArray(REFRESH_TABLES_KEY) //
@@ -72,13 +121,13 @@ public class RequestParser extends AbstractRequestParser {
     }
 
     private AbstractAdapterRequest parsePushdownRequest(final JsonObject root, final SchemaMetadataInfo metadataInfo) {
-        final SqlStatement statement = parsePushdownStatement(root);
         final List<TableMetadata> involvedTables = parseInvolvedTables(root);
+        final SqlStatement statement = parsePushdownStatement(root, involvedTables);
         return new PushDownRequest(metadataInfo, statement, involvedTables);
     }
 
     private List<TableMetadata> parseInvolvedTables(final JsonObject root) {
-        return TablesMetadataParser.create().parse(root.getJsonArray(INVOLVED_TABLES_KEY));
+        return this.tablesMetadataParser.parse(root.getJsonArray(INVOLVED_TABLES_KEY));
     }
 
     private String readRequestType(final JsonObject root) {
@@ -90,16 +139,28 @@ public class RequestParser extends AbstractRequestParser {
             final JsonObject schemaMetadataInfoAsJson = root.getJsonObject(SCHEMA_METADATA_INFO_KEY);
             return new SchemaMetadataInfoParser().parse(schemaMetadataInfoAsJson);
         } else {
-            LOGGER.severe("Missing metadata information trying to parse adapter request.");
-            return new SchemaMetadataInfo("UNKNOWN", "", new HashMap<>());
+            return createUnknownSchemaMetadataInfo();
         }
     }
 
-    private SqlStatement parsePushdownStatement(final JsonObject root) {
-        final List<TableMetadata> involvedTables = parseInvolvedTables(root);
-        final PushdownSqlParser pushdownSqlParser = PushdownSqlParser.createWithTablesMetadata(involvedTables);
+    static SchemaMetadataInfo createUnknownSchemaMetadataInfo() {
+        LOGGER.severe("Missing metadata information trying to parse adapter request.");
+        return new SchemaMetadataInfo("UNKNOWN", "", new HashMap<>());
+    }
+
+    private SqlStatement parsePushdownStatement(final JsonObject root, final List<TableMetadata> involvedTables) {
+        final PushdownSqlParser pushdownSqlParser = createPushdownSqlParser(involvedTables);
         final JsonObject jsonPushdownStatement = root.getJsonObject(PUSHDOW_REQUEST_KEY);
-        return (SqlStatement) pushdownSqlParser.parseExpression(jsonPushdownStatement);
+        return pushdownSqlParser.parseStatement(jsonPushdownStatement);
+    }
+
+    TablesMetadataParser getTablesMetadataParser() {
+        return this.tablesMetadataParser;
+    }
+
+    PushdownSqlParser createPushdownSqlParser(final List<TableMetadata> involvedTables) {
+        return this.lazySelect ? PushdownSqlParser.createLazyWithTablesMetadata(involvedTables)
+                : PushdownSqlParser.createWithTablesMetadata(involvedTables);
     }
 
     /**
@@ -110,4 +171,14 @@ public class RequestParser extends AbstractRequestParser {
     public static RequestParser create() {
         return new RequestParser();
     }
+
+    /**
+     * Create a {@link RequestParser} that parses the clauses of push-down SELECT statements on first access.
+     *
+     * @return request parser instance
+     * @see com.exasol.adapter.sql.LazySqlStatementSelect
+     */
+    public static RequestParser createWithLazySelect() {
+        return new RequestParser(true);
+    }
 }
\ No newline at end of file
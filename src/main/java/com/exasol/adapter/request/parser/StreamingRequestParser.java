@@ -0,0 +1,230 @@
+package com.exasol.adapter.request.parser;
+
+import static com.exasol.adapter.request.parser.RequestParserConstants.*;
+
+import java.io.Reader;
+import java.util.*;
+
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import com.exasol.adapter.metadata.SchemaMetadataInfo;
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.request.*;
+import com.exasol.adapter.sql.SqlStatement;
+
+/**
+ * Parser for JSON structures representing a Virtual Schema Adapter request that works on a stream of JSON parser
+ * events.
+ *
+ * <p>
+ * Unlike the {@link RequestParser} this parser does not materialize the complete request as JSON object tree before
+ * evaluating it. The involved tables and their columns are built directly from the parser events. Only the push-down
+ * statement is kept as JSON object until the end of the request, because the Exasol database sends it before the
+ * involved tables that are needed to resolve the columns it references.
+ * </p>
+ * <p>
+ * Both parsers produce the same requests, so the {@link RequestParser} can still be used to compare results.
+ * </p>
+ */
+public class StreamingRequestParser extends RequestParser {
+    /**
+     * Create a {@link StreamingRequestParser} that parses push-down statements completely.
+     */
+    public StreamingRequestParser() {
+        this(false);
+    }
+
+    /**
+     * Create a {@link StreamingRequestParser}.
+     *
+     * @param lazySelect <code>true</code> if the clauses of push-down SELECT statements should only be parsed on first
+     *                   access
+     */
+    protected StreamingRequestParser(final boolean lazySelect) {
+        super(lazySelect);
+    }
+
+    /**
+     * Create a {@link StreamingRequestParser} with a specific parser for the involved tables.
+     *
+     * @param lazySelect           <code>true</code> if the clauses of push-down SELECT statements should only be parsed
+     *                             on first access
+     * @param tablesMetadataParser parser for the metadata of the involved tables, for example a parallel one
+     */
+    protected StreamingRequestParser(final boolean lazySelect, final TablesMetadataParser tablesMetadataParser) {
+        super(lazySelect, tablesMetadataParser);
+    }
+
+    /**
+     * Parse a character stream containing a Virtual Schema Adapter request into the abstract representation of that
+     * request
+     *
+     * @param rawRequest request as JSON character stream
+     * @return parsed request
+     * @throws RequestParserException if an unknown request type is encountered
+     */
+    @Override
+    public AdapterRequest parse(final Reader rawRequest) {
+        try (final JsonParser parser = createJsonParser(rawRequest)) {
+            return parseFromParser(parser);
+        }
+    }
+
+    private AdapterRequest parseFromParser(final JsonParser parser) {
+        expectEvent(parser, Event.START_OBJECT, "root");
+        final RequestFragments fragments = new RequestFragments();
+        Event event = parser.next();
+        while (event == Event.KEY_NAME) {
+            readRequestFragment(parser, parser.getString(), fragments);
+            event = parser.next();
+        }
+        return createRequest(fragments);
+    }
+
+    private void readRequestFragment(final JsonParser parser, final String key, final RequestFragments fragments) {
+        final Event event = parser.next();
+        switch (key) {
+        case ADAPTER_REQUEST_TYPE_KEY:
+            fragments.type = readString(parser, event, null);
+            break;
+        case SCHEMA_METADATA_INFO_KEY:
+            fragments.schemaMetadataInfo = new SchemaMetadataInfoParser().parse(readObject(parser, event, key));
+            break;
+        case PROPERTIES_KEY:
+            fragments.properties = convertJsonObjectToPropertyMap(readObject(parser, event, key));
+            break;
+        case REFRESH_TABLES_KEY:
+            fragments.requestedTables = readStringList(parser, event, key);
+            break;
+        case INVOLVED_TABLES_KEY:
+            fragments.involvedTables = readInvolvedTables(parser, event);
+            break;
+        case PUSHDOW_REQUEST_KEY:
+            fragments.pushdownStatement = readObject(parser, event, key);
+            break;
+        default:
+            skipValue(parser, event);
+        }
+    }
+
+    private JsonObject readObject(final JsonParser parser, final Event event, final String key) {
+        if (event == Event.START_OBJECT) {
+            return parser.getObject();
+        } else {
+            throw createUnexpectedEventException(event, key);
+        }
+    }
+
+    private List<String> readStringList(final JsonParser parser, final Event arrayEvent, final String key) {
+        if (arrayEvent != Event.START_ARRAY) {
+            throw createUnexpectedEventException(arrayEvent, key);
+        }
+        final List<String> values = new ArrayList<>();
+        Event event = parser.next();
+        while (event == Event.VALUE_STRING) {
+            values.add(parser.getString());
+            event = parser.next();
+        }
+        if (event != Event.END_ARRAY) {
+            throw createUnexpectedEventException(event, key);
+        }
+        return values;
+    }
+
+    private List<TableMetadata> readInvolvedTables(final JsonParser parser, final Event event) {
+        if (event != Event.START_ARRAY) {
+            throw createUnexpectedEventException(event, INVOLVED_TABLES_KEY);
+        }
+        return getTablesMetadataParser().parse(parser);
+    }
+
+    private AdapterRequest createRequest(final RequestFragments fragments) {
+        final String type = fragments.type;
+        final SchemaMetadataInfo metadataInfo = (fragments.schemaMetadataInfo == null)
+                ? createUnknownSchemaMetadataInfo()
+                : fragments.schemaMetadataInfo;
+        switch (type) {
+        case REQUEST_TYPE_DROP_VIRTUAL_SCHEMA:
+            return new DropVirtualSchemaRequest(metadataInfo);
+        case REQUEST_TYPE_CREATE_VIRTUAL_SCHEMA:
+            return new CreateVirtualSchemaRequest(metadataInfo);
+        case REQUEST_TYPE_REFRESH:
+            return createRefreshRequest(fragments, metadataInfo);
+        case REQUEST_TYPE_SET_PROPERTIES:
+            return new SetPropertiesRequest(metadataInfo, fragments.properties);
+        case REQUEST_TYPE_GET_CAPABILITIES:
+            return new GetCapabilitiesRequest(metadataInfo);
+        case REQUEST_TYPE_PUSHDOWN:
+            return createPushdownRequest(fragments, metadataInfo);
+        default:
+            throw createUnknownRequestTypeException(type);
+        }
+    }
+
+    private AdapterRequest createRefreshRequest(final RequestFragments fragments,
+            final SchemaMetadataInfo metadataInfo) {
+        if (fragments.requestedTables == null) {
+            return new RefreshRequest(metadataInfo);
+        } else {
+            return new RefreshRequest(metadataInfo, fragments.requestedTables);
+        }
+    }
+
+    private AdapterRequest createPushdownRequest(final RequestFragments fragments,
+            final SchemaMetadataInfo metadataInfo) {
+        final List<TableMetadata> involvedTables = fragments.involvedTables;
+        final PushdownSqlParser pushdownSqlParser = createPushdownSqlParser(involvedTables);
+        final SqlStatement statement = pushdownSqlParser.parseStatement(fragments.pushdownStatement);
+        return new PushDownRequest(metadataInfo, statement, involvedTables);
+    }
+
+    /**
+     * Create a {@link StreamingRequestParser}
+     *
+     * @return request parser instance
+     */
+    public static StreamingRequestParser create() {
+        return new StreamingRequestParser();
+    }
+
+    /**
+     * Create a {@link StreamingRequestParser} that parses the clauses of push-down SELECT statements on first access.
+     *
+     * @return request parser instance
+     * @see com.exasol.adapter.sql.LazySqlStatementSelect
+     */
+    public static StreamingRequestParser createWithLazySelect() {
+        return new StreamingRequestParser(true);
+    }
+
+    /**
+     * Create a {@link StreamingRequestParser} with a specific parser for the involved tables.
+     * <p>
+     * A parallel {@link TablesMetadataParser} reads the involved tables array as a whole instead of streaming it, so
+     * that large arrays can be parsed on multiple cores. The rest of the request is still streamed.
+     * </p>
+     *
+     * @param lazySelect           <code>true</code> if the clauses of push-down SELECT statements should only be parsed
+     *                             on first access
+     * @param tablesMetadataParser parser for the metadata of the involved tables
+     * @return request parser instance
+     */
+    public static StreamingRequestParser create(final boolean lazySelect,
+            final TablesMetadataParser tablesMetadataParser) {
+        return new StreamingRequestParser(lazySelect, tablesMetadataParser);
+    }
+
+    /**
+     * Parts of the request collected while reading the parser events.
+     */
+    private static final class RequestFragments {
+        private String type;
+        private SchemaMetadataInfo schemaMetadataInfo;
+        private Map<String, String> properties = Collections.emptyMap();
+        private List<String> requestedTables;
+        private List<TableMetadata> involvedTables = Collections.emptyList();
+        private JsonObject pushdownStatement;
+    }
+}
@@ -2,28 +2,73 @@ package com.exasol.adapter.request.parser;
 
 import static com.exasol.adapter.request.parser.RequestParserConstants.*;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import javax.json.*;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
+import com.exasol.adapter.jfr.TablesMetadataParseEvent;
 import com.exasol.adapter.metadata.*;
 import com.exasol.errorreporting.ExaError;
 
 /**
  * This class provides a parser for table metadata
+ *
+ * <p>
+ * Parsers created with {@link #createParallel()} parse the tables of large JSON arrays in parallel on a
+ * {@link ForkJoinPool}. The resulting list has the same order as the input in both modes.
+ * </p>
  */
-public class TablesMetadataParser {
+public class TablesMetadataParser extends AbstractRequestParser {
+    /** Minimum number of tables for which a parallel parser stops parsing sequentially by default */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+    private static final int TASKS_PER_WORKER = 4;
+    private static final EnumNameLookup<DataType.ExaDataType> DATA_TYPES = EnumNameLookup
+            .of(DataType.ExaDataType.class);
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
     /**
      * Create a new instance of a {@link TablesMetadataParser}
      *
      * @return new {@link TablesMetadataParser} instance
      */
     public static TablesMetadataParser create() {
-        return new TablesMetadataParser();
+        return new TablesMetadataParser(null, Integer.MAX_VALUE);
     }
 
-    private TablesMetadataParser() {
+    /**
+     * Create a new instance of a {@link TablesMetadataParser} that parses large table lists in parallel on the common
+     * {@link ForkJoinPool}.
+     *
+     * @return new {@link TablesMetadataParser} instance
+     */
+    public static TablesMetadataParser createParallel() {
+        return createParallel(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Create a new instance of a {@link TablesMetadataParser} that parses large table lists in parallel.
+     *
+     * @param pool              pool the tables are parsed on
+     * @param parallelThreshold minimum number of tables for parsing in parallel; smaller lists are parsed sequentially
+     * @return new {@link TablesMetadataParser} instance
+     */
+    public static TablesMetadataParser createParallel(final ForkJoinPool pool, final int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-41")
+                    .message("Invalid parallel parsing threshold {{threshold}}.", parallelThreshold)
+                    .mitigation("Use a threshold of at least 1.").toString());
+        }
+        return new TablesMetadataParser(Objects.requireNonNull(pool, "pool"), parallelThreshold);
+    }
+
+    private TablesMetadataParser(final ForkJoinPool pool, final int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
@@ -33,24 +78,224 @@ public class TablesMetadataParser {
      * @return list of {@link TableMetadata}
      */
     public List<TableMetadata> parse(final JsonArray tablesAsJson) {
-        return parseTables(tablesAsJson);
+        final TablesMetadataParseEvent event = new TablesMetadataParseEvent();
+        event.begin();
+        List<TableMetadata> tables = null;
+        try {
+            tables = parseTables(tablesAsJson);
+            return tables;
+        } finally {
+            event.commit(tables, isParallel(tablesAsJson), false);
+        }
     }
 
-    private List<TableMetadata> parseTables(final JsonArray jsonArray) {
-        final List<TableMetadata> tables = new ArrayList<>();
-        for (final JsonObject table : jsonArray.getValuesAs(JsonObject.class)) {
-            final String tableName = table.getString(TABLE_NAME_KEY, "");
-            final String tableAdapterNotes = readAdapterNotes(table);
-            final String tableComment = table.getString(TABLE_COMMENT_KEY, "");
-            final List<ColumnMetadata> columns = new ArrayList<>();
-            for (final JsonObject column : table.getJsonArray(TABLE_COLUMNS_KEY).getValuesAs(JsonObject.class)) {
-                columns.add(parseColumnMetadata(column));
+    /**
+     * Parse a list of tables directly from the events of a streaming JSON parser.
+     *
+     * <p>
+     * The parser must be positioned on the start of the JSON array of table metadata. After parsing the parser is
+     * positioned on the end of that array.
+     * </p>
+     * <p>
+     * A parallel parser reads the array as a whole with {@link JsonParser#getArray()} and then parses it like
+     * {@link #parse(JsonArray)}, because the events of a single parser can only be consumed sequentially.
+     * </p>
+     *
+     * @param parser JSON parser positioned on the start of the table metadata array
+     * @return list of {@link TableMetadata}
+     */
+    public List<TableMetadata> parse(final JsonParser parser) {
+        if (this.pool != null) {
+            return parse(parser.getArray());
+        }
+        final TablesMetadataParseEvent parseEvent = new TablesMetadataParseEvent();
+        parseEvent.begin();
+        List<TableMetadata> result = null;
+        try {
+            final List<TableMetadata> tables = new ArrayList<>();
+            Event event = parser.next();
+            while (event == Event.START_OBJECT) {
+                tables.add(parseTable(parser));
+                event = parser.next();
+            }
+            if (event != Event.END_ARRAY) {
+                throw createUnexpectedEventException(event, "tables metadata");
+            }
+            result = tables;
+            return tables;
+        } finally {
+            parseEvent.commit(result, false, true);
+        }
+    }
+
+    private TableMetadata parseTable(final JsonParser parser) {
+        String tableName = "";
+        String tableAdapterNotes = "";
+        String tableComment = "";
+        List<ColumnMetadata> columns = Collections.emptyList();
+        Event event = parser.next();
+        while (event == Event.KEY_NAME) {
+            final String key = parser.getString();
+            final Event valueEvent = parser.next();
+            switch (key) {
+            case TABLE_NAME_KEY:
+                tableName = readString(parser, valueEvent, "");
+                break;
+            case ADAPTER_NOTES_KEY:
+                tableAdapterNotes = readAdapterNotes(parser, valueEvent);
+                break;
+            case TABLE_COMMENT_KEY:
+                tableComment = readString(parser, valueEvent, "");
+                break;
+            case TABLE_COLUMNS_KEY:
+                columns = parseColumns(parser, valueEvent);
+                break;
+            default:
+                skipValue(parser, valueEvent);
+            }
+            event = parser.next();
+        }
+        return new TableMetadata(tableName, tableAdapterNotes, columns, tableComment);
+    }
+
+    private List<ColumnMetadata> parseColumns(final JsonParser parser, final Event arrayEvent) {
+        if (arrayEvent != Event.START_ARRAY) {
+            throw createUnexpectedEventException(arrayEvent, TABLE_COLUMNS_KEY);
+        }
+        final List<ColumnMetadata> columns = new ArrayList<>();
+        Event event = parser.next();
+        while (event == Event.START_OBJECT) {
+            columns.add(parseColumnMetadata(parser));
+            event = parser.next();
+        }
+        if (event != Event.END_ARRAY) {
+            throw createUnexpectedEventException(event, TABLE_COLUMNS_KEY);
+        }
+        return columns;
+    }
+
+    private ColumnMetadata parseColumnMetadata(final JsonParser parser) {
+        final ColumnMetadata.Builder builder = ColumnMetadata.builder().adapterNotes("").nullable(true).identity(true)
+                .defaultValue("").comment("");
+        Event event = parser.next();
+        while (event == Event.KEY_NAME) {
+            final String key = parser.getString();
+            final Event valueEvent = parser.next();
+            switch (key) {
+            case TABLE_NAME_KEY:
+                builder.name(readString(parser, valueEvent, null));
+                break;
+            case ADAPTER_NOTES_KEY:
+                builder.adapterNotes(readAdapterNotes(parser, valueEvent));
+                break;
+            case TABLE_COMMENT_KEY:
+                builder.comment(readString(parser, valueEvent, ""));
+                break;
+            case "default":
+                builder.defaultValue(readString(parser, valueEvent, ""));
+                break;
+            case "isNullable":
+                builder.nullable(readBoolean(valueEvent, key));
+                break;
+            case "isIdentity":
+                builder.identity(readBoolean(valueEvent, key));
+                break;
+            case DATA_TYPE:
+                builder.type(readDataType(parser, valueEvent));
+                break;
+            default:
+                skipValue(parser, valueEvent);
             }
-            tables.add(new TableMetadata(tableName, tableAdapterNotes, columns, tableComment));
+            event = parser.next();
+        }
+        return builder.build();
+    }
+
+    private String readAdapterNotes(final JsonParser parser, final Event event) {
+        if (event == Event.VALUE_STRING) {
+            return parser.getString();
+        } else {
+            return parser.getValue().toString();
+        }
+    }
+
+    private DataType readDataType(final JsonParser parser, final Event event) {
+        if (event != Event.START_OBJECT) {
+            throw createUnexpectedEventException(event, DATA_TYPE);
+        }
+        return getDataType(parser.getObject());
+    }
+
+    private List<TableMetadata> parseTables(final JsonArray jsonArray) {
+        final List<JsonObject> jsonTables = jsonArray.getValuesAs(JsonObject.class);
+        if (isParallel(jsonArray)) {
+            return parseTablesInParallel(jsonTables);
+        }
+        final List<TableMetadata> tables = new ArrayList<>(jsonTables.size());
+        for (final JsonObject table : jsonTables) {
+            tables.add(parseTable(table));
         }
         return tables;
     }
 
+    private boolean isParallel(final JsonArray jsonArray) {
+        return (this.pool != null) && (jsonArray != null) && (jsonArray.size() >= this.parallelThreshold);
+    }
+
+    private List<TableMetadata> parseTablesInParallel(final List<JsonObject> jsonTables) {
+        final TableMetadata[] tables = new TableMetadata[jsonTables.size()];
+        final int batchSize = Math.max(1, tables.length / (this.pool.getParallelism() * TASKS_PER_WORKER));
+        this.pool.invoke(new ParseTablesTask(jsonTables, tables, 0, tables.length, batchSize));
+        return new ArrayList<>(Arrays.asList(tables));
+    }
+
+    private TableMetadata parseTable(final JsonObject table) {
+        final String tableName = table.getString(TABLE_NAME_KEY, "");
+        final String tableAdapterNotes = readAdapterNotes(table);
+        final String tableComment = table.getString(TABLE_COMMENT_KEY, "");
+        final List<JsonObject> jsonColumns = table.getJsonArray(TABLE_COLUMNS_KEY).getValuesAs(JsonObject.class);
+        final List<ColumnMetadata> columns = new ArrayList<>(jsonColumns.size());
+        for (final JsonObject column : jsonColumns) {
+            columns.add(parseColumnMetadata(column));
+        }
+        return new TableMetadata(tableName, tableAdapterNotes, columns, tableComment);
+    }
+
+    /**
+     * Parses a range of tables, splitting it in halves until the range is small enough. Each result is stored at the
+     * index of its input, so the order does not depend on the order in which the tasks finish.
+     */
+    private final class ParseTablesTask extends RecursiveAction {
+        private static final long serialVersionUID = 3416406183563618221L;
+        private final transient List<JsonObject> jsonTables;
+        private final TableMetadata[] tables;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+
+        private ParseTablesTask(final List<JsonObject> jsonTables, final TableMetadata[] tables, final int from,
+                final int to, final int batchSize) {
+            this.jsonTables = jsonTables;
+            this.tables = tables;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if ((this.to - this.from) <= this.batchSize) {
+                for (int i = this.from; i < this.to; ++i) {
+                    this.tables[i] = parseTable(this.jsonTables.get(i));
+                }
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new ParseTablesTask(this.jsonTables, this.tables, this.from, middle, this.batchSize),
+                        new ParseTablesTask(this.jsonTables, this.tables, middle, this.to, this.batchSize));
+            }
+        }
+    }
+
     private ColumnMetadata parseColumnMetadata(final JsonObject column) {
         final String columnName = column.getString(TABLE_NAME_KEY);
         final String adapterNotes = readAdapterNotes(column);
@@ -65,11 +310,8 @@ public class TablesMetadataParser {
     }
 
     private String readAdapterNotes(final JsonObject root) {
-        if (root.containsKey("adapterNotes")) {
-            final JsonValue notes = root.get("adapterNotes");
-            return getAdapterNotesString(notes);
-        }
-        return "";
+        final JsonValue notes = root.get(ADAPTER_NOTES_KEY);
+        return (notes == null) ? "" : getAdapterNotesString(notes);
     }
 
     private String getAdapterNotesString(final JsonValue notes) {
@@ -81,34 +323,32 @@ public class TablesMetadataParser {
     }
 
     private boolean applyBooleanValue(final JsonObject column, final String bolleanName) {
-        if (column.containsKey(bolleanName)) {
-            return column.getBoolean(bolleanName);
-        }
-        return true;
+        return column.getBoolean(bolleanName, true);
     }
 
     private DataType getDataType(final JsonObject dataType) {
-        final String typeName = dataType.getString("type").toUpperCase();
-        switch (typeName) {
-        case "DECIMAL":
+        final String typeName = dataType.getString("type");
+        final DataType.ExaDataType type = DATA_TYPES.find(typeName);
+        switch ((type == null) ? DataType.ExaDataType.UNSUPPORTED : type) {
+        case DECIMAL:
             return getDecimalDataType(dataType);
-        case "DOUBLE":
+        case DOUBLE:
             return getDoubleDataType();
-        case "VARCHAR":
+        case VARCHAR:
             return getVarcharDataType(dataType);
-        case "CHAR":
+        case CHAR:
             return getCharDataType(dataType);
-        case "BOOLEAN":
+        case BOOLEAN:
             return getBooleanDataType();
-        case "DATE":
+        case DATE:
             return getDateDataType();
-        case "TIMESTAMP":
+        case TIMESTAMP:
             return getTimestampDataType(dataType);
-        case "INTERVAL":
+        case INTERVAL:
             return getIntervalDataType(dataType);
-        case "GEOMETRY":
+        case GEOMETRY:
             return getGeometryDataType(dataType);
-        case "HASHTYPE":
+        case HASHTYPE:
             return getHashtypeDataType(dataType);
         default:
             throw new RequestParserException(ExaError.messageBuilder("E-VS-COM-JAVA-18")
@@ -1,16 +1,36 @@
 package com.exasol.adapter.response;
 
-import com.exasol.adapter.metadata.SchemaMetadata;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.exasol.adapter.metadata.*;
 import com.exasol.adapter.response.converter.ResponseException;
 import com.exasol.errorreporting.ExaError;
 
 /**
  * This class is an abstract representation of a response created by a Virtual Schema Adapter as result of a request to
  * refresh the virtual schema.
+ * <p>
+ * If the refresh was requested for selected tables only, the response echoes the requested tables and only contains
+ * their metadata. If the adapter provides the previous metadata snapshot and nothing changed, the response contains no
+ * schema metadata at all, which tells the database that there is nothing to refresh.
+ * </p>
  */
 public final class RefreshResponse extends AbstractResponse {
+    private final List<String> requestedTables;
+
     private RefreshResponse(final Builder builder) {
-        super(builder.schemaMetadata);
+        super(builder.createResponseSchemaMetadata());
+        this.requestedTables = builder.requestedTables;
+    }
+
+    /**
+     * Get the tables the refresh was requested for
+     *
+     * @return requested tables or <code>null</code> if the whole Virtual Schema was refreshed
+     */
+    public List<String> getRequestedTables() {
+        return this.requestedTables;
     }
 
     /**
@@ -27,6 +47,8 @@ public final class RefreshResponse extends AbstractResponse {
      */
     public static class Builder {
         private SchemaMetadata schemaMetadata;
+        private SchemaMetadata previousSchemaMetadata;
+        private List<String> requestedTables;
 
         /**
          * Add the Virtual Schema's metadata
@@ -39,6 +61,35 @@ public final class RefreshResponse extends AbstractResponse {
             return this;
         }
 
+        /**
+         * Add the Virtual Schema's metadata as it was before the refresh
+         * <p>
+         * If the new metadata do not differ from this snapshot, the response omits the schema metadata.
+         * </p>
+         *
+         * @param previousSchemaMetadata Virtual Schema's metadata before the refresh
+         * @return builder instance for fluent programming
+         */
+        public Builder previousSchemaMetadata(final SchemaMetadata previousSchemaMetadata) {
+            this.previousSchemaMetadata = previousSchemaMetadata;
+            return this;
+        }
+
+        /**
+         * Add the tables the refresh was requested for
+         * <p>
+         * Use this for refresh requests restricted to selected tables. The response then only contains the metadata of
+         * these tables, even if the schema metadata contain more.
+         * </p>
+         *
+         * @param requestedTables tables from {@link com.exasol.adapter.request.RefreshRequest#getTables()}
+         * @return builder instance for fluent programming
+         */
+        public Builder requestedTables(final List<String> requestedTables) {
+            this.requestedTables = requestedTables;
+            return this;
+        }
+
         /**
          * Create new {@link RefreshResponse} instance
          *
@@ -58,5 +109,25 @@ public final class RefreshResponse extends AbstractResponse {
                         .toString());
             }
         }
+
+        private SchemaMetadata createResponseSchemaMetadata() {
+            final SchemaMetadata current = restrictToRequestedTables(this.schemaMetadata);
+            if (this.previousSchemaMetadata == null) {
+                return current;
+            }
+            final SchemaMetadata previous = restrictToRequestedTables(this.previousSchemaMetadata);
+            return SchemaMetadataDiff.compare(previous, current).hasChanges() ? current : null;
+        }
+
+        private SchemaMetadata restrictToRequestedTables(final SchemaMetadata metadata) {
+            if (this.requestedTables == null) {
+                return metadata;
+            }
+            final Set<String> tableNames = new HashSet<>(this.requestedTables);
+            final List<TableMetadata> tables = metadata.getTables().stream()
+                    .filter(table -> tableNames.contains(table.getName())) //
+                    .collect(Collectors.toList());
+            return new SchemaMetadata(metadata.getAdapterNotes(), tables);
+        }
     }
 }
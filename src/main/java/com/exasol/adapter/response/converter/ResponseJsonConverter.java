@@ -1,23 +1,56 @@
 package com.exasol.adapter.response.converter;
 
-import javax.json.*;
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
-import com.exasol.adapter.capabilities.*;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+
+import com.exasol.adapter.capabilities.Capabilities;
+import com.exasol.adapter.jfr.ResponseConversionEvent;
+import com.exasol.adapter.metadata.SchemaMetadata;
+import com.exasol.adapter.metadata.TableMetadata;
 import com.exasol.adapter.metadata.converter.SchemaMetadataJsonConverter;
 import com.exasol.adapter.response.*;
+import com.exasol.errorreporting.ExaError;
 
 /**
  * Converts response into JSON format
+ * <p>
+ * The responses are streamed through a {@link JsonGenerator} instead of being built as JSON object tree first. Each
+ * conversion is available in two variants: one that returns the JSON as string and one that writes it to a
+ * {@link Writer} provided by the caller. The writer is flushed but not closed.
+ * </p>
+ * <p>
+ * Converters created with {@link #createParallel(ForkJoinPool, int)} serialize the tables of large schemas in batches
+ * on a {@link ForkJoinPool}. The batches are written in table order, so the output is identical to the sequential
+ * conversion.
+ * </p>
  */
 public final class ResponseJsonConverter {
-    private static final String SCALAR_FUNCTION_PREFIX = "FN_";
-    private static final String PREDICATE_PREFIX = "FN_PRED_";
-    private static final String AGGREGATE_FUNCTION_PREFIX = "FN_AGG_";
-    private static final String LITERAL_PREFIX = "LITERAL_";
+    /** Minimum number of tables for which a parallel converter stops converting sequentially by default */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+    private static final int BATCHES_PER_WORKER = 4;
+    private static final int MAX_CACHED_CAPABILITIES_RESPONSES = 16;
     private static final String SCHEMA_METADATA = "schemaMetadata";
-    private static final ResponseJsonConverter responseJsonConverter = new ResponseJsonConverter();
+    private static final String TABLES = "tables";
+    private static final String ADAPTER_NOTES = "adapterNotes";
+    private static final String TYPE = "type";
+    private static final ResponseJsonConverter responseJsonConverter = new ResponseJsonConverter(null,
+            Integer.MAX_VALUE);
+    private final JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory(Collections.emptyMap());
+    private final Map<Capabilities, String> capabilitiesResponseCache = new ConcurrentHashMap<>();
+    private final SchemaMetadataJsonConverter schemaMetadataConverter = SchemaMetadataJsonConverter.getInstance();
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
 
-    private ResponseJsonConverter() {
+    private ResponseJsonConverter(final ForkJoinPool pool, final int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
@@ -29,18 +62,64 @@ public final class ResponseJsonConverter {
         return responseJsonConverter;
     }
 
+    /**
+     * Returns the instance of {@link ResponseJsonConverter} that converts the schema metadata of large refresh and set
+     * properties responses in parallel.
+     * <p>
+     * The JSON is the same as the one produced by {@link #getInstance()}.
+     * </p>
+     *
+     * @return {@link ResponseJsonConverter} instance
+     */
+    public static ResponseJsonConverter getParallelInstance() {
+        return ParallelInstanceHolder.INSTANCE;
+    }
+
+    private static final class ParallelInstanceHolder {
+        private static final ResponseJsonConverter INSTANCE = createParallel(ForkJoinPool.commonPool(),
+                DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Create a converter that converts the schema metadata of large refresh and set properties responses in parallel.
+     *
+     * @param pool              pool the tables are serialized on
+     * @param parallelThreshold minimum number of tables for parallel conversion; smaller schemas are written
+     *                          sequentially
+     * @return new converter instance
+     */
+    public static ResponseJsonConverter createParallel(final ForkJoinPool pool, final int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-42")
+                    .message("Invalid parallel conversion threshold {{threshold}}.", parallelThreshold)
+                    .mitigation("Use a threshold of at least 1.").toString());
+        }
+        return new ResponseJsonConverter(Objects.requireNonNull(pool, "pool"), parallelThreshold);
+    }
+
     /**
      * Converts drop virtual schema response into a JSON format
      *
      * @param dropResponse instance
      * @return string representation of a JSON Object
      */
-    @SuppressWarnings("squid:S1172")
     public String convertDropVirtualSchemaResponse(final DropVirtualSchemaResponse dropResponse) {
-        return Json.createObjectBuilder() //
-                .add("type", "dropVirtualSchema") //
-                .build() //
-                .toString();
+        return convertToString("dropVirtualSchema", writer -> convertDropVirtualSchemaResponse(dropResponse, writer));
+    }
+
+    /**
+     * Writes drop virtual schema response in JSON format
+     *
+     * @param dropResponse instance
+     * @param writer       writer the JSON object is written to
+     */
+    @SuppressWarnings("squid:S1172")
+    public void convertDropVirtualSchemaResponse(final DropVirtualSchemaResponse dropResponse, final Writer writer) {
+        try (final JsonGenerator generator = createGenerator(writer)) {
+            generator.writeStartObject() //
+                    .write(TYPE, "dropVirtualSchema") //
+                    .writeEnd();
+        }
     }
 
     /**
@@ -50,12 +129,19 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertCreateVirtualSchemaResponse(final CreateVirtualSchemaResponse createResponse) {
-        return Json.createObjectBuilder() //
-                .add("type", "createVirtualSchema") //
-                .add(SCHEMA_METADATA,
-                        SchemaMetadataJsonConverter.getInstance().convert(createResponse.getSchemaMetadata())) //
-                .build() //
-                .toString();
+        return convertToString("createVirtualSchema",
+                writer -> convertCreateVirtualSchemaResponse(createResponse, writer));
+    }
+
+    /**
+     * Writes create virtual schema response in JSON format
+     *
+     * @param createResponse instance
+     * @param writer         writer the JSON object is written to
+     */
+    public void convertCreateVirtualSchemaResponse(final CreateVirtualSchemaResponse createResponse,
+            final Writer writer) {
+        writeSchemaMetadataResponse("createVirtualSchema", createResponse.getSchemaMetadata(), writer);
     }
 
     /**
@@ -65,67 +151,75 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertPushDownResponse(final PushDownResponse pushDownResponse) {
-        return Json.createObjectBuilder() //
-                .add("type", "pushdown") //
-                .add("sql", pushDownResponse.getPushDownSql()) //
-                .build() //
-                .toString();
+        return convertToString("pushdown", writer -> convertPushDownResponse(pushDownResponse, writer));
+    }
+
+    /**
+     * Writes push down response in JSON format
+     *
+     * @param pushDownResponse instance
+     * @param writer           writer the JSON object is written to
+     */
+    public void convertPushDownResponse(final PushDownResponse pushDownResponse, final Writer writer) {
+        try (final JsonGenerator generator = createGenerator(writer)) {
+            generator.writeStartObject() //
+                    .write(TYPE, "pushdown") //
+                    .write("sql", pushDownResponse.getPushDownSql()) //
+                    .writeEnd();
+        }
     }
 
     /**
      * Converts get capabilities response into a JSON format
+     * <p>
+     * The capabilities of an adapter rarely change, so the JSON is cached per capability set and repeated requests
+     * return the precomputed string.
+     * </p>
      *
      * @param getCapabilitiesResponse instance
      * @return string representation of a JSON Object
      */
     public String convertGetCapabilitiesResponse(final GetCapabilitiesResponse getCapabilitiesResponse) {
-        final JsonObjectBuilder builder = Json.createObjectBuilder().add("type", "getCapabilities");
-        final JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
         final Capabilities capabilities = getCapabilitiesResponse.getCapabilities();
-        addMainCapabilitiesToBuilder(capabilities, arrayBuilder);
-        addScalarFunctionCapabilitiesToBuilder(capabilities, arrayBuilder);
-        addPredicateCapabilitiesToBuilder(capabilities, arrayBuilder);
-        addAggregateCapabilitiesToBuilder(capabilities, arrayBuilder);
-        addLiteralCapabilitiesToBuilder(capabilities, arrayBuilder);
-        builder.add("capabilities", arrayBuilder);
-        return builder.build().toString();
-    }
-
-    private void addLiteralCapabilitiesToBuilder(final Capabilities capabilities, final JsonArrayBuilder arrayBuilder) {
-        for (final LiteralCapability literal : capabilities.getLiteralCapabilities()) {
-            final String capName = LITERAL_PREFIX + literal.name();
-            arrayBuilder.add(capName);
+        final String cachedResponse = this.capabilitiesResponseCache.get(capabilities);
+        if (cachedResponse != null) {
+            return cachedResponse;
         }
-    }
-
-    private void addAggregateCapabilitiesToBuilder(final Capabilities capabilities,
-            final JsonArrayBuilder arrayBuilder) {
-        for (final AggregateFunctionCapability function : capabilities.getAggregateFunctionCapabilities()) {
-            final String capName = AGGREGATE_FUNCTION_PREFIX + function.name();
-            arrayBuilder.add(capName);
+        final String response = convertToString("getCapabilities",
+                writer -> writeGetCapabilitiesResponse(capabilities, writer));
+        if (this.capabilitiesResponseCache.size() < MAX_CACHED_CAPABILITIES_RESPONSES) {
+            this.capabilitiesResponseCache.putIfAbsent(capabilities, response);
         }
+        return response;
     }
 
-    private void addPredicateCapabilitiesToBuilder(final Capabilities capabilities,
-            final JsonArrayBuilder arrayBuilder) {
-        for (final PredicateCapability predicate : capabilities.getPredicateCapabilities()) {
-            final String capName = PREDICATE_PREFIX + predicate.name();
-            arrayBuilder.add(capName);
-        }
-    }
-
-    private void addScalarFunctionCapabilitiesToBuilder(final Capabilities capabilities,
-            final JsonArrayBuilder arrayBuilder) {
-        for (final ScalarFunctionCapability function : capabilities.getScalarFunctionCapabilities()) {
-            final String capName = SCALAR_FUNCTION_PREFIX + function.name();
-            arrayBuilder.add(capName);
+    /**
+     * Writes get capabilities response in JSON format
+     *
+     * @param getCapabilitiesResponse instance
+     * @param writer                  writer the JSON object is written to
+     */
+    public void convertGetCapabilitiesResponse(final GetCapabilitiesResponse getCapabilitiesResponse,
+            final Writer writer) {
+        try {
+            writer.write(convertGetCapabilitiesResponse(getCapabilitiesResponse));
+            writer.flush();
+        } catch (final IOException exception) {
+            throw new JsonException(ExaError.messageBuilder("E-VS-COM-JAVA-34")
+                    .message("Unable to write get capabilities response.").toString(), exception);
         }
     }
 
-    private void addMainCapabilitiesToBuilder(final Capabilities capabilities, final JsonArrayBuilder arrayBuilder) {
-        for (final MainCapability capability : capabilities.getMainCapabilities()) {
-            final String capName = capability.name();
-            arrayBuilder.add(capName);
+    private void writeGetCapabilitiesResponse(final Capabilities capabilities, final Writer writer) {
+        try (final JsonGenerator generator = createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.write(TYPE, "getCapabilities");
+            generator.writeStartArray("capabilities");
+            for (final String capabilityName : capabilities.getCapabilityNames()) {
+                generator.write(capabilityName);
+            }
+            generator.writeEnd();
+            generator.writeEnd();
         }
     }
 
@@ -136,12 +230,29 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertRefreshResponse(final RefreshResponse refreshResponse) {
-        return Json.createObjectBuilder() //
-                .add("type", "refresh") //
-                .add(SCHEMA_METADATA,
-                        SchemaMetadataJsonConverter.getInstance().convert(refreshResponse.getSchemaMetadata())) //
-                .build() //
-                .toString();
+        return convertToString("refresh", writer -> convertRefreshResponse(refreshResponse, writer));
+    }
+
+    /**
+     * Writes refresh response in JSON format
+     *
+     * @param refreshResponse instance
+     * @param writer          writer the JSON object is written to
+     */
+    public void convertRefreshResponse(final RefreshResponse refreshResponse, final Writer writer) {
+        try (final JsonGenerator generator = createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.write(TYPE, "refresh");
+            writeSchemaMetadata(refreshResponse.getSchemaMetadata(), generator, writer);
+            if (refreshResponse.getRequestedTables() != null) {
+                generator.writeStartArray("requestedTables");
+                for (final String tableName : refreshResponse.getRequestedTables()) {
+                    generator.write(tableName);
+                }
+                generator.writeEnd();
+            }
+            generator.writeEnd();
+        }
     }
 
     /**
@@ -151,12 +262,141 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertSetPropertiesResponse(final SetPropertiesResponse setPropertiesResponse) {
-        final JsonObjectBuilder builder = Json.createObjectBuilder();
-        builder.add("type", "setProperties");
-        if (setPropertiesResponse.getSchemaMetadata() != null) {
-            builder.add(SCHEMA_METADATA,
-                    SchemaMetadataJsonConverter.getInstance().convert(setPropertiesResponse.getSchemaMetadata()));
+        return convertToString("setProperties", writer -> convertSetPropertiesResponse(setPropertiesResponse, writer));
+    }
+
+    /**
+     * Writes set properties response in JSON format
+     *
+     * @param setPropertiesResponse instance
+     * @param writer                writer the JSON object is written to
+     */
+    public void convertSetPropertiesResponse(final SetPropertiesResponse setPropertiesResponse, final Writer writer) {
+        writeSchemaMetadataResponse("setProperties", setPropertiesResponse.getSchemaMetadata(), writer);
+    }
+
+    private void writeSchemaMetadataResponse(final String type, final SchemaMetadata schemaMetadata,
+            final Writer writer) {
+        try (final JsonGenerator generator = createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.write(TYPE, type);
+            writeSchemaMetadata(schemaMetadata, generator, writer);
+            generator.writeEnd();
+        }
+    }
+
+    private void writeSchemaMetadata(final SchemaMetadata schemaMetadata, final JsonGenerator generator,
+            final Writer writer) {
+        if (schemaMetadata != null) {
+            generator.writeKey(SCHEMA_METADATA);
+            if ((this.pool == null) || (schemaMetadata.getTables().size() < this.parallelThreshold)) {
+                this.schemaMetadataConverter.write(schemaMetadata, generator);
+            } else {
+                writeSchemaMetadataInParallel(schemaMetadata, generator, writer);
+            }
+        }
+    }
+
+    // The tables are serialized in batches with separate generators. The generator is flushed and the batches are
+    // then written directly to its target in table order.
+    private void writeSchemaMetadataInParallel(final SchemaMetadata schemaMetadata, final JsonGenerator generator,
+            final Writer writer) {
+        final List<String> batches = writeTablesInBatches(schemaMetadata.getTables());
+        generator.writeStartObject();
+        generator.writeStartArray(TABLES);
+        generator.flush();
+        try {
+            for (int i = 0; i < batches.size(); ++i) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(batches.get(i));
+            }
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        generator.writeEnd();
+        generator.write(ADAPTER_NOTES, schemaMetadata.getAdapterNotes());
+        generator.writeEnd();
+    }
+
+    private List<String> writeTablesInBatches(final List<TableMetadata> tables) {
+        final int numberOfBatches = Math.min(tables.size(), this.pool.getParallelism() * BATCHES_PER_WORKER);
+        final List<Callable<String>> conversions = new ArrayList<>(numberOfBatches);
+        for (int batch = 0; batch < numberOfBatches; ++batch) {
+            final List<TableMetadata> batchTables = tables.subList(
+                    (int) (((long) tables.size() * batch) / numberOfBatches),
+                    (int) (((long) tables.size() * (batch + 1)) / numberOfBatches));
+            conversions.add(() -> writeTables(batchTables));
+        }
+        final List<String> batches = new ArrayList<>(numberOfBatches);
+        for (final Future<String> future : this.pool.invokeAll(conversions)) {
+            batches.add(getBatch(future));
+        }
+        return batches;
+    }
+
+    // Each batch is written as schema metadata of its own. Only the table array elements between the brackets are
+    // kept, for example {"tables":[<batch>],"adapterNotes":""}.
+    private String writeTables(final List<TableMetadata> tables) {
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = this.generatorFactory.createGenerator(writer)) {
+            this.schemaMetadataConverter.write(new SchemaMetadata("", tables), generator);
+        }
+        final StringBuffer buffer = writer.getBuffer();
+        return buffer.substring(buffer.indexOf("[") + 1, buffer.lastIndexOf("]"));
+    }
+
+    private static String getBatch(final Future<String> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(createParallelConversionErrorMessage(), exception);
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(createParallelConversionErrorMessage(), cause);
+        }
+    }
+
+    private static String createParallelConversionErrorMessage() {
+        return ExaError.messageBuilder("E-VS-COM-JAVA-43")
+                .message("Parallel conversion of the schema metadata to JSON failed.").toString();
+    }
+
+    private JsonGenerator createGenerator(final Writer writer) {
+        return this.generatorFactory.createGenerator(new NonClosingWriter(writer));
+    }
+
+    private static String convertToString(final String responseType, final Consumer<Writer> conversion) {
+        final ResponseConversionEvent event = new ResponseConversionEvent();
+        event.begin();
+        String response = null;
+        try {
+            final StringWriter writer = new StringWriter();
+            conversion.accept(writer);
+            response = writer.toString();
+            return response;
+        } finally {
+            event.commit(responseType, response);
+        }
+    }
+
+    /**
+     * Closing a {@link JsonGenerator} also closes the underlying writer. This wrapper keeps the caller's writer open
+     * and only flushes it.
+     */
+    private static final class NonClosingWriter extends FilterWriter {
+        private NonClosingWriter(final Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
         }
-        return builder.build().toString();
     }
 }
@@ -0,0 +1,252 @@
+package com.exasol.adapter.sql;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link SqlStatementSelect} that creates each clause on first access.
+ *
+ * <p>
+ * Adapters that only inspect part of a statement, for example a pass-through of {@code SELECT *} that never looks at
+ * the filter, do not pay for parsing the clauses they skip. Whether a clause exists is known without creating it, so
+ * {@link #hasFilter()} and the other {@code has...} methods never trigger parsing.
+ * </p>
+ * <p>
+ * Each clause is created at most once, also when the statement is accessed from multiple threads.
+ * </p>
+ */
+public final class LazySqlStatementSelect extends SqlStatementSelect {
+    private final Clause<SqlNode> fromClause;
+    private final Clause<SqlSelectList> selectList;
+    private final Clause<SqlNode> whereClause;
+    private final Clause<SqlExpressionList> groupBy;
+    private final Clause<SqlNode> having;
+    private final Clause<SqlOrderBy> orderBy;
+    private final Clause<SqlLimit> limit;
+
+    private LazySqlStatementSelect(final Builder builder) {
+        this.fromClause = new Clause<>(builder.fromClause);
+        this.selectList = new Clause<>(builder.selectList);
+        this.whereClause = new Clause<>(builder.whereClause);
+        this.groupBy = new Clause<>(builder.groupBy);
+        this.having = new Clause<>(builder.having);
+        this.orderBy = new Clause<>(builder.orderBy);
+        this.limit = new Clause<>(builder.limit);
+    }
+
+    @Override
+    public boolean hasProjection() {
+        return this.selectList.isPresent();
+    }
+
+    @Override
+    public boolean hasGroupBy() {
+        return this.groupBy.isPresent();
+    }
+
+    @Override
+    public boolean hasHaving() {
+        return this.having.isPresent();
+    }
+
+    @Override
+    public boolean hasFilter() {
+        return this.whereClause.isPresent();
+    }
+
+    @Override
+    public boolean hasOrderBy() {
+        return this.orderBy.isPresent();
+    }
+
+    @Override
+    public boolean hasLimit() {
+        return this.limit.isPresent();
+    }
+
+    @Override
+    public SqlNode getFromClause() {
+        return this.fromClause.get();
+    }
+
+    @Override
+    public SqlSelectList getSelectList() {
+        return this.selectList.get();
+    }
+
+    @Override
+    public SqlNode getWhereClause() {
+        return this.whereClause.get();
+    }
+
+    @Override
+    public SqlExpressionList getGroupBy() {
+        return this.groupBy.get();
+    }
+
+    @Override
+    public SqlNode getHaving() {
+        return this.having.get();
+    }
+
+    @Override
+    public SqlOrderBy getOrderBy() {
+        return this.orderBy.get();
+    }
+
+    @Override
+    public SqlLimit getLimit() {
+        return this.limit.get();
+    }
+
+    /**
+     * Create a new builder for {@link LazySqlStatementSelect}.
+     *
+     * @return builder instance
+     */
+    public static Builder lazyBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link LazySqlStatementSelect}.
+     * <p>
+     * Each clause is given as supplier that is called at most once. Leave a clause unset if the statement does not
+     * have it.
+     * </p>
+     */
+    public static final class Builder {
+        private Supplier<? extends SqlNode> fromClause;
+        private Supplier<? extends SqlSelectList> selectList;
+        private Supplier<? extends SqlNode> whereClause;
+        private Supplier<? extends SqlExpressionList> groupBy;
+        private Supplier<? extends SqlNode> having;
+        private Supplier<? extends SqlOrderBy> orderBy;
+        private Supplier<? extends SqlLimit> limit;
+
+        private Builder() {
+            // use lazyBuilder()
+        }
+
+        /**
+         * Set the supplier of the from clause.
+         *
+         * @param fromClause from clause supplier
+         * @return builder instance for fluent programming
+         */
+        public Builder fromClause(final Supplier<? extends SqlNode> fromClause) {
+            this.fromClause = fromClause;
+            return this;
+        }
+
+        /**
+         * Set the supplier of the select list.
+         *
+         * @param selectList select list supplier
+         * @return builder instance for fluent programming
+         */
+        public Builder selectList(final Supplier<? extends SqlSelectList> selectList) {
+            this.selectList = selectList;
+            return this;
+        }
+
+        /**
+         * Set the supplier of the where clause.
+         *
+         * @param whereClause where clause supplier
+         * @return builder instance for fluent programming
+         */
+        public Builder whereClause(final Supplier<? extends SqlNode> whereClause) {
+            this.whereClause = whereClause;
+            return this;
+        }
+
+        /**
+         * Set the supplier of the group by clause.
+         *
+         * @param groupBy group by clause supplier
+         * @return builder instance for fluent programming
+         */
+        public Builder groupBy(final Supplier<? extends SqlExpressionList> groupBy) {
+            this.groupBy = groupBy;
+            return this;
+        }
+
+        /**
+         * Set the supplier of the having clause.
+         *
+         * @param having having clause supplier
+         * @return builder instance for fluent programming
+         */
+        public Builder having(final Supplier<? extends SqlNode> having) {
+            this.having = having;
+            return this;
+        }
+
+        /**
+         * Set the supplier of the order by clause.
+         *
+         * @param orderBy order by clause supplier
+         * @return builder instance for fluent programming
+         */
+        public Builder orderBy(final Supplier<? extends SqlOrderBy> orderBy) {
+            this.orderBy = orderBy;
+            return this;
+        }
+
+        /**
+         * Set the supplier of the limit clause.
+         *
+         * @param limit limit clause supplier
+         * @return builder instance for fluent programming
+         */
+        public Builder limit(final Supplier<? extends SqlLimit> limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Build a new instance of {@link LazySqlStatementSelect}
+         *
+         * @return new instance
+         */
+        public LazySqlStatementSelect build() {
+            return new LazySqlStatementSelect(this);
+        }
+    }
+
+    /**
+     * Clause that is created on first access and then kept.
+     */
+    private final class Clause<T extends SqlNode> {
+        private Supplier<? extends T> supplier;
+        private final boolean present;
+        private volatile T value;
+
+        private Clause(final Supplier<? extends T> supplier) {
+            this.supplier = supplier;
+            this.present = supplier != null;
+        }
+
+        private boolean isPresent() {
+            return this.present;
+        }
+
+        private T get() {
+            T result = this.value;
+            if ((result == null) && this.present) {
+                synchronized (this) {
+                    result = this.value;
+                    if ((result == null) && (this.supplier != null)) {
+                        result = this.supplier.get();
+                        if (result != null) {
+                            result.setParent(LazySqlStatementSelect.this);
+                        }
+                        this.value = result;
+                        this.supplier = null;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
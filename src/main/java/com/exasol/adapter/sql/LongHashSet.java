@@ -0,0 +1,130 @@
+package com.exasol.adapter.sql;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash set of primitive {@code long} values.
+ *
+ * <p>
+ * Avoids one boxed {@link Long} and one hash map entry per element, which matters for IN-lists with tens of thousands
+ * of literals.
+ * </p>
+ */
+final class LongHashSet {
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+    private long[] slots;
+    private int mask;
+    private int size = 0;
+    private boolean containsEmptyValue = false;
+
+    /**
+     * Create a new set sized for the given number of elements.
+     *
+     * @param expectedSize expected number of elements
+     */
+    LongHashSet(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Add a value.
+     *
+     * @param value value to add
+     * @return {@code true} if the value was not contained before
+     */
+    boolean add(final long value) {
+        if (value == EMPTY) {
+            if (this.containsEmptyValue) {
+                return false;
+            }
+            this.containsEmptyValue = true;
+            ++this.size;
+            return true;
+        }
+        int index = slot(value);
+        while (this.slots[index] != EMPTY) {
+            if (this.slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.slots[index] = value;
+        ++this.size;
+        if (this.size > (this.slots.length * LOAD_FACTOR)) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Check if the set contains a value.
+     *
+     * @param value value to look up
+     * @return {@code true} if the value is contained
+     */
+    boolean contains(final long value) {
+        if (value == EMPTY) {
+            return this.containsEmptyValue;
+        }
+        int index = slot(value);
+        while (this.slots[index] != EMPTY) {
+            if (this.slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of values.
+     *
+     * @return number of values
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the values in ascending order.
+     *
+     * @return sorted values
+     */
+    long[] toSortedArray() {
+        final long[] values = new long[this.size];
+        int position = 0;
+        if (this.containsEmptyValue) {
+            values[position++] = EMPTY;
+        }
+        for (final long slot : this.slots) {
+            if (slot != EMPTY) {
+                values[position++] = slot;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private int slot(final long value) {
+        final long mixed = value * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & this.mask;
+    }
+
+    private void grow() {
+        final long[] previousSlots = this.slots;
+        this.slots = new long[previousSlots.length << 1];
+        this.mask = this.slots.length - 1;
+        for (final long value : previousSlots) {
+            if (value != EMPTY) {
+                int index = slot(value);
+                while (this.slots[index] != EMPTY) {
+                    index = (index + 1) & this.mask;
+                }
+                this.slots[index] = value;
+            }
+        }
+    }
+}
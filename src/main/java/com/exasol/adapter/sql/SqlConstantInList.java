@@ -0,0 +1,419 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Deduplicated, type-homogeneous set of the constants of an IN-list.
+ *
+ * <p>
+ * Adapters that prune or rewrite IN-lists locally get O(1) membership tests and the values in ascending order, so
+ * that they can collapse a list into ranges or split it into batches. Use
+ * {@link SqlPredicateInConstList#getConstantValues()} to get the set for a predicate.
+ * </p>
+ * <p>
+ * Three element types are supported:
+ * </p>
+ * <ul>
+ * <li>{@link ElementType#LONG}: only exact numeric literals with integral values in the {@code long} range</li>
+ * <li>{@link ElementType#DOUBLE}: only double literals</li>
+ * <li>{@link ElementType#STRING}: only string literals</li>
+ * </ul>
+ * <p>
+ * Numerically equal values are duplicates, so {@code 1} and {@code 1.0} count once, as do {@code 0.0} and
+ * {@code -0.0}.
+ * </p>
+ */
+public abstract class SqlConstantInList {
+    private List<SqlNode> sortedLiterals = null;
+
+    /**
+     * Element type of a constant IN-list.
+     */
+    public enum ElementType {
+        LONG, DOUBLE, STRING
+    }
+
+    SqlConstantInList() {
+        // only the nested implementations
+    }
+
+    /**
+     * Create the constant set for the arguments of an IN-list.
+     *
+     * @param literals IN-list arguments
+     * @return constant set or an empty {@link Optional} if the arguments are not all literals of one supported type
+     */
+    public static Optional<SqlConstantInList> of(final List<SqlNode> literals) {
+        if (literals.isEmpty()) {
+            return Optional.empty();
+        }
+        switch (literals.get(0).getType()) {
+        case LITERAL_EXACTNUMERIC:
+            return LongValues.collect(literals);
+        case LITERAL_DOUBLE:
+            return DoubleValues.collect(literals);
+        case LITERAL_STRING:
+            return StringValues.collect(literals);
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get the element type.
+     *
+     * @return element type
+     */
+    public abstract ElementType getElementType();
+
+    /**
+     * Get the number of distinct values.
+     *
+     * @return number of distinct values
+     */
+    public abstract int size();
+
+    /**
+     * Get the distinct values as literal nodes in ascending order.
+     *
+     * @return sorted literals
+     */
+    public synchronized List<SqlNode> getSortedLiterals() {
+        if (this.sortedLiterals == null) {
+            this.sortedLiterals = Collections.unmodifiableList(createSortedLiterals());
+        }
+        return this.sortedLiterals;
+    }
+
+    abstract List<SqlNode> createSortedLiterals();
+
+    /**
+     * Split the distinct values in ascending order into batches.
+     *
+     * @param batchSize maximum number of literals per batch
+     * @return batches of sorted literals
+     */
+    public List<List<SqlNode>> partition(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-39")
+                    .message("Invalid IN-list batch size {{size}}.", batchSize)
+                    .mitigation("Use a batch size of at least 1.").toString());
+        }
+        final List<SqlNode> literals = getSortedLiterals();
+        final List<List<SqlNode>> batches = new ArrayList<>((literals.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < literals.size(); from += batchSize) {
+            batches.add(literals.subList(from, Math.min(from + batchSize, literals.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Constant IN-list of integral values.
+     */
+    public static final class LongValues extends SqlConstantInList {
+        private final LongHashSet values;
+        private long[] sortedValues = null;
+
+        private LongValues(final LongHashSet values) {
+            this.values = values;
+        }
+
+        private static Optional<SqlConstantInList> collect(final List<SqlNode> literals) {
+            final LongHashSet values = new LongHashSet(literals.size());
+            for (final SqlNode literal : literals) {
+                if (literal.getType() != SqlNodeType.LITERAL_EXACTNUMERIC) {
+                    return Optional.empty();
+                }
+                final SqlLiteralExactnumeric exactNumeric = (SqlLiteralExactnumeric) literal;
+                try {
+                    values.add(exactNumeric.hasLongValue() ? exactNumeric.getLongValue()
+                            : exactNumeric.getValue().longValueExact());
+                } catch (final ArithmeticException exception) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(new LongValues(values));
+        }
+
+        @Override
+        public ElementType getElementType() {
+            return ElementType.LONG;
+        }
+
+        @Override
+        public int size() {
+            return this.values.size();
+        }
+
+        /**
+         * Check if the IN-list contains a value.
+         *
+         * @param value value to look up
+         * @return {@code true} if the value is contained
+         */
+        public boolean contains(final long value) {
+            return this.values.contains(value);
+        }
+
+        /**
+         * Get the distinct values in ascending order.
+         *
+         * @return copy of the sorted values
+         */
+        public long[] toSortedArray() {
+            return sortedValues().clone();
+        }
+
+        private synchronized long[] sortedValues() {
+            if (this.sortedValues == null) {
+                this.sortedValues = this.values.toSortedArray();
+            }
+            return this.sortedValues;
+        }
+
+        /**
+         * Collapse the values into ranges of consecutive integers.
+         * <p>
+         * For example {@code IN (1, 2, 3, 7, 9, 10)} results in the ranges {@code [1, 3]}, {@code [7, 7]} and
+         * {@code [9, 10]}.
+         * </p>
+         *
+         * @return ranges in ascending order
+         */
+        public List<LongRange> getRanges() {
+            final long[] sorted = sortedValues();
+            final List<LongRange> ranges = new ArrayList<>();
+            int start = 0;
+            for (int i = 1; i <= sorted.length; ++i) {
+                if ((i == sorted.length) || (sorted[i] != (sorted[i - 1] + 1))) {
+                    ranges.add(new LongRange(sorted[start], sorted[i - 1]));
+                    start = i;
+                }
+            }
+            return ranges;
+        }
+
+        @Override
+        List<SqlNode> createSortedLiterals() {
+            final long[] sorted = sortedValues();
+            final List<SqlNode> literals = new ArrayList<>(sorted.length);
+            for (final long value : sorted) {
+                literals.add(new SqlLiteralExactnumeric(value));
+            }
+            return literals;
+        }
+    }
+
+    /**
+     * Closed range of consecutive integers.
+     */
+    public static final class LongRange {
+        private final long from;
+        private final long to;
+
+        private LongRange(final long from, final long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Get the lower bound.
+         *
+         * @return lower bound (inclusive)
+         */
+        public long getFrom() {
+            return this.from;
+        }
+
+        /**
+         * Get the upper bound.
+         *
+         * @return upper bound (inclusive)
+         */
+        public long getTo() {
+            return this.to;
+        }
+
+        /**
+         * Check if the range consists of a single value.
+         *
+         * @return {@code true} if lower and upper bound are equal
+         */
+        public boolean isSingleValue() {
+            return this.from == this.to;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof LongRange)) {
+                return false;
+            }
+            final LongRange other = (LongRange) object;
+            return (this.from == other.from) && (this.to == other.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.from, this.to);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + this.from + ", " + this.to + "]";
+        }
+    }
+
+    /**
+     * Constant IN-list of double values.
+     */
+    public static final class DoubleValues extends SqlConstantInList {
+        private final LongHashSet valueBits;
+        private double[] sortedValues = null;
+
+        private DoubleValues(final LongHashSet valueBits) {
+            this.valueBits = valueBits;
+        }
+
+        private static Optional<SqlConstantInList> collect(final List<SqlNode> literals) {
+            final LongHashSet valueBits = new LongHashSet(literals.size());
+            for (final SqlNode literal : literals) {
+                if (literal.getType() != SqlNodeType.LITERAL_DOUBLE) {
+                    return Optional.empty();
+                }
+                valueBits.add(toBits(((SqlLiteralDouble) literal).getValue()));
+            }
+            return Optional.of(new DoubleValues(valueBits));
+        }
+
+        private static long toBits(final double value) {
+            return Double.doubleToLongBits((value == 0.0) ? 0.0 : value);
+        }
+
+        @Override
+        public ElementType getElementType() {
+            return ElementType.DOUBLE;
+        }
+
+        @Override
+        public int size() {
+            return this.valueBits.size();
+        }
+
+        /**
+         * Check if the IN-list contains a value.
+         *
+         * @param value value to look up
+         * @return {@code true} if the value is contained
+         */
+        public boolean contains(final double value) {
+            return this.valueBits.contains(toBits(value));
+        }
+
+        /**
+         * Get the distinct values in ascending order.
+         *
+         * @return copy of the sorted values
+         */
+        public double[] toSortedArray() {
+            return sortedValues().clone();
+        }
+
+        private synchronized double[] sortedValues() {
+            if (this.sortedValues == null) {
+                final long[] bits = this.valueBits.toSortedArray();
+                final double[] values = new double[bits.length];
+                for (int i = 0; i < bits.length; ++i) {
+                    values[i] = Double.longBitsToDouble(bits[i]);
+                }
+                Arrays.sort(values);
+                this.sortedValues = values;
+            }
+            return this.sortedValues;
+        }
+
+        @Override
+        List<SqlNode> createSortedLiterals() {
+            final double[] sorted = sortedValues();
+            final List<SqlNode> literals = new ArrayList<>(sorted.length);
+            for (final double value : sorted) {
+                literals.add(new SqlLiteralDouble(value));
+            }
+            return literals;
+        }
+    }
+
+    /**
+     * Constant IN-list of strings.
+     * <p>
+     * The sort order is the natural order of {@link String}, which can differ from the collation of the data source.
+     * </p>
+     */
+    public static final class StringValues extends SqlConstantInList {
+        private final Set<String> values;
+        private List<String> sortedValues = null;
+
+        private StringValues(final Set<String> values) {
+            this.values = values;
+        }
+
+        private static Optional<SqlConstantInList> collect(final List<SqlNode> literals) {
+            final Set<String> values = new HashSet<>(Math.max(16, (int) (literals.size() / 0.75f) + 1));
+            for (final SqlNode literal : literals) {
+                if (literal.getType() != SqlNodeType.LITERAL_STRING) {
+                    return Optional.empty();
+                }
+                values.add(((SqlLiteralString) literal).getValue());
+            }
+            return Optional.of(new StringValues(values));
+        }
+
+        @Override
+        public ElementType getElementType() {
+            return ElementType.STRING;
+        }
+
+        @Override
+        public int size() {
+            return this.values.size();
+        }
+
+        /**
+         * Check if the IN-list contains a value.
+         *
+         * @param value value to look up
+         * @return {@code true} if the value is contained
+         */
+        public boolean contains(final String value) {
+            return this.values.contains(value);
+        }
+
+        /**
+         * Get the distinct values in ascending order.
+         *
+         * @return sorted values
+         */
+        public synchronized List<String> getSortedValues() {
+            if (this.sortedValues == null) {
+                final List<String> sorted = new ArrayList<>(this.values);
+                Collections.sort(sorted);
+                this.sortedValues = Collections.unmodifiableList(sorted);
+            }
+            return this.sortedValues;
+        }
+
+        @Override
+        List<SqlNode> createSortedLiterals() {
+            final List<String> sorted = getSortedValues();
+            final List<SqlNode> literals = new ArrayList<>(sorted.size());
+            for (final String value : sorted) {
+                literals.add(new SqlLiteralString(value));
+            }
+            return literals;
+        }
+    }
+}
@@ -3,12 +3,37 @@ package com.exasol.adapter.sql;
 import java.math.BigDecimal;
 
 import com.exasol.adapter.AdapterException;
+import com.exasol.errorreporting.ExaError;
 
+/**
+ * Exact numeric literal.
+ *
+ * <p>
+ * Most exact numeric literals in push-down queries are small integers. Those are stored as a {@code long}, and the
+ * {@link BigDecimal} is only created when {@link #getValue()} is called.
+ * </p>
+ */
 public class SqlLiteralExactnumeric extends SqlNode {
-    private final BigDecimal value;
+    private static final int MAX_LONG_DIGITS = 18;
+    private final long longValue;
+    private final boolean longBacked;
+    private BigDecimal value;
 
     public SqlLiteralExactnumeric(final BigDecimal value) {
         this.value = value;
+        this.longBacked = (value != null) && (value.scale() == 0) && (value.precision() <= MAX_LONG_DIGITS);
+        this.longValue = this.longBacked ? value.longValue() : 0L;
+    }
+
+    /**
+     * Create an integral exact numeric literal without creating a {@link BigDecimal}.
+     *
+     * @param value integral value
+     */
+    public SqlLiteralExactnumeric(final long value) {
+        this.longValue = value;
+        this.longBacked = true;
+        this.value = null;
     }
 
     /**
@@ -16,7 +41,51 @@ public class SqlLiteralExactnumeric extends SqlNode {
      * @return  underlying exactnumeric value as a BigDecimal
      */
     public BigDecimal getValue() {
-        return this.value;
+        BigDecimal result = this.value;
+        if ((result == null) && this.longBacked) {
+            result = BigDecimal.valueOf(this.longValue);
+            this.value = result;
+        }
+        return result;
+    }
+
+    /**
+     * Check if the literal is an integer without fractional digits that fits into a {@code long}.
+     *
+     * @return {@code true} if {@link #getLongValue()} can be used
+     */
+    public boolean hasLongValue() {
+        return this.longBacked;
+    }
+
+    /**
+     * Get the value as {@code long}.
+     *
+     * @return integral value
+     * @throws ArithmeticException if the literal has no {@code long} value, see {@link #hasLongValue()}
+     */
+    public long getLongValue() {
+        if (this.longBacked) {
+            return this.longValue;
+        } else if (this.value == null) {
+            throw new ArithmeticException(ExaError.messageBuilder("E-VS-COM-JAVA-45")
+                    .message("Exact numeric literal without value has no long value.").toString());
+        } else {
+            return this.value.longValueExact();
+        }
+    }
+
+    /**
+     * Get the value in the same notation as {@link BigDecimal#toString()}.
+     *
+     * @return value as string or {@code null} if the literal was created without value
+     */
+    public String getValueAsString() {
+        if (this.longBacked) {
+            return Long.toString(this.longValue);
+        } else {
+            return (this.value == null) ? null : this.value.toString();
+        }
     }
 
     @Override
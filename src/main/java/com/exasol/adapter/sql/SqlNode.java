@@ -4,8 +4,17 @@ import com.exasol.adapter.AdapterException;
 
 /**
  * Node in a graph representing a SQL query.
+ *
+ * <p>
+ * Nodes compare by identity. Structural {@code equals()} and {@code hashCode()} would walk the whole subtree on every
+ * comparison and every hash lookup, and would force a {@link LazySqlStatementSelect} to parse all of its clauses. To
+ * check whether two trees have the same structure, compare their {@link #getStructuralForm() structural forms} or
+ * {@link #fingerprint() fingerprints}, or use a {@link SqlRenderCache.Key}, which computes the structural form once.
+ * </p>
  */
 public abstract class SqlNode {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
     private SqlNode parent;
 
     public abstract SqlNodeType getType();
@@ -33,4 +42,39 @@ public abstract class SqlNode {
      * @throws AdapterException can be thrown
      */
     public abstract <R> R accept(SqlNodeVisitor<R> visitor) throws AdapterException;
+
+    /**
+     * Get the canonical structural form of this node and its children.
+     * <p>
+     * Two nodes have the same structural form exactly if they have the same type, the same attributes and children
+     * with the same structure in the same order. The parent is not part of the form. The form is computed on each
+     * call, since some nodes are mutable.
+     * </p>
+     *
+     * @return canonical structural form
+     */
+    public String getStructuralForm() {
+        return SqlNodeStructureWriter.write(this);
+    }
+
+    /**
+     * Get a 64 bit fingerprint of the structure of this node and its children.
+     * <p>
+     * Nodes with the same structural form have the same fingerprint.
+     * </p>
+     *
+     * @return structural fingerprint
+     */
+    public long fingerprint() {
+        return fingerprint(getStructuralForm());
+    }
+
+    static long fingerprint(final String structuralForm) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < structuralForm.length(); ++i) {
+            hash ^= structuralForm.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
 }
\ No newline at end of file
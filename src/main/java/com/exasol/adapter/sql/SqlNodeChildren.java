@@ -0,0 +1,271 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Lists the direct children of a {@link SqlNode} in source order, skipping absent ({@code null}) children.
+ */
+final class SqlNodeChildren implements SqlNodeVisitor<List<SqlNode>> {
+    private static final SqlNodeChildren INSTANCE = new SqlNodeChildren();
+
+    private SqlNodeChildren() {
+        // use the static method
+    }
+
+    /**
+     * Get the direct children of a node.
+     *
+     * @param node parent node
+     * @return children in source order
+     */
+    static List<SqlNode> of(final SqlNode node) {
+        try {
+            return node.accept(INSTANCE);
+        } catch (final AdapterException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-VS-COM-JAVA-38")
+                    .message("Unable to list the children of SQL node {{type}}.", node.getType()).toString(),
+                    exception);
+        }
+    }
+
+    private static List<SqlNode> nodes(final SqlNode... nodes) {
+        final List<SqlNode> children = new ArrayList<>(nodes.length);
+        for (final SqlNode node : nodes) {
+            if (node != null) {
+                children.add(node);
+            }
+        }
+        return children;
+    }
+
+    private static List<SqlNode> nodes(final List<SqlNode> nodes) {
+        return (nodes == null) ? Collections.emptyList() : nodes;
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlStatementSelect select) {
+        return nodes(select.getFromClause(), select.getSelectList(), select.getWhereClause(), select.getGroupBy(),
+                select.getHaving(), select.getOrderBy(), select.getLimit());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlSelectList selectList) {
+        return nodes(selectList.getExpressions());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlGroupBy groupBy) {
+        return nodes(groupBy.getExpressions());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlColumn sqlColumn) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionAggregate sqlFunctionAggregate) {
+        return nodes(sqlFunctionAggregate.getArguments());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionAggregateGroupConcat sqlFunctionAggregateGroupConcat) {
+        return nodes(sqlFunctionAggregateGroupConcat.getArgument(), sqlFunctionAggregateGroupConcat.getSeparator(),
+                sqlFunctionAggregateGroupConcat.getOrderBy());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionAggregateListagg sqlFunctionAggregateListagg) {
+        final SqlFunctionAggregateListagg.Behavior overflowBehavior = sqlFunctionAggregateListagg
+                .getOverflowBehavior();
+        return nodes(sqlFunctionAggregateListagg.getArgument(), sqlFunctionAggregateListagg.getSeparator(),
+                sqlFunctionAggregateListagg.getOrderBy(),
+                (overflowBehavior == null) ? null : overflowBehavior.getTruncationFiller());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionScalar sqlFunctionScalar) {
+        return nodes(sqlFunctionScalar.getArguments());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionScalarCase sqlFunctionScalarCase) {
+        final List<SqlNode> children = new ArrayList<>(nodes(sqlFunctionScalarCase.getArguments()));
+        children.addAll(nodes(sqlFunctionScalarCase.getResults()));
+        if (sqlFunctionScalarCase.getBasis() != null) {
+            children.add(sqlFunctionScalarCase.getBasis());
+        }
+        return children;
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionScalarCast sqlFunctionScalarCast) {
+        return nodes(sqlFunctionScalarCast.getArgument());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionScalarExtract sqlFunctionScalarExtract) {
+        return nodes(sqlFunctionScalarExtract.getArgument());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlFunctionScalarJsonValue sqlFunctionScalarJsonValue) {
+        final List<SqlNode> children = new ArrayList<>(nodes(sqlFunctionScalarJsonValue.getArguments()));
+        addBehaviorExpression(children, sqlFunctionScalarJsonValue.getEmptyBehavior());
+        addBehaviorExpression(children, sqlFunctionScalarJsonValue.getErrorBehavior());
+        return children;
+    }
+
+    private static void addBehaviorExpression(final List<SqlNode> children,
+            final SqlFunctionScalarJsonValue.Behavior behavior) {
+        if (behavior != null) {
+            behavior.getExpression().ifPresent(children::add);
+        }
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLimit sqlLimit) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralBool sqlLiteralBool) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralDate sqlLiteralDate) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralDouble sqlLiteralDouble) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralExactnumeric sqlLiteralExactnumeric) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralNull sqlLiteralNull) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralString sqlLiteralString) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralTimestamp sqlLiteralTimestamp) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralTimestampUtc sqlLiteralTimestampUtc) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlLiteralInterval sqlLiteralInterval) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlOrderBy sqlOrderBy) {
+        return nodes(sqlOrderBy.getExpressions());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateAnd sqlPredicateAnd) {
+        return nodes(sqlPredicateAnd.getAndedPredicates());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateBetween sqlPredicateBetween) {
+        return nodes(sqlPredicateBetween.getExpression(), sqlPredicateBetween.getBetweenLeft(),
+                sqlPredicateBetween.getBetweenRight());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateEqual sqlPredicateEqual) {
+        return nodes(sqlPredicateEqual.getLeft(), sqlPredicateEqual.getRight());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateInConstList sqlPredicateInConstList) {
+        final List<SqlNode> children = new ArrayList<>(nodes(sqlPredicateInConstList.getExpression()));
+        children.addAll(nodes(sqlPredicateInConstList.getInArguments()));
+        return children;
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateIsJson sqlPredicateIsJson) {
+        return nodes(sqlPredicateIsJson.getExpression());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateIsNotJson sqlPredicateIsNotJson) {
+        return nodes(sqlPredicateIsNotJson.getExpression());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateLess sqlPredicateLess) {
+        return nodes(sqlPredicateLess.getLeft(), sqlPredicateLess.getRight());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateLessEqual sqlPredicateLessEqual) {
+        return nodes(sqlPredicateLessEqual.getLeft(), sqlPredicateLessEqual.getRight());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateLike sqlPredicateLike) {
+        return nodes(sqlPredicateLike.getLeft(), sqlPredicateLike.getPattern(), sqlPredicateLike.getEscapeChar());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateLikeRegexp sqlPredicateLikeRegexp) {
+        return nodes(sqlPredicateLikeRegexp.getLeft(), sqlPredicateLikeRegexp.getPattern());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateNot sqlPredicateNot) {
+        return nodes(sqlPredicateNot.getExpression());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateNotEqual sqlPredicateNotEqual) {
+        return nodes(sqlPredicateNotEqual.getLeft(), sqlPredicateNotEqual.getRight());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateOr sqlPredicateOr) {
+        return nodes(sqlPredicateOr.getOrPredicates());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateIsNotNull sqlPredicateIsNotNull) {
+        return nodes(sqlPredicateIsNotNull.getExpression());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlPredicateIsNull sqlPredicateIsNull) {
+        return nodes(sqlPredicateIsNull.getExpression());
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlTable sqlTable) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SqlNode> visit(final SqlJoin sqlJoin) {
+        return nodes(sqlJoin.getLeft(), sqlJoin.getRight(), sqlJoin.getCondition());
+    }
+}
@@ -0,0 +1,416 @@
+package com.exasol.adapter.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Writes the canonical structural form of a {@link SqlNode} tree.
+ *
+ * <p>
+ * The canonical form contains the node types, all attributes that influence the rendered SQL and the children in
+ * order. Parent links are ignored. Strings are written length-prefixed, so that two different trees can never produce
+ * the same canonical form.
+ * </p>
+ * <p>
+ * In literal stripping mode the writer replaces literal expressions with numbered placeholders and collects the
+ * literals as parameters. Literals that are part of the syntax of a function or predicate, like the separator of
+ * {@code GROUP_CONCAT} or the escape character of {@code LIKE}, stay in the form. {@code NULL} literals also stay,
+ * because they are not bindable values.
+ * </p>
+ */
+final class SqlNodeStructureWriter implements SqlNodeVisitor<Void> {
+    private static final char NULL_MARKER = '~';
+    private static final char PLACEHOLDER_MARKER = '?';
+    private final StringBuilder builder = new StringBuilder(256);
+    private final List<SqlNode> parameters;
+    private boolean stripLiterals;
+
+    private SqlNodeStructureWriter(final boolean stripLiterals) {
+        this.stripLiterals = stripLiterals;
+        this.parameters = stripLiterals ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Create the canonical structural form of a node tree.
+     *
+     * @param node root node
+     * @return canonical form
+     */
+    static String write(final SqlNode node) {
+        final SqlNodeStructureWriter writer = new SqlNodeStructureWriter(false);
+        writer.node(node);
+        return writer.builder.toString();
+    }
+
+    /**
+     * Create the canonical structural form of a node tree with literal expressions replaced by placeholders.
+     *
+     * @param node       root node
+     * @param parameters list the replaced literals are appended to in placeholder order
+     * @return canonical form with placeholders
+     */
+    static String writeShape(final SqlNode node, final List<SqlNode> parameters) {
+        final SqlNodeStructureWriter writer = new SqlNodeStructureWriter(true);
+        writer.node(node);
+        parameters.addAll(writer.parameters);
+        return writer.builder.toString();
+    }
+
+    private void node(final SqlNode node) {
+        if (node == null) {
+            this.builder.append(NULL_MARKER);
+        } else if (this.stripLiterals && isBindableLiteral(node)) {
+            this.parameters.add(node);
+            this.builder.append(PLACEHOLDER_MARKER).append(this.parameters.size()).append(':')
+                    .append(node.getType().name());
+        } else {
+            try {
+                node.accept(this);
+            } catch (final AdapterException exception) {
+                throw new IllegalStateException(ExaError.messageBuilder("E-VS-COM-JAVA-36")
+                        .message("Unable to create the structural form of SQL node {{type}}.", node.getType())
+                        .toString(), exception);
+            }
+        }
+    }
+
+    private static boolean isBindableLiteral(final SqlNode node) {
+        switch (node.getType()) {
+        case LITERAL_BOOL:
+        case LITERAL_DATE:
+        case LITERAL_DOUBLE:
+        case LITERAL_EXACTNUMERIC:
+        case LITERAL_INTERVAL:
+        case LITERAL_STRING:
+        case LITERAL_TIMESTAMP:
+        case LITERAL_TIMESTAMPUTC:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private SqlNodeStructureWriter syntaxLiteral(final SqlNode node) {
+        final boolean previous = this.stripLiterals;
+        this.stripLiterals = false;
+        try {
+            return child(node);
+        } finally {
+            this.stripLiterals = previous;
+        }
+    }
+
+    private void nodes(final List<? extends SqlNode> nodes) {
+        this.builder.append('[');
+        for (final SqlNode node : nodes) {
+            node(node);
+            this.builder.append(',');
+        }
+        this.builder.append(']');
+    }
+
+    private SqlNodeStructureWriter open(final SqlNode node) {
+        this.builder.append(node.getType().name()).append('(');
+        return this;
+    }
+
+    private Void close() {
+        this.builder.append(')');
+        return null;
+    }
+
+    private SqlNodeStructureWriter text(final String value) {
+        if (value == null) {
+            this.builder.append(NULL_MARKER);
+        } else {
+            this.builder.append(value.length()).append(':').append(value);
+        }
+        this.builder.append(',');
+        return this;
+    }
+
+    private SqlNodeStructureWriter value(final Object value) {
+        return text(value == null ? null : value.toString());
+    }
+
+    private SqlNodeStructureWriter child(final SqlNode node) {
+        node(node);
+        this.builder.append(',');
+        return this;
+    }
+
+    private SqlNodeStructureWriter children(final List<? extends SqlNode> nodes) {
+        nodes(nodes);
+        this.builder.append(',');
+        return this;
+    }
+
+    private Void expressionList(final SqlExpressionList list) {
+        return open(list).children(list.getExpressions()).close();
+    }
+
+    private Void binary(final AbstractSqlBinaryEquality predicate) {
+        return open(predicate).child(predicate.getLeft()).child(predicate.getRight()).close();
+    }
+
+    private Void json(final AbstractSqlPredicateJson predicate) {
+        return open(predicate).child(predicate.getExpression()).text(predicate.getTypeConstraint())
+                .text(predicate.getKeyUniquenessConstraint()).close();
+    }
+
+    @Override
+    public Void visit(final SqlStatementSelect select) {
+        return open(select).child(select.getFromClause()).child(select.getSelectList())
+                .child(select.getWhereClause()).child(select.getGroupBy()).child(select.getHaving())
+                .child(select.getOrderBy()).child(select.getLimit()).close();
+    }
+
+    @Override
+    public Void visit(final SqlSelectList selectList) {
+        return open(selectList).value(selectList.hasExplicitColumnsList()).children(selectList.getExpressions())
+                .close();
+    }
+
+    @Override
+    public Void visit(final SqlGroupBy groupBy) {
+        return expressionList(groupBy);
+    }
+
+    @Override
+    public Void visit(final SqlColumn sqlColumn) {
+        final ColumnMetadata metadata = sqlColumn.getMetadata();
+        open(sqlColumn).value(sqlColumn.getId()).text(sqlColumn.getTableName()).text(sqlColumn.getTableAlias());
+        if (metadata == null) {
+            this.builder.append(NULL_MARKER).append(',');
+        } else {
+            text(metadata.getName()).value(metadata.getType()).text(metadata.getAdapterNotes());
+        }
+        return close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionAggregate sqlFunctionAggregate) {
+        return open(sqlFunctionAggregate).value(sqlFunctionAggregate.getFunction())
+                .value(sqlFunctionAggregate.hasDistinct()).children(sqlFunctionAggregate.getArguments()).close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionAggregateGroupConcat sqlFunctionAggregateGroupConcat) {
+        return open(sqlFunctionAggregateGroupConcat).value(sqlFunctionAggregateGroupConcat.hasDistinct())
+                .child(sqlFunctionAggregateGroupConcat.getArgument())
+                .syntaxLiteral(sqlFunctionAggregateGroupConcat.getSeparator())
+                .child(sqlFunctionAggregateGroupConcat.getOrderBy()).close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionAggregateListagg sqlFunctionAggregateListagg) {
+        final SqlFunctionAggregateListagg.Behavior overflowBehavior = sqlFunctionAggregateListagg
+                .getOverflowBehavior();
+        open(sqlFunctionAggregateListagg).value(sqlFunctionAggregateListagg.hasDistinct())
+                .child(sqlFunctionAggregateListagg.getArgument())
+                .syntaxLiteral(sqlFunctionAggregateListagg.getSeparator())
+                .child(sqlFunctionAggregateListagg.getOrderBy());
+        if (overflowBehavior == null) {
+            this.builder.append(NULL_MARKER).append(',');
+        } else {
+            value(overflowBehavior.getBehaviorType());
+            if (overflowBehavior.getBehaviorType() == SqlFunctionAggregateListagg.BehaviorType.TRUNCATE) {
+                text(overflowBehavior.getTruncationType()).syntaxLiteral(overflowBehavior.getTruncationFiller());
+            }
+        }
+        return close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalar sqlFunctionScalar) {
+        return open(sqlFunctionScalar).value(sqlFunctionScalar.getFunction())
+                .children(sqlFunctionScalar.getArguments()).close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarCase sqlFunctionScalarCase) {
+        return open(sqlFunctionScalarCase).children(sqlFunctionScalarCase.getArguments())
+                .children(sqlFunctionScalarCase.getResults()).child(sqlFunctionScalarCase.getBasis()).close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarCast sqlFunctionScalarCast) {
+        return open(sqlFunctionScalarCast).value(sqlFunctionScalarCast.getDataType())
+                .child(sqlFunctionScalarCast.getArgument()).close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarExtract sqlFunctionScalarExtract) {
+        return open(sqlFunctionScalarExtract).text(sqlFunctionScalarExtract.getToExtract())
+                .child(sqlFunctionScalarExtract.getArgument()).close();
+    }
+
+    @Override
+    public Void visit(final SqlFunctionScalarJsonValue sqlFunctionScalarJsonValue) {
+        open(sqlFunctionScalarJsonValue).value(sqlFunctionScalarJsonValue.getScalarFunction())
+                .children(sqlFunctionScalarJsonValue.getArguments())
+                .value(sqlFunctionScalarJsonValue.getReturningDataType());
+        jsonBehavior(sqlFunctionScalarJsonValue.getEmptyBehavior());
+        jsonBehavior(sqlFunctionScalarJsonValue.getErrorBehavior());
+        return close();
+    }
+
+    private void jsonBehavior(final SqlFunctionScalarJsonValue.Behavior behavior) {
+        if (behavior == null) {
+            this.builder.append(NULL_MARKER).append(',');
+        } else {
+            text(behavior.getBehaviorType()).child(behavior.getExpression().orElse(null));
+        }
+    }
+
+    @Override
+    public Void visit(final SqlLimit sqlLimit) {
+        return open(sqlLimit).value(sqlLimit.getLimit()).value(sqlLimit.getOffset()).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralBool sqlLiteralBool) {
+        return open(sqlLiteralBool).value(sqlLiteralBool.getValue()).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralDate sqlLiteralDate) {
+        return open(sqlLiteralDate).text(sqlLiteralDate.getValue()).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralDouble sqlLiteralDouble) {
+        return open(sqlLiteralDouble).value(Double.doubleToLongBits(sqlLiteralDouble.getValue())).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralExactnumeric sqlLiteralExactnumeric) {
+        return open(sqlLiteralExactnumeric).text(sqlLiteralExactnumeric.getValueAsString()).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralNull sqlLiteralNull) {
+        return open(sqlLiteralNull).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralString sqlLiteralString) {
+        return open(sqlLiteralString).text(sqlLiteralString.getValue()).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralTimestamp sqlLiteralTimestamp) {
+        return open(sqlLiteralTimestamp).text(sqlLiteralTimestamp.getValue()).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralTimestampUtc sqlLiteralTimestampUtc) {
+        return open(sqlLiteralTimestampUtc).text(sqlLiteralTimestampUtc.getValue()).close();
+    }
+
+    @Override
+    public Void visit(final SqlLiteralInterval sqlLiteralInterval) {
+        return open(sqlLiteralInterval).text(sqlLiteralInterval.getValue()).value(sqlLiteralInterval.getDataType())
+                .close();
+    }
+
+    @Override
+    public Void visit(final SqlOrderBy sqlOrderBy) {
+        return open(sqlOrderBy).children(sqlOrderBy.getExpressions()).value(sqlOrderBy.isAscending())
+                .value(sqlOrderBy.nullsLast()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateAnd sqlPredicateAnd) {
+        return open(sqlPredicateAnd).children(sqlPredicateAnd.getAndedPredicates()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateBetween sqlPredicateBetween) {
+        return open(sqlPredicateBetween).child(sqlPredicateBetween.getExpression())
+                .child(sqlPredicateBetween.getBetweenLeft()).child(sqlPredicateBetween.getBetweenRight()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateEqual sqlPredicateEqual) {
+        return binary(sqlPredicateEqual);
+    }
+
+    @Override
+    public Void visit(final SqlPredicateInConstList sqlPredicateInConstList) {
+        return open(sqlPredicateInConstList).child(sqlPredicateInConstList.getExpression())
+                .children(sqlPredicateInConstList.getInArguments()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsJson sqlPredicateIsJson) {
+        return json(sqlPredicateIsJson);
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsNotJson sqlPredicateIsNotJson) {
+        return json(sqlPredicateIsNotJson);
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLess sqlPredicateLess) {
+        return binary(sqlPredicateLess);
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLessEqual sqlPredicateLessEqual) {
+        return binary(sqlPredicateLessEqual);
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLike sqlPredicateLike) {
+        return open(sqlPredicateLike).child(sqlPredicateLike.getLeft()).child(sqlPredicateLike.getPattern())
+                .syntaxLiteral(sqlPredicateLike.getEscapeChar()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateLikeRegexp sqlPredicateLikeRegexp) {
+        return open(sqlPredicateLikeRegexp).child(sqlPredicateLikeRegexp.getLeft())
+                .child(sqlPredicateLikeRegexp.getPattern()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateNot sqlPredicateNot) {
+        return open(sqlPredicateNot).child(sqlPredicateNot.getExpression()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateNotEqual sqlPredicateNotEqual) {
+        return binary(sqlPredicateNotEqual);
+    }
+
+    @Override
+    public Void visit(final SqlPredicateOr sqlPredicateOr) {
+        return open(sqlPredicateOr).children(sqlPredicateOr.getOrPredicates()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsNotNull sqlPredicateIsNotNull) {
+        return open(sqlPredicateIsNotNull).child(sqlPredicateIsNotNull.getExpression()).close();
+    }
+
+    @Override
+    public Void visit(final SqlPredicateIsNull sqlPredicateIsNull) {
+        return open(sqlPredicateIsNull).child(sqlPredicateIsNull.getExpression()).close();
+    }
+
+    @Override
+    public Void visit(final SqlTable sqlTable) {
+        return open(sqlTable).text(sqlTable.getName()).text(sqlTable.getAlias()).close();
+    }
+
+    @Override
+    public Void visit(final SqlJoin sqlJoin) {
+        return open(sqlJoin).value(sqlJoin.getJoinType()).child(sqlJoin.getLeft()).child(sqlJoin.getRight())
+                .child(sqlJoin.getCondition()).close();
+    }
+}
@@ -0,0 +1,86 @@
+package com.exasol.adapter.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Depth-first walker over a {@link SqlNode} tree that uses an explicit work stack instead of recursion.
+ *
+ * <p>
+ * Generated queries can contain thousands of nested predicates. Walking them recursively risks a
+ * {@link StackOverflowError} on the small thread stack of a UDF. This walker keeps the traversal state on the heap, so
+ * the depth of a tree is only limited by the available memory.
+ * </p>
+ * <p>
+ * Children are visited in source order, for example FROM before the select list in a {@link SqlStatementSelect}.
+ * </p>
+ */
+public final class SqlNodeWalker {
+    private SqlNodeWalker() {
+        // prevent instantiation
+    }
+
+    /**
+     * Walk a tree, calling the callback before (pre-order) and after (post-order) the children of each node.
+     *
+     * @param root     root node
+     * @param callback callback for entering and leaving nodes
+     */
+    public static void walk(final SqlNode root, final Callback callback) {
+        final Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root, false));
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.pop();
+            if (frame.leaving) {
+                callback.leave(frame.node);
+            } else {
+                final boolean descend = callback.enter(frame.node);
+                stack.push(new Frame(frame.node, true));
+                if (descend) {
+                    pushChildren(stack, frame.node);
+                }
+            }
+        }
+    }
+
+    private static void pushChildren(final Deque<Frame> stack, final SqlNode node) {
+        final List<SqlNode> children = SqlNodeChildren.of(node);
+        for (int i = children.size() - 1; i >= 0; --i) {
+            stack.push(new Frame(children.get(i), false));
+        }
+    }
+
+    /**
+     * Callback for a {@link SqlNodeWalker}.
+     */
+    public interface Callback {
+        /**
+         * Called before the children of a node are walked.
+         *
+         * @param node current node
+         * @return {@code true} to walk the children of the node, {@code false} to skip them
+         */
+        boolean enter(SqlNode node);
+
+        /**
+         * Called after the children of a node were walked, or right after {@link #enter(SqlNode)} if the children
+         * were skipped.
+         *
+         * @param node current node
+         */
+        default void leave(final SqlNode node) {
+            // no action by default
+        }
+    }
+
+    private static final class Frame {
+        private final SqlNode node;
+        private final boolean leaving;
+
+        private Frame(final SqlNode node, final boolean leaving) {
+            this.node = node;
+            this.leaving = leaving;
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.exasol.adapter.AdapterException;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class SqlPredicateInConstList extends SqlPredicate {
     private final SqlNode expression;
     private final List<SqlNode> inArguments;
+    private Optional<SqlConstantInList> constantValues = null;
 
     /**
      * Create a new instance of {@link SqlPredicateInConstList}.
@@ -41,6 +43,22 @@ public class SqlPredicateInConstList extends SqlPredicate {
         }
     }
 
+    /**
+     * Get the IN-list arguments as a deduplicated set of constants with constant-time membership tests.
+     * <p>
+     * The set is created on the first call and reused afterwards.
+     * </p>
+     *
+     * @return constant set or an empty {@link Optional} if the arguments are not all literals of one supported type
+     * @see SqlConstantInList
+     */
+    public synchronized Optional<SqlConstantInList> getConstantValues() {
+        if (this.constantValues == null) {
+            this.constantValues = SqlConstantInList.of(getInArguments());
+        }
+        return this.constantValues;
+    }
+
     @Override
     public SqlNodeType getType() {
         return SqlNodeType.PREDICATE_IN_CONSTLIST;
@@ -0,0 +1,122 @@
+package com.exasol.adapter.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Literal-free shape of a SQL node tree together with the literals that were stripped from it.
+ *
+ * <p>
+ * Queries that only differ in their literal values, like the same dashboard filter on different dates, have equal
+ * shapes. Adapters can cache prepared statements or rendered SQL templates per shape and bind the parameters of each
+ * new query.
+ * </p>
+ * <p>
+ * Each bindable literal ({@code NULL} excluded) is replaced by a placeholder that carries its one-based position and
+ * its literal type. Literals that belong to the syntax of a function, like the separator of {@code GROUP_CONCAT} or
+ * {@code LISTAGG}, remain part of the shape.
+ * </p>
+ */
+public final class SqlQueryShape {
+    private final String shape;
+    private final List<SqlNode> parameters;
+
+    private SqlQueryShape(final String shape, final List<SqlNode> parameters) {
+        this.shape = shape;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Create the shape of a SQL node tree.
+     *
+     * @param node root node, usually the push-down statement
+     * @return query shape
+     */
+    public static SqlQueryShape create(final SqlNode node) {
+        final List<SqlNode> parameters = new ArrayList<>();
+        final String shape = SqlNodeStructureWriter.writeShape(node, parameters);
+        return new SqlQueryShape(shape, Collections.unmodifiableList(parameters));
+    }
+
+    /**
+     * Get the canonical form of the query with literals replaced by placeholders.
+     *
+     * @return query shape
+     */
+    public String getShape() {
+        return this.shape;
+    }
+
+    /**
+     * Get a 64 bit fingerprint of the query shape.
+     *
+     * @return shape fingerprint
+     */
+    public long fingerprint() {
+        return SqlNode.fingerprint(this.shape);
+    }
+
+    /**
+     * Get the literals stripped from the query in placeholder order.
+     *
+     * @return parameter vector
+     */
+    public List<SqlNode> getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * Get the number of placeholders in the shape.
+     *
+     * @return number of parameters
+     */
+    public int getParameterCount() {
+        return this.parameters.size();
+    }
+
+    /**
+     * Check whether another query has the same shape as this one.
+     *
+     * @param other other query shape
+     * @return {@code true} if both shapes are equal regardless of their parameters
+     */
+    public boolean hasSameShape(final SqlQueryShape other) {
+        return this.shape.equals(other.shape);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof SqlQueryShape)) {
+            return false;
+        }
+        final SqlQueryShape other = (SqlQueryShape) object;
+        return this.shape.equals(other.shape) && hasSameParameters(other);
+    }
+
+    // SQL nodes compare by identity, so the literals are compared by their structural form.
+    private boolean hasSameParameters(final SqlQueryShape other) {
+        if (this.parameters.size() != other.parameters.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.parameters.size(); ++i) {
+            if (!this.parameters.get(i).getStructuralForm().equals(other.parameters.get(i).getStructuralForm())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.shape.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SqlQueryShape{shape='" + this.shape + "', parameters=" + this.parameters.size() + '}';
+    }
+}
@@ -0,0 +1,212 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Bounded least-recently-used cache for SQL text rendered from a push-down statement.
+ *
+ * <p>
+ * Entries are keyed by the structure of the statement (see {@link SqlNode#fingerprint()}) together with the metadata
+ * of the involved tables, so a changed table definition never hits an entry rendered for the old definition.
+ * </p>
+ * <p>
+ * Building a {@link Key} walks the statement and hashes the table metadata. Build it once per request, for example
+ * with {@link com.exasol.adapter.request.PushDownRequest#getRenderCacheKey()}, and pass it to
+ * {@link #render(Key, SqlStatement, Renderer)}. Lookups compare the 64 bit fingerprints first and the full structural
+ * forms only if the fingerprints match.
+ * </p>
+ * <p>
+ * The rendered text also depends on the adapter configuration (dialect, properties). Use one cache per adapter
+ * instance and configuration and {@link #clear()} it when the configuration changes.
+ * </p>
+ */
+public final class SqlRenderCache {
+    private final int maxEntries;
+    private final Map<Key, String> entries;
+    private long hits = 0;
+    private long misses = 0;
+
+    private SqlRenderCache(final int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, String> eldest) {
+                return size() > SqlRenderCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Create a new render cache.
+     *
+     * @param maxEntries maximum number of rendered statements kept in the cache
+     * @return new cache
+     */
+    public static SqlRenderCache create(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-37")
+                    .message("Invalid render cache size {{size}}.", maxEntries)
+                    .mitigation("Use a size of at least 1.").toString());
+        }
+        return new SqlRenderCache(maxEntries);
+    }
+
+    /**
+     * Get the SQL text for a statement, rendering it only if no structurally equal statement with the same involved
+     * tables was rendered before.
+     *
+     * @param statement      push-down statement
+     * @param involvedTables metadata of the tables involved in the statement
+     * @param renderer       renderer used on a cache miss
+     * @return rendered SQL text
+     * @throws AdapterException if rendering fails
+     */
+    public String render(final SqlStatement statement, final List<TableMetadata> involvedTables,
+            final Renderer renderer) throws AdapterException {
+        return render(Key.of(statement, involvedTables), statement, renderer);
+    }
+
+    /**
+     * Get the SQL text for a statement with a precomputed key, rendering it only if no statement with an equal key
+     * was rendered before.
+     *
+     * @param key       key of the statement and its involved tables
+     * @param statement push-down statement the key was created for
+     * @param renderer  renderer used on a cache miss
+     * @return rendered SQL text
+     * @throws AdapterException if rendering fails
+     */
+    public String render(final Key key, final SqlStatement statement, final Renderer renderer)
+            throws AdapterException {
+        synchronized (this) {
+            final String cached = this.entries.get(key);
+            if (cached != null) {
+                ++this.hits;
+                return cached;
+            }
+            ++this.misses;
+        }
+        final String rendered = renderer.render(statement);
+        synchronized (this) {
+            this.entries.put(key, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Get the number of cached statements.
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the number of lookups answered from the cache.
+     *
+     * @return number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return this.hits;
+    }
+
+    /**
+     * Get the number of lookups that required rendering.
+     *
+     * @return number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return this.misses;
+    }
+
+    /**
+     * Renders a push-down statement to SQL text, usually by walking it with a dialect specific
+     * {@link SqlNodeVisitor}.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        /**
+         * Render a statement.
+         *
+         * @param statement statement to render
+         * @return SQL text
+         * @throws AdapterException if rendering fails
+         */
+        String render(SqlStatement statement) throws AdapterException;
+    }
+
+    /**
+     * Cache key made of the structure of a statement and the metadata of its involved tables.
+     * <p>
+     * The key captures the statement at the time of creation. Create a new key if the statement is changed afterwards.
+     * </p>
+     */
+    public static final class Key {
+        private final String structuralForm;
+        private final long fingerprint;
+        private final List<TableMetadata> involvedTables;
+        private final int involvedTablesHashCode;
+
+        private Key(final String structuralForm, final List<TableMetadata> involvedTables) {
+            this.structuralForm = structuralForm;
+            this.fingerprint = SqlNode.fingerprint(structuralForm);
+            this.involvedTables = (involvedTables == null) ? Collections.emptyList() : involvedTables;
+            this.involvedTablesHashCode = this.involvedTables.hashCode();
+        }
+
+        /**
+         * Create the key for a statement.
+         *
+         * @param statement      push-down statement
+         * @param involvedTables metadata of the tables involved in the statement
+         * @return new key
+         */
+        public static Key of(final SqlStatement statement, final List<TableMetadata> involvedTables) {
+            return new Key(statement.getStructuralForm(), involvedTables);
+        }
+
+        /**
+         * Get the structural fingerprint of the statement.
+         *
+         * @return fingerprint
+         */
+        public long getFingerprint() {
+            return this.fingerprint;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) object;
+            return (this.fingerprint == other.fingerprint)
+                    && (this.involvedTablesHashCode == other.involvedTablesHashCode)
+                    && this.structuralForm.equals(other.structuralForm)
+                    && ((this.involvedTables == other.involvedTables)
+                            || this.involvedTables.equals(other.involvedTables));
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * Long.hashCode(this.fingerprint)) + this.involvedTablesHashCode;
+        }
+    }
+}
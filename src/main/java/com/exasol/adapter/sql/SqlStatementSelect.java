@@ -42,6 +42,19 @@ public class SqlStatementSelect extends SqlStatement {
         }
     }
 
+    /**
+     * Create an empty statement for subclasses that provide the clauses themselves.
+     */
+    SqlStatementSelect() {
+        this.fromClause = null;
+        this.selectList = null;
+        this.whereClause = null;
+        this.groupBy = null;
+        this.having = null;
+        this.orderBy = null;
+        this.limit = null;
+    }
+
     public boolean hasProjection() {
         return this.selectList != null;
     }
@@ -0,0 +1,483 @@
+package com.exasol.logging;
+
+import java.io.IOException;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.*;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Log handler that sends records to a socket from a background thread.
+ *
+ * <p>
+ * Unlike {@link SocketHandler}, publishing a record only puts it into a bounded lock-free ring buffer. A writer thread
+ * formats the records and sends them in batches of up to {@value #BATCH_BUFFER_SIZE} bytes, so that logging does not
+ * add a blocking socket write per record to the adapter call.
+ * </p>
+ * <p>
+ * If the buffer is full, the {@link OverflowPolicy} decides whether the caller waits or a record is dropped. Dropped
+ * records are counted, see {@link #getDroppedRecordCount()}.
+ * </p>
+ * <p>
+ * If the connection breaks, the writer thread reconnects in the background with increasing delays. Records published
+ * while the handler is disconnected are dropped.
+ * </p>
+ */
+public final class AsyncSocketHandler extends Handler {
+    /** Default number of records the buffer can hold */
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int BATCH_BUFFER_SIZE = 64 * 1024;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final long MIN_RECONNECT_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_RECONNECT_DELAY_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private final String host;
+    private final int port;
+    private final BoundedRingBuffer<LogRecord> records;
+    private final OverflowPolicy overflowPolicy;
+    private final Level dropThreshold;
+    private volatile SocketChannel channel;
+    private final Thread writer;
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder reconnectCount = new LongAdder();
+    private volatile boolean writerWaiting = false;
+    private volatile boolean closed = false;
+    private long reconnectDelayNanos = MIN_RECONNECT_DELAY_NANOS;
+    private long nextReconnectNanos = 0;
+
+    /**
+     * Policy for records that are published while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait until the writer makes room */
+        BLOCK,
+        /** Drop the oldest buffered record */
+        DROP_OLDEST,
+        /** Drop records below the drop threshold, wait for the others */
+        DROP_BELOW_LEVEL
+    }
+
+    private AsyncSocketHandler(final Builder builder, final SocketChannel channel) {
+        this.host = builder.host;
+        this.port = builder.port;
+        this.records = new BoundedRingBuffer<>(builder.capacity);
+        this.overflowPolicy = builder.overflowPolicy;
+        this.dropThreshold = builder.dropThreshold;
+        this.channel = channel;
+        if (channel == null) {
+            this.nextReconnectNanos = System.nanoTime() + this.reconnectDelayNanos;
+        }
+        setFormatter(new CompactFormatter());
+        this.writer = new Thread(this::writeRecords, "remote-log-writer-" + builder.host + ":" + builder.port);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Create a new builder for an {@link AsyncSocketHandler}.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void publish(final LogRecord logRecord) {
+        if (!isLoggable(logRecord)) {
+            return;
+        }
+        if (this.closed || (this.channel == null)) {
+            this.droppedCount.increment();
+            return;
+        }
+        inferCaller(logRecord);
+        if (enqueue(logRecord)) {
+            this.enqueuedCount.incrementAndGet();
+            if (this.writerWaiting) {
+                LockSupport.unpark(this.writer);
+            }
+        } else {
+            this.droppedCount.increment();
+        }
+    }
+
+    // LogRecord determines the source class and method lazily from the stack of the calling thread. On the writer
+    // thread there is no logger frame on the stack, so the caller must be resolved before the record is handed over.
+    private static void inferCaller(final LogRecord logRecord) {
+        logRecord.getSourceClassName();
+        logRecord.getSourceMethodName();
+    }
+
+    private boolean enqueue(final LogRecord logRecord) {
+        while (!this.records.offer(logRecord)) {
+            if (this.closed || (this.channel == null)) {
+                return false;
+            }
+            switch (this.overflowPolicy) {
+            case DROP_OLDEST:
+                dropOldest();
+                break;
+            case DROP_BELOW_LEVEL:
+                if (logRecord.getLevel().intValue() < this.dropThreshold.intValue()) {
+                    return false;
+                }
+                waitForSpace();
+                break;
+            default:
+                waitForSpace();
+            }
+        }
+        return true;
+    }
+
+    private void dropOldest() {
+        if (this.records.poll() != null) {
+            this.droppedCount.increment();
+            this.completedCount.incrementAndGet();
+        }
+    }
+
+    private void waitForSpace() {
+        LockSupport.unpark(this.writer);
+        LockSupport.parkNanos(BACKOFF_NANOS);
+    }
+
+    private void writeRecords() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BATCH_BUFFER_SIZE);
+        final Charset charset = getCharset();
+        int batchedRecords = 0;
+        while (true) {
+            final LogRecord logRecord = this.records.poll();
+            if (logRecord != null) {
+                if (appendRecord(buffer, logRecord, charset)) {
+                    ++batchedRecords;
+                } else {
+                    this.completedCount.incrementAndGet();
+                }
+            } else if (batchedRecords > 0) {
+                writeBatch(buffer, batchedRecords);
+                batchedRecords = 0;
+            } else if (this.closed && this.records.isEmpty()) {
+                break;
+            } else {
+                if (this.channel == null) {
+                    reconnectIfDue();
+                }
+                waitForRecords();
+            }
+        }
+        closeChannel();
+    }
+
+    private Charset getCharset() {
+        final String encoding = getEncoding();
+        return (encoding == null) ? Charset.defaultCharset() : Charset.forName(encoding);
+    }
+
+    private boolean appendRecord(final ByteBuffer buffer, final LogRecord logRecord, final Charset charset) {
+        if (this.channel == null) {
+            this.droppedCount.increment();
+            return false;
+        }
+        final byte[] bytes;
+        try {
+            bytes = getFormatter().format(logRecord).getBytes(charset);
+        } catch (final RuntimeException exception) {
+            reportError(null, exception, ErrorManager.FORMAT_FAILURE);
+            this.droppedCount.increment();
+            return false;
+        }
+        if (bytes.length > buffer.remaining()) {
+            writeBuffer(buffer);
+        }
+        if (bytes.length > buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            buffer.put(bytes);
+        }
+        return true;
+    }
+
+    private void writeBatch(final ByteBuffer buffer, final int batchedRecords) {
+        writeBuffer(buffer);
+        if (this.channel == null) {
+            this.droppedCount.add(batchedRecords);
+        } else {
+            this.writtenCount.add(batchedRecords);
+        }
+        this.completedCount.addAndGet(batchedRecords);
+    }
+
+    private void writeBuffer(final ByteBuffer buffer) {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(final ByteBuffer buffer) {
+        final SocketChannel currentChannel = this.channel;
+        if (currentChannel == null) {
+            return;
+        }
+        try {
+            while (buffer.hasRemaining()) {
+                currentChannel.write(buffer);
+            }
+        } catch (final IOException exception) {
+            reportError(null, exception, ErrorManager.WRITE_FAILURE);
+            disconnect();
+        }
+    }
+
+    private void disconnect() {
+        closeChannel();
+        this.channel = null;
+        this.reconnectDelayNanos = MIN_RECONNECT_DELAY_NANOS;
+        this.nextReconnectNanos = System.nanoTime() + this.reconnectDelayNanos;
+    }
+
+    private void reconnectIfDue() {
+        final long now = System.nanoTime();
+        if ((now - this.nextReconnectNanos) < 0) {
+            return;
+        }
+        try {
+            this.channel = openChannel(this.host, this.port);
+            this.reconnectCount.increment();
+        } catch (final IOException exception) {
+            this.reconnectDelayNanos = Math.min(this.reconnectDelayNanos * 2, MAX_RECONNECT_DELAY_NANOS);
+            this.nextReconnectNanos = System.nanoTime() + this.reconnectDelayNanos;
+        }
+    }
+
+    private void waitForRecords() {
+        this.writerWaiting = true;
+        if (this.records.isEmpty() && !this.closed) {
+            LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+        }
+        this.writerWaiting = false;
+    }
+
+    private void closeChannel() {
+        final SocketChannel currentChannel = this.channel;
+        if (currentChannel == null) {
+            return;
+        }
+        try {
+            currentChannel.close();
+        } catch (final IOException exception) {
+            reportError(null, exception, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Wait until all records published so far are written or dropped.
+     * <p>
+     * Gives up after a few seconds if the receiver does not accept data.
+     * </p>
+     */
+    @Override
+    public void flush() {
+        final long target = this.enqueuedCount.get();
+        final long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while ((this.completedCount.get() < target) && this.writer.isAlive() && (System.nanoTime() < deadline)) {
+            LockSupport.unpark(this.writer);
+            LockSupport.parkNanos(BACKOFF_NANOS);
+        }
+    }
+
+    /**
+     * Write the remaining records, stop the writer thread and close the connection.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.writer);
+        try {
+            this.writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.writer.isAlive()) {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Check if the handler is currently connected to the log receiver.
+     *
+     * @return {@code true} if connected, {@code false} while reconnecting or after closing
+     */
+    public boolean isConnected() {
+        return !this.closed && (this.channel != null);
+    }
+
+    /**
+     * Get the number of successful reconnects after the connection broke.
+     *
+     * @return number of reconnects
+     */
+    public long getReconnectCount() {
+        return this.reconnectCount.sum();
+    }
+
+    /**
+     * Get the number of records that were dropped because the buffer was full, the connection was down or the handler
+     * was closed.
+     *
+     * @return number of dropped records
+     */
+    public long getDroppedRecordCount() {
+        return this.droppedCount.sum();
+    }
+
+    /**
+     * Get the number of records that were sent to the socket.
+     *
+     * @return number of written records
+     */
+    public long getWrittenRecordCount() {
+        return this.writtenCount.sum();
+    }
+
+    /**
+     * Get the overflow policy.
+     *
+     * @return overflow policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * Builder for {@link AsyncSocketHandler}.
+     */
+    public static final class Builder {
+        private String host;
+        private int port;
+        private int capacity = DEFAULT_CAPACITY;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private Level dropThreshold = Level.INFO;
+
+        private Builder() {
+            // use builder()
+        }
+
+        /**
+         * Set the host of the log receiver.
+         *
+         * @param host host name or address
+         * @return builder instance for fluent programming
+         */
+        public Builder host(final String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * Set the port of the log receiver.
+         *
+         * @param port port number
+         * @return builder instance for fluent programming
+         */
+        public Builder port(final int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Set the number of records the buffer can hold.
+         *
+         * @param capacity buffer capacity, rounded up to the next power of two
+         * @return builder instance for fluent programming
+         */
+        public Builder capacity(final int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set the policy for records published while the buffer is full.
+         *
+         * @param overflowPolicy overflow policy
+         * @return builder instance for fluent programming
+         */
+        public Builder overflowPolicy(final OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Set the level below which records are dropped under {@link OverflowPolicy#DROP_BELOW_LEVEL}.
+         *
+         * @param dropThreshold lowest level that is never dropped
+         * @return builder instance for fluent programming
+         */
+        public Builder dropThreshold(final Level dropThreshold) {
+            this.dropThreshold = dropThreshold;
+            return this;
+        }
+
+        /**
+         * Connect to the log receiver and start the writer thread.
+         *
+         * @return new handler
+         * @throws IOException if the connection cannot be established
+         */
+        public AsyncSocketHandler build() throws IOException {
+            validateCapacity();
+            return new AsyncSocketHandler(this, openChannel(this.host, this.port));
+        }
+
+        /**
+         * Start the writer thread without connecting first.
+         * <p>
+         * The writer thread connects to the log receiver in the background, retrying with increasing delays. Use this
+         * after {@link #build()} failed, so that the caller does not wait for the connection again.
+         * </p>
+         *
+         * @return new disconnected handler
+         */
+        public AsyncSocketHandler buildDisconnected() {
+            validateCapacity();
+            return new AsyncSocketHandler(this, null);
+        }
+
+        private void validateCapacity() {
+            if (this.capacity < 1) {
+                throw new IllegalArgumentException(ExaError.messageBuilder("E-VS-COM-JAVA-44")
+                        .message("Invalid remote log buffer capacity {{capacity}}.", this.capacity)
+                        .mitigation("Use a capacity of at least 1.").toString());
+            }
+        }
+    }
+
+    private static SocketChannel openChannel(final String host, final int port) throws IOException {
+        final InetSocketAddress address = new InetSocketAddress(host, port);
+        if (address.isUnresolved()) {
+            throw new UnknownHostException(host);
+        }
+        final SocketChannel channel = SocketChannel.open();
+        try {
+            channel.socket().connect(address, CONNECT_TIMEOUT_MILLIS);
+            return channel;
+        } catch (final IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+}
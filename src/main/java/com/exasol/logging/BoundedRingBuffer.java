@@ -0,0 +1,106 @@
+package com.exasol.logging;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Bounded lock-free queue for multiple producers and consumers.
+ *
+ * <p>
+ * Each slot carries a sequence number that tells producers and consumers whether the slot is free or filled in the
+ * current round. Claiming a slot is a single compare-and-set on the head or tail counter, so neither side ever takes
+ * a lock.
+ * </p>
+ *
+ * @param <E> element type
+ */
+final class BoundedRingBuffer<E> {
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Create a new ring buffer.
+     *
+     * @param capacity minimum capacity; rounded up to the next power of two
+     */
+    BoundedRingBuffer(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; ++i) {
+            this.sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Add an element if there is space left.
+     *
+     * @param element element to add
+     * @return {@code true} if the element was added, {@code false} if the buffer is full
+     */
+    boolean offer(final E element) {
+        long position = this.tail.get();
+        while (true) {
+            final int index = (int) position & this.mask;
+            final long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.elements.set(index, element);
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest element.
+     *
+     * @return oldest element or {@code null} if the buffer is empty
+     */
+    E poll() {
+        long position = this.head.get();
+        while (true) {
+            final int index = (int) position & this.mask;
+            final long difference = this.sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    final E element = this.elements.getAndSet(index, null);
+                    this.sequences.set(index, position + this.mask + 1);
+                    return element;
+                }
+                position = this.head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = this.head.get();
+            }
+        }
+    }
+
+    /**
+     * Check if the buffer is empty.
+     *
+     * @return {@code true} if there are no elements
+     */
+    boolean isEmpty() {
+        return this.tail.get() <= this.head.get();
+    }
+
+    /**
+     * Get the capacity.
+     *
+     * @return maximum number of elements
+     */
+    int capacity() {
+        return this.mask + 1;
+    }
+}
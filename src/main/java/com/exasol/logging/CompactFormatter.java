@@ -3,17 +3,34 @@ package com.exasol.logging;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.Instant;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.logging.Formatter;
-import java.util.logging.LogRecord;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.*;
 
 /**
  * Formatter for compact log messages.
+ *
+ * <p>
+ * Apart from the returned string the formatter creates hardly any objects per record. Each thread reuses its own
+ * string builder and the date and time part of the timestamp, which only changes once per second. Abbreviated class
+ * names and padded log levels are computed once and cached.
+ * </p>
+ * <p>
+ * If formatting a record formats another record on the same thread, for example because a parameter's
+ * {@code toString()} logs, the nested call uses a fresh string builder.
+ * </p>
  */
 public class CompactFormatter extends Formatter {
-    private static final String LOG_LEVEL_FORMAT = "%-8s";
-    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final int LOG_LEVEL_WIDTH = 8;
+    private static final int MAX_CACHED_CLASS_NAMES = 4096;
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.")
+            .withZone(ZoneOffset.UTC);
+    private static final Map<String, String> ABBREVIATED_CLASS_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, String> PADDED_LEVELS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<FormattingState> FORMATTING_STATE = ThreadLocal.withInitial(FormattingState::new);
 
     /**
      * Formats a log record according in a compact manner.
@@ -25,43 +42,93 @@ public class CompactFormatter extends Formatter {
      */
     @Override
     public String format(final LogRecord record) {
-        final StringBuilder builder = new StringBuilder();
-        builder.append(formatTimestamp(record.getMillis()));
+        final FormattingState state = FORMATTING_STATE.get();
+        if (state.inUse) {
+            return format(record, state, new StringBuilder(256));
+        }
+        state.inUse = true;
+        try {
+            final StringBuilder builder = state.builder;
+            builder.setLength(0);
+            return format(record, state, builder);
+        } finally {
+            state.inUse = false;
+            state.trimBuilder();
+        }
+    }
+
+    private String format(final LogRecord record, final FormattingState state, final StringBuilder builder) {
+        state.appendTimestamp(record.getMillis(), builder);
         builder.append(" ");
-        builder.append(String.format(LOG_LEVEL_FORMAT, record.getLevel()));
+        builder.append(getPaddedLevel(record.getLevel()));
         appendClassName(record.getSourceClassName(), builder);
-        builder.append(formatMessage(record));
+        builder.append(formatMessageText(record));
         formatException(record, builder);
         builder.append(System.lineSeparator());
         return builder.toString();
     }
 
+    // Level.equals() only compares the numeric value, so the cache is keyed by name to keep custom levels apart.
+    private static String getPaddedLevel(final Level level) {
+        final String name = level.getName();
+        final String paddedLevel = PADDED_LEVELS.get(name);
+        return (paddedLevel == null) ? PADDED_LEVELS.computeIfAbsent(name, CompactFormatter::padLevel) : paddedLevel;
+    }
+
+    private static String padLevel(final String levelName) {
+        final StringBuilder builder = new StringBuilder(LOG_LEVEL_WIDTH).append(levelName);
+        while (builder.length() < LOG_LEVEL_WIDTH) {
+            builder.append(' ');
+        }
+        return builder.toString();
+    }
+
+    // Records without parameters and resource bundle are the common case and need neither formatting nor the lock
+    // that Formatter.formatMessage() takes.
+    private String formatMessageText(final LogRecord record) {
+        final Object[] parameters = record.getParameters();
+        if ((record.getResourceBundle() == null) && ((parameters == null) || (parameters.length == 0))) {
+            return record.getMessage();
+        } else {
+            return formatMessage(record);
+        }
+    }
+
     private void appendClassName(final String className, final StringBuilder builder) {
         if ((className != null) && !className.isEmpty()) {
             builder.append("[");
-            appendNonEmptyClassName(className, builder);
+            builder.append(getAbbreviatedClassName(className));
             builder.append("] ");
         }
     }
 
-    private void appendNonEmptyClassName(final String className, final StringBuilder builder) {
+    private static String getAbbreviatedClassName(final String className) {
+        final String cachedName = ABBREVIATED_CLASS_NAMES.get(className);
+        if (cachedName != null) {
+            return cachedName;
+        }
+        final String abbreviatedName = abbreviateClassName(className);
+        if (ABBREVIATED_CLASS_NAMES.size() < MAX_CACHED_CLASS_NAMES) {
+            ABBREVIATED_CLASS_NAMES.putIfAbsent(className, abbreviatedName);
+        }
+        return abbreviatedName;
+    }
+
+    private static String abbreviateClassName(final String className) {
+        final StringBuilder builder = new StringBuilder(className.length());
         int lastPosition = -1;
         int position = className.indexOf('.');
         while (position > 0) {
-            final String characterAfterDot = className.substring(lastPosition + 1, lastPosition + 2);
-            if (!(".".equals(characterAfterDot))) {
+            final char characterAfterDot = className.charAt(lastPosition + 1);
+            if (characterAfterDot != '.') {
                 builder.append(characterAfterDot);
             }
-            builder.append(".");
+            builder.append('.');
             lastPosition = position;
             position = className.indexOf('.', position + 1);
         }
-        builder.append(className.substring(lastPosition + 1));
-    }
-
-    private String formatTimestamp(final long millis) {
-        final Instant instant = Instant.ofEpochMilli(millis);
-        return this.dateTimeFormatter.format(instant.atZone(ZoneId.of("Z")));
+        builder.append(className, lastPosition + 1, className.length());
+        return builder.toString();
     }
 
     private void formatException(final LogRecord record, final StringBuilder builder) {
@@ -73,4 +140,34 @@ public class CompactFormatter extends Formatter {
             builder.append(errors);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Per-thread buffers of the formatter.
+     */
+    private static final class FormattingState {
+        private StringBuilder builder = new StringBuilder(256);
+        private boolean inUse = false;
+        private long cachedSecond = Long.MIN_VALUE;
+        private String cachedDateTime = null;
+
+        private void appendTimestamp(final long millis, final StringBuilder target) {
+            final long second = Math.floorDiv(millis, 1000L);
+            if (second != this.cachedSecond) {
+                this.cachedDateTime = DATE_TIME_FORMATTER.format(Instant.ofEpochSecond(second));
+                this.cachedSecond = second;
+            }
+            target.append(this.cachedDateTime);
+            final int milliOfSecond = (int) Math.floorMod(millis, 1000L);
+            target.append((char) ('0' + (milliOfSecond / 100)));
+            target.append((char) ('0' + ((milliOfSecond / 10) % 10)));
+            target.append((char) ('0' + (milliOfSecond % 10)));
+        }
+
+        // Do not keep a huge buffer alive after a single large message.
+        private void trimBuilder() {
+            if (this.builder.capacity() > MAX_RETAINED_BUILDER_CAPACITY) {
+                this.builder = new StringBuilder(256);
+            }
+        }
+    }
+}
@@ -10,7 +10,7 @@ import java.util.logging.*;
 public class RemoteLogManager {
     private static final Logger ROOT_LOGGER = LogManager.getLogManager().getLogger("");
     private static final Logger LOGGER = Logger.getLogger(RemoteLogManager.class.getName());
-    private SocketHandler socketHandler = null;
+    private AsyncSocketHandler socketHandler = null;
 
     /**
      * Configure the logger to write to the console
@@ -26,7 +26,7 @@ public class RemoteLogManager {
         setupRootLogger(new ConsoleHandler(), logLevel);
     }
 
-    private void setupRootLogger(final Handler handler, final Level logLevel) {
+    void setupRootLogger(final Handler handler, final Level logLevel) {
         removeExistingHandlers();
         ROOT_LOGGER.setLevel(logLevel);
         addHandler(handler, logLevel);
@@ -55,7 +55,7 @@ public class RemoteLogManager {
     public void setupRemoteLogger(final String host, final int port, final Level logLevel) {
         try {
             if (this.socketHandler == null) {
-                this.socketHandler = new SocketHandler(host, port);
+                this.socketHandler = AsyncSocketHandler.builder().host(host).port(port).build();
             }
             setupRootLogger(this.socketHandler, logLevel);
             LOGGER.info(() -> "Attached to output service with log level " + logLevel + ".");
@@ -0,0 +1,153 @@
+package com.exasol.logging;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Process-wide registry of the log sink that adapter calls write to.
+ *
+ * <p>
+ * The UDF process serves many adapter calls in a row. Instead of opening a new connection to the remote log receiver
+ * on each call, the registry keeps the connection and only reconfigures the root logger when the remote address or
+ * the log level changes. A broken connection is reestablished in the background by {@link AsyncSocketHandler}.
+ * </p>
+ * <p>
+ * If the receiver cannot be reached, log messages go to the console and the registry keeps a disconnected sink that
+ * connects in the background. Later calls with the same configuration do not try to connect again themselves. They
+ * switch to the remote sink once it is connected.
+ * </p>
+ * <p>
+ * A sink that is no longer needed, because logging switched to another address or to the console, is closed.
+ * </p>
+ */
+public final class RemoteLogSinkRegistry {
+    private static final Logger LOGGER = Logger.getLogger(RemoteLogSinkRegistry.class.getName());
+    private static final RemoteLogSinkRegistry INSTANCE = new RemoteLogSinkRegistry();
+    private final RemoteLogManager logManager = new RemoteLogManager();
+    private AsyncSocketHandler sink = null;
+    private String sinkHost = null;
+    private int sinkPort = 0;
+    private volatile Level activeLevel = null;
+    private volatile boolean consoleFallback = false;
+    private volatile Level activeConsoleLevel = null;
+
+    RemoteLogSinkRegistry() {
+        // use getInstance()
+    }
+
+    /**
+     * Get the singleton instance of the registry.
+     *
+     * @return registry instance
+     */
+    public static RemoteLogSinkRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Send log messages to a remote log receiver.
+     * <p>
+     * If the root logger already writes to the same address with the same log level, nothing happens. If the
+     * receiver cannot be reached, log messages go to the console until the sink connects in the background.
+     * </p>
+     *
+     * @param host     host that the log should be sent to
+     * @param port     port on which the log receiver is listening
+     * @param logLevel from this level on upward messages are logged
+     */
+    public void configureRemoteLogging(final String host, final int port, final Level logLevel) {
+        if (isActive(host, port, logLevel)) {
+            return;
+        }
+        synchronized (this) {
+            if (isActive(host, port, logLevel)) {
+                return;
+            }
+            this.activeConsoleLevel = null;
+            final AsyncSocketHandler remoteSink = getOrCreateSink(host, port);
+            if (remoteSink.isConnected()) {
+                this.logManager.setupRootLogger(remoteSink, logLevel);
+                this.consoleFallback = false;
+                this.activeLevel = logLevel;
+                LOGGER.info(() -> "Attached to output service with log level " + logLevel + ".");
+            } else {
+                this.logManager.setupConsoleLogger(logLevel);
+                this.consoleFallback = true;
+                this.activeLevel = logLevel;
+                LOGGER.warning(() -> "Unable to attach to remote log listener on " + host + ":" + port
+                        + ". Falling back to console log until the connection is established.");
+            }
+        }
+    }
+
+    // Reading the volatile level first publishes the host, port and sink written before it. A console fallback stays
+    // active until its sink has connected in the background.
+    private boolean isActive(final String host, final int port, final Level logLevel) {
+        final Level level = this.activeLevel;
+        if ((level == null) || !level.equals(logLevel) || (this.sinkPort != port) || !host.equals(this.sinkHost)) {
+            return false;
+        }
+        final AsyncSocketHandler currentSink = this.sink;
+        return !this.consoleFallback || (currentSink == null) || !currentSink.isConnected();
+    }
+
+    private AsyncSocketHandler getOrCreateSink(final String host, final int port) {
+        if ((this.sink != null) && (this.sinkPort == port) && host.equals(this.sinkHost)) {
+            return this.sink;
+        }
+        closeSink();
+        final AsyncSocketHandler.Builder builder = AsyncSocketHandler.builder().host(host).port(port);
+        try {
+            this.sink = builder.build();
+        } catch (final IOException exception) {
+            this.sink = builder.buildDisconnected();
+        }
+        this.sinkHost = host;
+        this.sinkPort = port;
+        return this.sink;
+    }
+
+    /**
+     * Send log messages to the console and close the remote connection if there is one.
+     * <p>
+     * If the root logger already writes to the console with the same log level, nothing happens.
+     * </p>
+     *
+     * @param logLevel from this level on upward messages are logged
+     */
+    public void configureConsoleLogging(final Level logLevel) {
+        if (logLevel.equals(this.activeConsoleLevel)) {
+            return;
+        }
+        synchronized (this) {
+            if (logLevel.equals(this.activeConsoleLevel)) {
+                return;
+            }
+            this.activeLevel = null;
+            this.consoleFallback = false;
+            this.logManager.setupConsoleLogger(logLevel);
+            closeSink();
+            this.activeConsoleLevel = logLevel;
+        }
+    }
+
+    /**
+     * Close the remote connection if there is one.
+     */
+    public synchronized void close() {
+        this.activeLevel = null;
+        this.activeConsoleLevel = null;
+        this.consoleFallback = false;
+        closeSink();
+    }
+
+    private void closeSink() {
+        if (this.sink != null) {
+            this.sink.close();
+            this.sink = null;
+            this.sinkHost = null;
+            this.sinkPort = 0;
+        }
+    }
+}
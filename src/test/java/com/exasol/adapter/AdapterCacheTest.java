@@ -0,0 +1,73 @@
+package com.exasol.adapter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AdapterCacheTest {
+    @Mock
+    private AdapterFactory adapterFactoryMock;
+    @Mock
+    private VirtualSchemaAdapter adapterMock;
+
+    @Test
+    void testGetAdapterFactoryLoadsFactoryOnlyOnce() {
+        final AtomicInteger loadCount = new AtomicInteger();
+        final AdapterCache cache = new AdapterCache(() -> {
+            loadCount.incrementAndGet();
+            return this.adapterFactoryMock;
+        });
+        cache.getAdapterFactory();
+        assertThat(cache.getAdapterFactory(), sameInstance(this.adapterFactoryMock));
+        assertThat(loadCount.get(), equalTo(1));
+    }
+
+    @Test
+    void testInvalidateReloadsFactory() {
+        final AtomicInteger loadCount = new AtomicInteger();
+        final AdapterCache cache = new AdapterCache(() -> {
+            loadCount.incrementAndGet();
+            return this.adapterFactoryMock;
+        });
+        cache.getAdapterFactory();
+        cache.invalidate();
+        cache.getAdapterFactory();
+        assertThat(loadCount.get(), equalTo(2));
+    }
+
+    @Test
+    void testAdapterIsNotReusedByDefault() {
+        when(this.adapterFactoryMock.createAdapter()).thenReturn(this.adapterMock);
+        final AdapterCache cache = new AdapterCache(() -> this.adapterFactoryMock);
+        assertThat(cache.getAdapterCallExecutor(), not(sameInstance(cache.getAdapterCallExecutor())));
+        verify(this.adapterFactoryMock, times(2)).createAdapter();
+    }
+
+    @Test
+    void testReusableAdapterIsCreatedOnlyOnce() {
+        when(this.adapterFactoryMock.isAdapterReusable()).thenReturn(true);
+        when(this.adapterFactoryMock.createAdapter()).thenReturn(this.adapterMock);
+        final AdapterCache cache = new AdapterCache(() -> this.adapterFactoryMock);
+        assertThat(cache.getAdapterCallExecutor(), sameInstance(cache.getAdapterCallExecutor()));
+        verify(this.adapterFactoryMock, times(1)).createAdapter();
+    }
+
+    @Test
+    void testInvalidateAdapterCreatesNewReusableAdapter() {
+        when(this.adapterFactoryMock.isAdapterReusable()).thenReturn(true);
+        when(this.adapterFactoryMock.createAdapter()).thenReturn(this.adapterMock);
+        final AdapterCache cache = new AdapterCache(() -> this.adapterFactoryMock);
+        final AdapterCallExecutor first = cache.getAdapterCallExecutor();
+        cache.invalidateAdapter();
+        assertThat(cache.getAdapterCallExecutor(), not(sameInstance(first)));
+        verify(this.adapterFactoryMock, times(2)).createAdapter();
+    }
+}
@@ -0,0 +1,70 @@
+package com.exasol.adapter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.adapter.jfr.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class AdapterFlightRecorderEventsTest {
+    private static final String PUSHDOWN_REQUEST = "{\"type\" : \"pushdown\"," //
+            + " \"schemaMetadataInfo\" : {\"name\" : \"VS\", \"properties\" : {}}," //
+            + " \"pushdownRequest\" : {\"type\" : \"select\", \"from\" : {\"type\" : \"table\", \"name\" : \"T\"}}," //
+            + " \"involvedTables\" : [{\"name\" : \"T\", \"columns\" : [{\"name\" : \"C\"," //
+            + " \"dataType\" : {\"type\" : \"BOOLEAN\"}}]}]}";
+
+    @Test
+    void testPushdownCallEmitsEvents(@TempDir final Path tempDir) throws AdapterException, IOException {
+        final String response;
+        final List<RecordedEvent> events;
+        try (final Recording recording = new Recording()) {
+            recording.enable(AdapterCallEvent.class);
+            recording.enable(AdapterExecutionEvent.class);
+            recording.enable(PushdownParseEvent.class);
+            recording.enable(TablesMetadataParseEvent.class);
+            recording.enable(ResponseConversionEvent.class);
+            recording.start();
+            response = RequestDispatcher.adapterCall(null, PUSHDOWN_REQUEST);
+            recording.stop();
+            final Path recordingFile = Files.createFile(tempDir.resolve("adapter-call.jfr"));
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        }
+        final RecordedEvent adapterCall = getEvent(events, "com.exasol.adapter.AdapterCall");
+        final RecordedEvent adapterExecution = getEvent(events, "com.exasol.adapter.AdapterExecution");
+        final RecordedEvent pushdownParse = getEvent(events, "com.exasol.adapter.PushdownParse");
+        final RecordedEvent tablesParse = getEvent(events, "com.exasol.adapter.TablesMetadataParse");
+        final RecordedEvent conversion = getEvent(events, "com.exasol.adapter.ResponseConversion");
+        assertAll(() -> assertThat(adapterCall.getString("requestType"), equalTo("PUSHDOWN")),
+                () -> assertThat(adapterCall.getString("virtualSchemaName"), equalTo("VS")),
+                () -> assertThat(adapterCall.getLong("requestLength"), equalTo((long) PUSHDOWN_REQUEST.length())),
+                () -> assertThat(adapterCall.getInt("involvedTableCount"), equalTo(1)),
+                () -> assertThat(adapterCall.getLong("outputLength"), equalTo((long) response.length())),
+                () -> assertThat(adapterExecution.getString("requestType"), equalTo("PUSHDOWN")),
+                () -> assertThat(pushdownParse.getString("statementType"), equalTo("SELECT")),
+                () -> assertThat(pushdownParse.getInt("involvedTableCount"), equalTo(1)),
+                () -> assertThat(tablesParse.getInt("tableCount"), equalTo(1)),
+                () -> assertThat(conversion.getString("responseType"), equalTo("pushdown")),
+                () -> assertThat(conversion.getLong("outputLength"), equalTo((long) response.length())));
+    }
+
+    private static RecordedEvent getEvent(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> matchingEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+        assertThat(name, matchingEvents, hasSize(1));
+        return matchingEvents.get(0);
+    }
+}
@@ -1,11 +1,16 @@
 package com.exasol.adapter;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.containsString;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.*;
 
 import org.itsallcode.io.Capturable;
@@ -15,6 +20,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import com.exasol.ExaMetadata;
+import com.exasol.adapter.metrics.*;
+import com.exasol.adapter.request.AdapterRequestType;
 import com.exasol.adapter.request.parser.RequestParserException;
 
 @ExtendWith(SystemErrGuard.class)
@@ -24,6 +31,37 @@ class RequestDispatcherTest {
             + "        \"name\" : \"foo\",\n" //
             + "        \"properties\" : {}\n" //
             + "    }\n";
+    private static final String PUSHDOWN_REQUEST = "{\n" //
+            + "    \"type\" : \"pushdown\",\n" //
+            + "    " + DEFAULT_REQUEST_PARTS + ",\n" //
+            + "    \"pushdownRequest\" :\n" //
+            + "    {\n" //
+            + "        \"type\" : \"select\",\n" //
+            + "        \"from\" :\n" //
+            + "        {\n" //
+            + "             \"type\" : \"table\",\n" //
+            + "             \"name\" : \"FOO\"\n" //
+            + "        }\n" //
+            + "    },\n" //
+            + "    \"involvedTables\" :\n" //
+            + "    [\n" //
+            + "        {\n" //
+            + "            \"name\" : \"FOO\",\n" //
+            + "            \"columns\" :\n" //
+            + "            [\n" //
+            + "                {\n" //
+            + "                    \"name\" : \"BAR\"," //
+            + "                    \"dataType\" :\n" //
+            + "                    {\n" //
+            + "                        \"type\" : \"DECIMAL\",\n" //
+            + "                        \"precision\" : 18,\n" //
+            + "                        \"scale\" : 0\n" //
+            + "                    }\n" //
+            + "                }\n" //
+            + "            ]\n" //
+            + "        }\n" //
+            + "    ]\n" //
+            + "}";
     private final ExaMetadata metadata = null;
 
     @BeforeEach
@@ -79,38 +117,66 @@ class RequestDispatcherTest {
 
     @Test
     void testDispatchPushDownRequest() throws AdapterException {
-        final String rawRequest = "{\n" //
-                + "    \"type\" : \"pushdown\",\n" //
-                + "    " + DEFAULT_REQUEST_PARTS + ",\n" //
-                + "    \"pushdownRequest\" :\n" //
-                + "    {\n" //
-                + "        \"type\" : \"select\",\n" //
-                + "        \"from\" :\n" //
-                + "        {\n" //
-                + "             \"type\" : \"table\",\n" //
-                + "             \"name\" : \"FOO\"\n" //
-                + "        }\n" //
-                + "    },\n" //
-                + "    \"involvedTables\" :\n" //
-                + "    [\n" //
-                + "        {\n" //
-                + "            \"name\" : \"FOO\",\n" //
-                + "            \"columns\" :\n" //
-                + "            [\n" //
-                + "                {\n" //
-                + "                    \"name\" : \"BAR\"," //
-                + "                    \"dataType\" :\n" //
-                + "                    {\n" //
-                + "                        \"type\" : \"DECIMAL\",\n" //
-                + "                        \"precision\" : 18,\n" //
-                + "                        \"scale\" : 0\n" //
-                + "                    }\n" //
-                + "                }\n" //
-                + "            ]\n" //
-                + "        }\n" //
-                + "    ]\n" //
-                + "}";
-        adapterCall(rawRequest).withResponse("{\"type\":\"pushdown\",\"sql\":\"SELECT * FROM FOOBAR\"}").verify();
+        adapterCall(PUSHDOWN_REQUEST).withResponse("{\"type\":\"pushdown\",\"sql\":\"SELECT * FROM FOOBAR\"}").verify();
+    }
+
+    @Test
+    void testReportsAdapterCallMetrics() throws AdapterException {
+        final List<AdapterCallMetrics> recordedMetrics = new ArrayList<>();
+        final AdapterCallMetricsSink sink = recordedMetrics::add;
+        AdapterCallTimer.addSink(sink);
+        try {
+            final String response = RequestDispatcher.adapterCall(this.metadata, PUSHDOWN_REQUEST);
+            assertThat(recordedMetrics, hasSize(1));
+            final AdapterCallMetrics metrics = recordedMetrics.get(0);
+            assertAll(() -> assertThat(metrics.getRequestType(), equalTo(AdapterRequestType.PUSHDOWN)),
+                    () -> assertThat(metrics.isSuccessful(), equalTo(true)),
+                    () -> assertThat(metrics.getRequestLength(), equalTo((long) PUSHDOWN_REQUEST.length())),
+                    () -> assertThat(metrics.getInvolvedTableCount(), equalTo(1)),
+                    () -> assertThat(metrics.getPushDownNodeCount(), greaterThan(0)),
+                    () -> assertThat(metrics.getResponseLength(), equalTo((long) response.length())),
+                    () -> assertThat(metrics.getPhaseNanos(AdapterCallPhase.REQUEST_PARSING), greaterThan(0L)),
+                    () -> assertThat(metrics.getTotalNanos(),
+                            greaterThanOrEqualTo(metrics.getPhaseNanos(AdapterCallPhase.ADAPTER_EXECUTION))));
+        } finally {
+            AdapterCallTimer.removeSink(sink);
+        }
+    }
+
+    @Test
+    void testReportsMetricsOfFailedAdapterCall(final Capturable stream) {
+        final List<AdapterCallMetrics> recordedMetrics = new ArrayList<>();
+        final AdapterCallMetricsSink sink = recordedMetrics::add;
+        AdapterCallTimer.addSink(sink);
+        stream.capture();
+        try {
+            final String rawRequest = "{ \"type\" : \"NON_EXISTENT_REQUEST_TYPE\" }";
+            assertThrows(RequestParserException.class, () -> RequestDispatcher.adapterCall(this.metadata, rawRequest));
+            assertAll(() -> assertThat(recordedMetrics, hasSize(1)),
+                    () -> assertThat(recordedMetrics.get(0).isSuccessful(), equalTo(false)),
+                    () -> assertThat(recordedMetrics.get(0).getRequestType(), nullValue()),
+                    () -> assertThat(recordedMetrics.get(0).getResponseLength(), equalTo(-1L)));
+        } finally {
+            AdapterCallTimer.removeSink(sink);
+        }
+    }
+
+    @Test
+    void testDispatchRequestFromReader() throws AdapterException {
+        final Reader rawRequest = new StringReader(
+                "{ \"type\" : \"dropVirtualSchema\", " + DEFAULT_REQUEST_PARTS + "}");
+        assertThat(RequestDispatcher.adapterCall(this.metadata, rawRequest),
+                equalTo("{\"type\":\"dropVirtualSchema\"}"));
+    }
+
+    @Test
+    void testDispatchRequestFromByteBuffer() throws AdapterException {
+        final ByteBuffer rawRequest = ByteBuffer.wrap(("{ \"type\" : \"refresh\", " + DEFAULT_REQUEST_PARTS + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        assertAll(
+                () -> assertThat(RequestDispatcher.adapterCall(this.metadata, rawRequest),
+                        equalTo("{\"type\":\"refresh\",\"schemaMetadata\":{\"tables\":[],\"adapterNotes\":\"\"}}")),
+                () -> assertThat(rawRequest.position(), equalTo(0)));
     }
 
     private AdapterCallVerifier adapterCall(final String rawRequest) {
@@ -150,7 +216,9 @@ class RequestDispatcherTest {
                 + "}";
         stream.capture();
         RequestDispatcher.adapterCall(this.metadata, rawRequest);
-        assertThat(stream.getCapturedData(), containsString("level FINE."));
+        assertAll(() -> assertThat(stream.getCapturedData(), containsString("level FINE.")),
+                () -> assertThat(stream.getCapturedData(),
+                        containsString("Adapter call CREATE_VIRTUAL_SCHEMA finished after ")));
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.exasol.adapter.capabilities;
 
+import java.util.EnumSet;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -7,7 +9,11 @@ import static com.exasol.adapter.capabilities.CapabilityAssertions.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CapabilitiesTest {
     private Capabilities.Builder builder;
@@ -124,4 +130,104 @@ class CapabilitiesTest {
                 () -> assertThat(capabilitiesWithExclusion.getAggregateFunctionCapabilities(),
                         containsInAnyOrder(AggregateFunctionCapability.AVG)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSubtractCapabilitiesDoesNotModifyOperands() {
+        final Capabilities capabilities = this.builder
+                .addMain(MainCapability.LIMIT, MainCapability.SELECTLIST_PROJECTION).build();
+        final Capabilities capabilitiesToExclude = Capabilities.builder().addMain(MainCapability.LIMIT).build();
+        capabilities.subtractCapabilities(capabilitiesToExclude);
+        assertThat(capabilities.getMainCapabilities(),
+                contains(MainCapability.SELECTLIST_PROJECTION, MainCapability.LIMIT));
+    }
+
+    @Test
+    void testCapabilitySetsAreUnmodifiable() {
+        final Capabilities capabilities = this.builder.addMain(MainCapability.LIMIT).build();
+        final var mainCapabilities = capabilities.getMainCapabilities();
+        assertThrows(UnsupportedOperationException.class,
+                () -> mainCapabilities.add(MainCapability.FILTER_EXPRESSIONS));
+    }
+
+    @Test
+    void testCapabilitiesWithSameContentAreEqual() {
+        final Capabilities first = this.builder.addMain(MainCapability.LIMIT).addLiteral(LiteralCapability.BOOL)
+                .build();
+        final Capabilities second = Capabilities.builder().addLiteral(LiteralCapability.BOOL)
+                .addMain(MainCapability.LIMIT).build();
+        assertAll(() -> assertThat(first, equalTo(second)), //
+                () -> assertThat(first.hashCode(), equalTo(second.hashCode())), //
+                () -> assertThat(first, not(equalTo(Capabilities.builder().build()))));
+    }
+
+    @Test
+    void testGetCapabilityNames() {
+        final Capabilities capabilities = this.builder //
+                .addLiteral(LiteralCapability.DATE) //
+                .addAggregateFunction(AggregateFunctionCapability.AVG) //
+                .addPredicate(PredicateCapability.EQUAL) //
+                .addScalarFunction(ScalarFunctionCapability.ADD) //
+                .addMain(MainCapability.LIMIT) //
+                .build();
+        assertThat(capabilities.getCapabilityNames(),
+                contains("LIMIT", "FN_ADD", "FN_PRED_EQUAL", "FN_AGG_AVG", "LITERAL_DATE"));
+    }
+
+    @Test
+    void testSupports() {
+        final Capabilities capabilities = this.builder.addMain(MainCapability.LIMIT)
+                .addScalarFunction(ScalarFunctionCapability.values()[ScalarFunctionCapability.values().length - 1])
+                .addAggregateFunction(AggregateFunctionCapability.AVG).build();
+        assertAll(() -> assertThat(capabilities.supports(MainCapability.LIMIT), equalTo(true)),
+                () -> assertThat(capabilities.supports(MainCapability.JOIN), equalTo(false)),
+                () -> assertThat(capabilities.supports(
+                        ScalarFunctionCapability.values()[ScalarFunctionCapability.values().length - 1]),
+                        equalTo(true)),
+                () -> assertThat(capabilities.supports(ScalarFunctionCapability.ABS), equalTo(false)),
+                () -> assertThat(capabilities.supports(AggregateFunctionCapability.AVG), equalTo(true)),
+                () -> assertThat(capabilities.supports(PredicateCapability.AND), equalTo(false)),
+                () -> assertThat(capabilities.supports(LiteralCapability.BOOL), equalTo(false)));
+    }
+
+    @Test
+    void testContainsAll() {
+        final Capabilities superset = this.builder.addMain(MainCapability.LIMIT, MainCapability.JOIN)
+                .addPredicate(PredicateCapability.AND).build();
+        final Capabilities subset = Capabilities.builder().addMain(MainCapability.JOIN).build();
+        assertAll(() -> assertThat(superset.containsAll(subset), equalTo(true)),
+                () -> assertThat(subset.containsAll(superset), equalTo(false)),
+                () -> assertThat(subset.containsAll(Capabilities.builder().build()), equalTo(true)));
+    }
+
+    @Test
+    void testUnion() {
+        final Capabilities first = this.builder.addMain(MainCapability.LIMIT)
+                .addScalarFunction(ScalarFunctionCapability.ABS).build();
+        final Capabilities second = Capabilities.builder().addLiteral(LiteralCapability.BOOL)
+                .addScalarFunction(ScalarFunctionCapability.ADD).build();
+        final Capabilities union = first.union(second);
+        assertAll(() -> assertThat(union.getMainCapabilities(), contains(MainCapability.LIMIT)),
+                () -> assertThat(union.getLiteralCapabilities(), contains(LiteralCapability.BOOL)),
+                () -> assertThat(union.getScalarFunctionCapabilities(),
+                        containsInAnyOrder(ScalarFunctionCapability.ABS, ScalarFunctionCapability.ADD)),
+                () -> assertThat(union.containsAll(first) && union.containsAll(second), equalTo(true)));
+    }
+
+    @Test
+    void testSubtractAll() {
+        final Capabilities capabilities = this.builder.addMain(MainCapability.LIMIT)
+                .addAggregateFunction(AggregateFunctionCapability.AVG).build();
+        final Capabilities difference = capabilities.subtract(capabilities);
+        assertAll(() -> assertThat(difference.isEmpty(), equalTo(true)),
+                () -> assertThat(difference.getMainCapabilities(), empty()),
+                () -> assertThat(capabilities.supports(AggregateFunctionCapability.AVG), equalTo(true)));
+    }
+
+    @Test
+    void testCapabilitySetViewEqualsEnumSet() {
+        final Capabilities capabilities = this.builder
+                .addPredicate(PredicateCapability.EQUAL, PredicateCapability.IS_NULL).build();
+        assertThat(capabilities.getPredicateCapabilities(),
+                equalTo(EnumSet.of(PredicateCapability.EQUAL, PredicateCapability.IS_NULL)));
+    }
+}
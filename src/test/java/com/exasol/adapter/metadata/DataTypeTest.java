@@ -2,6 +2,8 @@ package com.exasol.adapter.metadata;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
@@ -123,4 +125,38 @@ class DataTypeTest {
     void testIsSupportedForUnsupporteTypeFalse() {
         assertThat(DataType.createUnsupported().isSupported(), equalTo(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEqualParameterizedTypesShareInstance() {
+        assertAll(
+                () -> assertThat(DataType.createDecimal(18, 2), sameInstance(DataType.createDecimal(18, 2))),
+                () -> assertThat(DataType.createVarChar(100, DataType.ExaCharset.UTF8),
+                        sameInstance(DataType.createVarChar(100, DataType.ExaCharset.UTF8))),
+                () -> assertThat(DataType.createChar(10, DataType.ExaCharset.ASCII),
+                        sameInstance(DataType.createChar(10, DataType.ExaCharset.ASCII))),
+                () -> assertThat(DataType.createGeometry(4326), sameInstance(DataType.createGeometry(4326))),
+                () -> assertThat(DataType.createIntervalDaySecond(2, 3),
+                        sameInstance(DataType.createIntervalDaySecond(2, 3))),
+                () -> assertThat(DataType.createIntervalYearMonth(2),
+                        sameInstance(DataType.createIntervalYearMonth(2))),
+                () -> assertThat(DataType.createHashtype(16), sameInstance(DataType.createHashtype(16))));
+    }
+
+    @Test
+    void testParameterlessTypesShareInstance() {
+        assertAll(() -> assertThat(DataType.createDouble(), sameInstance(DataType.createDouble())),
+                () -> assertThat(DataType.createDate(), sameInstance(DataType.createDate())),
+                () -> assertThat(DataType.createBool(), sameInstance(DataType.createBool())),
+                () -> assertThat(DataType.createUnsupported(), sameInstance(DataType.createUnsupported())),
+                () -> assertThat(DataType.createTimestamp(true), sameInstance(DataType.createTimestamp(true))),
+                () -> assertThat(DataType.createTimestamp(false), sameInstance(DataType.createTimestamp(false))));
+    }
+
+    @Test
+    void testDifferentTypesDoNotShareInstance() {
+        assertAll(() -> assertThat(DataType.createDecimal(18, 2), not(equalTo(DataType.createDecimal(18, 3)))),
+                () -> assertThat(DataType.createVarChar(100, DataType.ExaCharset.UTF8),
+                        not(equalTo(DataType.createVarChar(100, DataType.ExaCharset.ASCII)))),
+                () -> assertThat(DataType.createTimestamp(true), not(equalTo(DataType.createTimestamp(false)))));
+    }
+}
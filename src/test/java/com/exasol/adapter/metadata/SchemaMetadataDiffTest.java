@@ -0,0 +1,49 @@
+package com.exasol.adapter.metadata;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SchemaMetadataDiffTest {
+    private static final TableMetadata TABLE_A = createTable("A", DataType.createDecimal(18, 0));
+    private static final TableMetadata TABLE_B = createTable("B", DataType.createDouble());
+    private static final TableMetadata TABLE_C = createTable("C", DataType.createDate());
+
+    private static TableMetadata createTable(final String name, final DataType type) {
+        return new TableMetadata(name, "", List.of(ColumnMetadata.builder().name("COL").type(type).build()), "");
+    }
+
+    @Test
+    void testCompareEqualSnapshots() {
+        final SchemaMetadataDiff diff = SchemaMetadataDiff.compare(new SchemaMetadata("", List.of(TABLE_A, TABLE_B)),
+                new SchemaMetadata("", List.of(TABLE_A, createTable("B", DataType.createDouble()))));
+        assertAll(() -> assertThat(diff.hasChanges(), equalTo(false)),
+                () -> assertThat(diff.getAddedTables(), empty()),
+                () -> assertThat(diff.getChangedTables(), empty()),
+                () -> assertThat(diff.getRemovedTables(), empty()));
+    }
+
+    @Test
+    void testCompareDetectsAddedChangedAndRemovedTables() {
+        final TableMetadata changedB = createTable("B", DataType.createVarChar(10, DataType.ExaCharset.UTF8));
+        final SchemaMetadataDiff diff = SchemaMetadataDiff.compare(new SchemaMetadata("", List.of(TABLE_A, TABLE_B)),
+                new SchemaMetadata("", List.of(changedB, TABLE_C)));
+        assertAll(() -> assertThat(diff.hasChanges(), equalTo(true)),
+                () -> assertThat(diff.getAddedTables(), contains(TABLE_C)),
+                () -> assertThat(diff.getChangedTables(), contains(changedB)),
+                () -> assertThat(diff.getRemovedTables(), contains(TABLE_A)),
+                () -> assertThat(diff.isAdapterNotesChanged(), equalTo(false)));
+    }
+
+    @Test
+    void testCompareDetectsChangedAdapterNotes() {
+        final SchemaMetadataDiff diff = SchemaMetadataDiff.compare(new SchemaMetadata("old", List.of(TABLE_A)),
+                new SchemaMetadata("new", List.of(TABLE_A)));
+        assertAll(() -> assertThat(diff.hasChanges(), equalTo(true)),
+                () -> assertThat(diff.isAdapterNotesChanged(), equalTo(true)));
+    }
+}
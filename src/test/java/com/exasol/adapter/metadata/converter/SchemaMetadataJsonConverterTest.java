@@ -7,10 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.json.Json;
 import javax.json.JsonObject;
+import javax.json.stream.JsonGenerator;
 
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
@@ -72,6 +75,41 @@ class SchemaMetadataJsonConverterTest {
         JSONAssert.assertEquals(expected, actual.toString(), false);
     }
 
+    @Test
+    void testWriteProducesSameJsonAsConvert() {
+        final List<ColumnMetadata> columns = List.of( //
+                new ColumnMetadata.Builder().name("C_DECIMAL").type(DataType.createDecimal(18, 2))
+                        .adapterNotes("{\"quoted\": \"notes\"}").nullable(false).build(),
+                new ColumnMetadata.Builder().name("C_VARCHAR").type(DataType.createVarChar(100, ExaCharset.UTF8))
+                        .defaultValue("'\u00c4'").comment("line\nbreak").build(),
+                new ColumnMetadata.Builder().name("C_CHAR").type(DataType.createChar(10, ExaCharset.ASCII)).build(),
+                new ColumnMetadata.Builder().name("C_TIMESTAMP").type(DataType.createTimestamp(true)).identity(true)
+                        .build(),
+                new ColumnMetadata.Builder().name("C_GEOMETRY").type(DataType.createGeometry(4326)).build(),
+                new ColumnMetadata.Builder().name("C_YM").type(DataType.createIntervalYearMonth(4)).build(),
+                new ColumnMetadata.Builder().name("C_DS").type(DataType.createIntervalDaySecond(2, 3)).build(),
+                new ColumnMetadata.Builder().name("C_HASH").type(DataType.createHashtype(16)).build(),
+                new ColumnMetadata.Builder().name("C_DOUBLE").type(DataType.createDouble()).build());
+        final List<TableMetadata> tables = List.of(new TableMetadata("T1", "notes", columns, "comment"),
+                new TableMetadata("T2", null, columns, null));
+        final SchemaMetadata schemaMetadata = new SchemaMetadata("schema notes", tables);
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = Json.createGenerator(writer)) {
+            CONVERTER.write(schemaMetadata, generator);
+        }
+        assertThat(writer.toString(), equalTo(CONVERTER.convert(schemaMetadata).toString()));
+    }
+
+    @Test
+    void testWriteTypeIntervalDayToSecond() {
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = Json.createGenerator(writer)) {
+            CONVERTER.writeType(DataType.createIntervalDaySecond(2, 3), generator);
+        }
+        assertThat(writer.toString(),
+                equalTo("{\"type\":\"interval\",\"fromTo\":\"DAY TO SECONDS\",\"precision\":2,\"fraction\":3}"));
+    }
+
     @Test
     void testConvertTypeDecimal() {
         final int precision = 5;
@@ -0,0 +1,98 @@
+package com.exasol.adapter.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdapterCallTimerTest {
+    private final List<AdapterCallMetrics> recordedMetrics = new ArrayList<>();
+    private final AdapterCallMetricsSink sink = this.recordedMetrics::add;
+
+    @BeforeEach
+    void beforeEach() {
+        AdapterCallTimer.addSink(this.sink);
+    }
+
+    @AfterEach
+    void afterEach() {
+        AdapterCallTimer.removeSink(this.sink);
+    }
+
+    @Test
+    void testRepeatedPhasesAddUp() throws InterruptedException {
+        final AdapterCallTimer timer = AdapterCallTimer.start(100);
+        Thread.sleep(5);
+        timer.endPhase(AdapterCallPhase.LOGGING_SETUP);
+        timer.endPhase(AdapterCallPhase.REQUEST_PARSING);
+        Thread.sleep(5);
+        timer.endPhase(AdapterCallPhase.LOGGING_SETUP);
+        timer.finish("response");
+        final AdapterCallMetrics metrics = this.recordedMetrics.get(0);
+        assertAll(
+                () -> assertThat(metrics.getPhaseNanos(AdapterCallPhase.LOGGING_SETUP),
+                        greaterThanOrEqualTo(10_000_000L)),
+                () -> assertThat(metrics.getPhaseNanos(AdapterCallPhase.ADAPTER_EXECUTION), equalTo(0L)),
+                () -> assertThat(metrics.getTotalNanos(),
+                        greaterThanOrEqualTo(metrics.getPhaseNanos(AdapterCallPhase.LOGGING_SETUP))),
+                () -> assertThat(metrics.getRequestLength(), equalTo(100L)),
+                () -> assertThat(metrics.getResponseLength(), equalTo(8L)),
+                () -> assertThat(metrics.getInvolvedTableCount(), equalTo(-1)),
+                () -> assertThat(metrics.getPushDownNodeCount(), equalTo(-1)));
+    }
+
+    @Test
+    void testHasEnded() {
+        final AdapterCallTimer timer = AdapterCallTimer.start(-1);
+        timer.endPhase(AdapterCallPhase.ADAPTER_LOOKUP);
+        assertAll(() -> assertThat(timer.hasEnded(AdapterCallPhase.ADAPTER_LOOKUP), equalTo(true)),
+                () -> assertThat(timer.hasEnded(AdapterCallPhase.ADAPTER_EXECUTION), equalTo(false)));
+        timer.finishWithFailure();
+    }
+
+    @Test
+    void testEndPhaseOfCurrentCall() {
+        final AdapterCallTimer timer = AdapterCallTimer.start(-1);
+        AdapterCallTimer.endPhaseOfCurrentCall(AdapterCallPhase.ADAPTER_EXECUTION);
+        assertThat(timer.hasEnded(AdapterCallPhase.ADAPTER_EXECUTION), equalTo(true));
+        timer.finish("");
+    }
+
+    @Test
+    void testEndPhaseWithoutCurrentCallIsIgnored() {
+        final AdapterCallTimer timer = AdapterCallTimer.start(-1);
+        timer.finish("");
+        AdapterCallTimer.endPhaseOfCurrentCall(AdapterCallPhase.ADAPTER_EXECUTION);
+        assertThat(timer.hasEnded(AdapterCallPhase.ADAPTER_EXECUTION), equalTo(false));
+    }
+
+    @Test
+    void testFailingSinkDoesNotBreakCall() {
+        final AdapterCallMetricsSink failingSink = metrics -> {
+            throw new IllegalStateException("sink failure");
+        };
+        AdapterCallTimer.addSink(failingSink);
+        try {
+            AdapterCallTimer.start(-1).finish("");
+        } finally {
+            AdapterCallTimer.removeSink(failingSink);
+        }
+        assertThat(this.recordedMetrics, hasSize(1));
+    }
+
+    @Test
+    void testSummary() {
+        final AdapterCallTimer timer = AdapterCallTimer.start(42);
+        timer.finishWithFailure();
+        assertThat(this.recordedMetrics.get(0).toString(),
+                allOf(startsWith("Adapter call of unknown type failed after "), containsString("request parsing "),
+                        containsString("response serialization "),
+                        endsWith("request length 42, involved tables -1, push-down nodes -1, response length -1.")));
+    }
+}
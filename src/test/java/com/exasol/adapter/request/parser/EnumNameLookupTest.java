@@ -0,0 +1,56 @@
+package com.exasol.adapter.request.parser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.exasol.adapter.sql.SqlNodeType;
+
+class EnumNameLookupTest {
+    private static final EnumNameLookup<SqlNodeType> NODE_TYPES = EnumNameLookup.of(SqlNodeType.class);
+
+    @ParameterizedTest
+    @EnumSource(SqlNodeType.class)
+    void testFindEveryConstantIgnoringCase(final SqlNodeType type) {
+        assertAll(() -> assertThat(NODE_TYPES.find(type.name()), sameInstance(type)),
+                () -> assertThat(NODE_TYPES.find(type.name().toLowerCase()), sameInstance(type)));
+    }
+
+    @Test
+    void testFindMixedCase() {
+        assertThat(NODE_TYPES.find("Predicate_And"), sameInstance(SqlNodeType.PREDICATE_AND));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "predicate", "predicate_and_", "predicate-and" })
+    void testFindUnknownNameReturnsNull(final String name) {
+        assertThat(NODE_TYPES.find(name), nullValue());
+    }
+
+    @Test
+    void testFindNullReturnsNull() {
+        assertThat(NODE_TYPES.find(null), nullValue());
+    }
+
+    @Test
+    void testGetUnknownNameThrowsException() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> NODE_TYPES.get("unknown"));
+        assertThat(exception.getMessage(),
+                allOf(containsString("E-VS-COM-JAVA-40"), containsString("SqlNodeType"), containsString("'unknown'")));
+    }
+
+    private enum Empty {
+    }
+
+    @Test
+    void testLookupForEnumWithoutConstants() {
+        assertThat(EnumNameLookup.of(Empty.class).find("ANY"), nullValue());
+    }
+}
@@ -105,6 +105,29 @@ class PushDownSqlParserTest {
                 () -> assertThat(sqlStatementSelect.getType(), equalTo(SELECT)));
     }
 
+    @Test
+    void testParseLazySelectMatchesEagerSelect() {
+        final String sqlAsJson = "{" //
+                + "   \"type\" : \"select\", " //
+                + "   \"from\" : { \"type\" : \"table\", \"name\" : \"CLICKS\" }, " //
+                + "   \"filter\" : { \"type\" : \"predicate_equal\", " //
+                + "       \"left\" : { \"type\" : \"column\", \"name\" : \"USER_ID\", \"columnNr\" : 0, " //
+                + "                    \"tableName\" : \"CLICKS\" }, " //
+                + "       \"right\" : { \"type\" : \"literal_exactnumeric\", \"value\" : \"1\" } }, " //
+                + "   \"limit\" : { \"numElements\" : 10 } " //
+                + "}";
+        final JsonObject jsonObject = createJsonObjectFromString(sqlAsJson);
+        final PushdownSqlParser lazyParser = PushdownSqlParser.createLazyWithTablesMetadata(
+                List.of(new TableMetadata("CLICKS", "", createDefaultColumnMetadata(), "")));
+        final SqlStatementSelect lazySelect = (SqlStatementSelect) lazyParser.parseExpression(jsonObject);
+        final SqlStatementSelect eagerSelect = (SqlStatementSelect) this.defaultParser.parseExpression(jsonObject);
+        assertAll(() -> assertThat(lazySelect, instanceOf(LazySqlStatementSelect.class)),
+                () -> assertThat(lazySelect.hasFilter(), equalTo(true)),
+                () -> assertThat(lazySelect.hasOrderBy(), equalTo(false)),
+                () -> assertThat(lazySelect, equalTo(eagerSelect)),
+                () -> assertThat(lazySelect.getWhereClause().getParent(), sameInstance(lazySelect)));
+    }
+
     @Test
     void testParseColumn() {
         final String sqlAsJson = "{" //
@@ -122,6 +145,38 @@ class PushDownSqlParserTest {
                 () -> assertThat(sqlColumn.getType(), equalTo(SqlNodeType.COLUMN)));
     }
 
+    @Test
+    void testParseColumnOfWideTable() {
+        final List<ColumnMetadata> columns = new ArrayList<>();
+        for (int i = 0; i < 2000; ++i) {
+            columns.add(ColumnMetadata.builder().name("C" + i).type(createDecimal(18, 0)).build());
+        }
+        final PushdownSqlParser parser = PushdownSqlParser
+                .createWithTablesMetadata(List.of(new TableMetadata("WIDE", "", columns, "")));
+        final JsonObject jsonObject = createJsonObjectFromString(
+                "{\"type\":\"column\", \"name\":\"C1999\", \"columnNr\":1999, \"tableName\":\"WIDE\"}");
+        final SqlColumn sqlColumn = (SqlColumn) parser.parseExpression(jsonObject);
+        assertThat(sqlColumn.getMetadata(), sameInstance(columns.get(1999)));
+    }
+
+    @Test
+    void testParseUnknownColumnThrowsException() {
+        final JsonObject jsonObject = createJsonObjectFromString(
+                "{\"type\":\"column\", \"name\":\"UNKNOWN\", \"columnNr\":0, \"tableName\":\"CLICKS\"}");
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> this.defaultParser.parseExpression(jsonObject));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-15"));
+    }
+
+    @Test
+    void testParseColumnOfUnknownTableThrowsException() {
+        final JsonObject jsonObject = createJsonObjectFromString(
+                "{\"type\":\"column\", \"name\":\"USER_ID\", \"columnNr\":0, \"tableName\":\"UNKNOWN\"}");
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> this.defaultParser.parseExpression(jsonObject));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-14"));
+    }
+
     @Test
     void testParseLiteralBool() {
         final String sqlAsJson = "{" //
@@ -224,6 +279,22 @@ class PushDownSqlParserTest {
                 () -> assertThat(sqlLiteralExactnumeric.getValue(), equalTo(BigDecimal.valueOf(100000))));
     }
 
+    @ParameterizedTest
+    @CsvSource({ "-42, true", "123456789012345678, true", "1234567890123456789, false", "1.5, false",
+            "1E+3, false" })
+    void testParseLiteralExactNumericRepresentation(final String value, final boolean longValue) {
+        final String sqlAsJson = "{" //
+                + "   \"type\" : \"literal_exactnumeric\", " //
+                + "   \"value\" : \"" + value + "\" " //
+                + "}";
+        final JsonObject jsonObject = createJsonObjectFromString(sqlAsJson);
+        final SqlLiteralExactnumeric sqlLiteralExactnumeric = (SqlLiteralExactnumeric) this.defaultParser
+                .parseExpression(jsonObject);
+        assertAll(() -> assertThat(sqlLiteralExactnumeric.hasLongValue(), equalTo(longValue)),
+                () -> assertThat(sqlLiteralExactnumeric.getValue(), equalTo(new BigDecimal(value))),
+                () -> assertThat(sqlLiteralExactnumeric.getValueAsString(), equalTo(new BigDecimal(value).toString())));
+    }
+
     @Test
     void testParseLiteralString() {
         final String sqlAsJson = "{" //
@@ -312,6 +383,49 @@ class PushDownSqlParserTest {
                 () -> assertThat(sqlPredicateOr.getOrPredicates(), is(empty())));
     }
 
+    @Test
+    void testParseNestedPredicateAndIsFlattened() {
+        final String sqlAsJson = "{" //
+                + "   \"type\" : \"predicate_and\", " //
+                + "   \"expressions\" : [ " //
+                + "   { \"type\" : \"predicate_and\", \"expressions\" : [ " //
+                + "       { \"type\" : \"literal_double\", \"value\" : \"1.0\" }, " //
+                + "       { \"type\" : \"predicate_or\", \"expressions\" : [ " //
+                + "           { \"type\" : \"literal_double\", \"value\" : \"2.0\" }, " //
+                + "           { \"type\" : \"literal_double\", \"value\" : \"3.0\" } " //
+                + "       ] } " //
+                + "   ] }, " //
+                + "   { \"type\" : \"literal_double\", \"value\" : \"4.0\" } " //
+                + "   ] " //
+                + "}";
+        final JsonObject jsonObject = createJsonObjectFromString(sqlAsJson);
+        final SqlPredicateAnd sqlPredicateAnd = (SqlPredicateAnd) this.defaultParser.parseExpression(jsonObject);
+        final List<SqlNode> expressions = sqlPredicateAnd.getAndedPredicates();
+        assertAll(() -> assertThat(expressions.size(), equalTo(3)),
+                () -> assertThat(((SqlLiteralDouble) expressions.get(0)).getValue(), equalTo(1.0)),
+                () -> assertThat(expressions.get(1).getType(), equalTo(PREDICATE_OR)),
+                () -> assertThat(((SqlPredicateOr) expressions.get(1)).getOrPredicates().size(), equalTo(2)),
+                () -> assertThat(((SqlLiteralDouble) expressions.get(2)).getValue(), equalTo(4.0)),
+                () -> assertThat(expressions.get(0).getParent(), equalTo(sqlPredicateAnd)));
+    }
+
+    @Test
+    void testParseDeeplyNestedPredicateOr() {
+        final int depth = 1000;
+        final StringBuilder sqlAsJson = new StringBuilder();
+        for (int i = 0; i < depth; ++i) {
+            sqlAsJson.append("{ \"type\" : \"predicate_or\", \"expressions\" : [ ") //
+                    .append("{ \"type\" : \"literal_double\", \"value\" : \"").append(i).append("\" }, ");
+        }
+        sqlAsJson.append("{ \"type\" : \"literal_null\" }");
+        for (int i = 0; i < depth; ++i) {
+            sqlAsJson.append(" ] }");
+        }
+        final JsonObject jsonObject = createJsonObjectFromString(sqlAsJson.toString());
+        final SqlPredicateOr sqlPredicateOr = (SqlPredicateOr) this.defaultParser.parseExpression(jsonObject);
+        assertThat(sqlPredicateOr.getOrPredicates().size(), equalTo(depth + 1));
+    }
+
     @Test
     void testParsePredicateNot() {
         final String sqlAsJson = "{" //
@@ -545,6 +659,38 @@ class PushDownSqlParserTest {
                 () -> assertThat(sqlLiteralDouble.getValue(), equalTo(1.0)));
     }
 
+    @Test
+    void testParseNamesIgnoringCase() {
+        final String sqlAsJson = "{" //
+                + "   \"type\" : \"Function_Scalar_Cast\", " //
+                + "   \"dataType\" : { \"type\" : \"Double\" }, " //
+                + "   \"arguments\" : [ " //
+                + "   { " //
+                + "        \"type\" : \"FUNCTION_SCALAR\", " //
+                + "        \"name\" : \"abs\", " //
+                + "        \"arguments\" : [ { \"type\" : \"literal_double\", \"value\" : \"1.0\" } ] " //
+                + "   } " //
+                + "   ] " //
+                + "}";
+        final JsonObject jsonObject = createJsonObjectFromString(sqlAsJson);
+        final SqlFunctionScalarCast cast = (SqlFunctionScalarCast) this.defaultParser.parseExpression(jsonObject);
+        final SqlFunctionScalar function = (SqlFunctionScalar) cast.getArgument();
+        assertAll(() -> assertThat(cast.getDataType(), equalTo(DataType.createDouble())),
+                () -> assertThat(function.getFunction(), equalTo(ScalarFunction.ABS)));
+    }
+
+    @Test
+    void testParseUnknownScalarFunctionName() {
+        final String sqlAsJson = "{" //
+                + "   \"type\" : \"function_scalar\", " //
+                + "   \"name\" : \"NO_SUCH_FUNCTION\" " //
+                + "}";
+        final JsonObject jsonObject = createJsonObjectFromString(sqlAsJson);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.defaultParser.parseExpression(jsonObject));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-40"));
+    }
+
     @Test
     void testParseFunctionScalarExtract() {
         final String sqlAsJson = "{" //
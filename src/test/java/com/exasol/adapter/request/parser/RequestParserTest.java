@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import com.exasol.adapter.metadata.TableMetadata;
 import com.exasol.adapter.request.*;
+import com.exasol.adapter.sql.*;
 
 class RequestParserTest {
     private static final String SCHEMA_METADATA_INFO = "\"schemaMetadataInfo\" : { \"name\" : \"foo\" }";
@@ -150,4 +151,40 @@ class RequestParserTest {
         final AdapterRequest request = this.parser.parse(rawRequest);
         assertThat(request.getVirtualSchemaName(), equalTo("UNKNOWN"));
     }
-}
\ No newline at end of file
+
+    // Regression test: the involved tables must be parsed only once per push-down request and shared between the
+    // request and the parsed statement.
+    @Test
+    void testParsePushDownRequestSharesInvolvedTablesWithStatement() {
+        final int numberOfColumns = 600;
+        final String rawRequest = createWideTablePushdownRequest(numberOfColumns);
+        final PushDownRequest request = (PushDownRequest) this.parser.parse(rawRequest);
+        final TableMetadata involvedTable = request.getInvolvedTablesMetadata().get(0);
+        final SqlStatementSelect select = (SqlStatementSelect) request.getSelect();
+        final List<SqlNode> selectList = select.getSelectList().getExpressions();
+        assertAll(() -> assertThat(involvedTable.getColumns(), iterableWithSize(numberOfColumns)),
+                () -> assertThat(((SqlTable) select.getFromClause()).getMetadata(), sameInstance(involvedTable)),
+                () -> assertThat(((SqlColumn) selectList.get(numberOfColumns - 1)).getMetadata(),
+                        sameInstance(involvedTable.getColumns().get(numberOfColumns - 1))));
+    }
+
+    static String createWideTablePushdownRequest(final int numberOfColumns) {
+        final StringBuilder selectList = new StringBuilder();
+        final StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < numberOfColumns; ++i) {
+            if (i > 0) {
+                selectList.append(",");
+                columns.append(",");
+            }
+            selectList.append("{\"type\":\"column\",\"name\":\"C").append(i).append("\",\"columnNr\":").append(i)
+                    .append(",\"tableName\":\"WIDE\"}");
+            columns.append("{\"name\":\"C").append(i)
+                    .append("\",\"dataType\":{\"type\":\"VARCHAR\",\"size\":100,\"characterSet\":\"UTF8\"}}");
+        }
+        return "{\"type\":\"pushdown\"," //
+                + "\"pushdownRequest\":{\"type\":\"select\",\"from\":{\"type\":\"table\",\"name\":\"WIDE\"},"
+                + "\"selectList\":[" + selectList + "]}," //
+                + "\"involvedTables\":[{\"name\":\"WIDE\",\"columns\":[" + columns + "]}]," //
+                + SCHEMA_METADATA_INFO + "}";
+    }
+}
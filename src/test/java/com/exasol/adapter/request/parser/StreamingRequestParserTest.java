@@ -0,0 +1,127 @@
+package com.exasol.adapter.request.parser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.collection.IsMapContaining.hasEntry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.request.*;
+import com.exasol.adapter.sql.SqlStatementSelect;
+
+class StreamingRequestParserTest {
+    private static final String SCHEMA_METADATA_INFO = "\"schemaMetadataInfo\" : { \"name\" : \"foo\" }";
+    private StreamingRequestParser parser;
+
+    @BeforeEach
+    void beforeEach() {
+        this.parser = StreamingRequestParser.create();
+    }
+
+    @Test
+    void testParseThrowsExceptionIfRequestTypeUnknown() {
+        final String rawRequest = "{ \"type\" : \"UNKNOWN\", \"schemaMetadataInfo\" : { \"name\" : \"foo\" } }";
+        final RequestParserException exception = assertThrows(RequestParserException.class,
+                () -> this.parser.parse(rawRequest));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-16"));
+    }
+
+    @Test
+    void testParseThrowsExceptionIfRequestIsNoObject() {
+        final RequestParserException exception = assertThrows(RequestParserException.class,
+                () -> this.parser.parse("[]"));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-33"));
+    }
+
+    @Test
+    void testParseSetPropertiesRequest() {
+        final String rawRequest = "{" //
+                + "    \"type\" : \"setProperties\"," //
+                + "    \"properties\" :" //
+                + "    {" //
+                + "        \"A\" : \"value A\"," //
+                + "        \"B\" : 42," //
+                + "        \"YES\" : true," //
+                + "        \"NULL_value\" : null" //
+                + "    }," //
+                + SCHEMA_METADATA_INFO //
+                + "}";
+        final AdapterRequest request = this.parser.parse(rawRequest);
+        assertThat("Request class", request, instanceOf(SetPropertiesRequest.class));
+        final Map<String, String> properties = ((SetPropertiesRequest) request).getProperties();
+        assertAll(() -> assertThat(request.getType(), equalTo(AdapterRequestType.SET_PROPERTIES)),
+                () -> assertThat(request.getVirtualSchemaName(), equalTo("foo")),
+                () -> assertThat(properties, aMapWithSize(4)),
+                () -> assertThat(properties, hasEntry(equalTo("A"), equalTo("value A"))),
+                () -> assertThat(properties, hasEntry(equalTo("B"), equalTo("42"))),
+                () -> assertThat(properties, hasEntry(equalTo("YES"), equalTo("true"))),
+                () -> assertThat(properties, hasEntry(equalTo("NULL_value"), equalTo(null))));
+    }
+
+    @Test
+    void testParseRefreshRequestWithTableFilter() {
+        final String rawRequest = "{" //
+                + "    \"type\" : \"refresh\",\n" //
+                + "    \"requestedTables\" : [ \"T1\", \"T2\" ],\n" //
+                + "    \"ignored\" : { \"nested\" : [ 1, 2, { \"deeper\" : null } ] },\n" //
+                + SCHEMA_METADATA_INFO //
+                + "}";
+        final RefreshRequest request = (RefreshRequest) this.parser.parse(rawRequest);
+        assertAll(() -> assertThat(request.refreshesOnlySelectedTables(), equalTo(true)),
+                () -> assertThat(request.getTables(), contains("T1", "T2")));
+    }
+
+    @Test
+    void testParseFromReader() {
+        final String rawRequest = "{ \"type\" : \"refresh\", \"requestedTables\" : [ \"\u00c4PFEL\" ], "
+                + SCHEMA_METADATA_INFO + "}";
+        final RefreshRequest request = (RefreshRequest) this.parser.parse(new StringReader(rawRequest));
+        assertThat(request.getTables(), contains("\u00c4PFEL"));
+    }
+
+    @Test
+    void testParseRefreshRequestWithoutTableFilter() {
+        final RefreshRequest request = (RefreshRequest) this.parser
+                .parse("{ \"type\" : \"refresh\", " + SCHEMA_METADATA_INFO + "}");
+        assertThat(request.refreshesOnlySelectedTables(), equalTo(false));
+    }
+
+    @Test
+    void testParseRequestWithoutSchemaMetadata() {
+        final AdapterRequest request = this.parser.parse("{ \"type\" : \"refresh\" }");
+        assertThat(request.getVirtualSchemaName(), equalTo("UNKNOWN"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "pushdown_request.json", "pushdown_request_alltypes.json" })
+    void testStreamingParserProducesSameResultAsObjectModelParser(final String resource) throws IOException {
+        final String rawRequest = new String(Files.readAllBytes(Paths.get("target/test-classes", resource)),
+                StandardCharsets.UTF_8);
+        final PushDownRequest expected = (PushDownRequest) RequestParser.create().parse(rawRequest);
+        final PushDownRequest actual = (PushDownRequest) this.parser.parse(rawRequest);
+        final List<TableMetadata> expectedTables = expected.getInvolvedTablesMetadata();
+        final SqlStatementSelect expectedSelect = (SqlStatementSelect) expected.getSelect();
+        final SqlStatementSelect actualSelect = (SqlStatementSelect) actual.getSelect();
+        assertAll(() -> assertThat(actual.getInvolvedTablesMetadata(), equalTo(expectedTables)),
+                () -> assertThat(actual.getVirtualSchemaName(), equalTo(expected.getVirtualSchemaName())),
+                () -> assertThat(actual.getSchemaMetadataInfo().getProperties(),
+                        equalTo(expected.getSchemaMetadataInfo().getProperties())),
+                () -> assertThat(actualSelect.getSelectList().getExpressions().size(),
+                        equalTo(expectedSelect.getSelectList().getExpressions().size())),
+                () -> assertThat(actualSelect.hasFilter(), equalTo(expectedSelect.hasFilter())));
+    }
+}
@@ -3,15 +3,19 @@ package com.exasol.adapter.request.parser;
 import static com.exasol.adapter.metadata.DataType.ExaCharset.ASCII;
 import static com.exasol.adapter.metadata.DataType.ExaCharset.UTF8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.json.*;
+import javax.json.stream.JsonParser;
 
 import org.junit.jupiter.api.Test;
 
@@ -59,6 +63,17 @@ class TablesMetadataParserTest {
         assertThat(tables, equalTo(expectedInvolvedTablesMetadata));
     }
 
+    @Test
+    void testParseTablesMetadataFromStream() throws IOException {
+        final JsonArray tablesAsJson = readInvolvedTablesFromJsonFile(
+                "target/test-classes/pushdown_request_alltypes.json");
+        try (final JsonParser parser = Json.createParser(new StringReader(tablesAsJson.toString()))) {
+            parser.next();
+            final List<TableMetadata> tables = TablesMetadataParser.create().parse(parser);
+            assertThat(tables, equalTo(createExpectedTableMetadata()));
+        }
+    }
+
     private List<TableMetadata> createExpectedTableMetadata() {
         final List<ColumnMetadata> tableColumns = new ArrayList<>();
         tableColumns.add(ColumnMetadata.builder().name("C_DECIMAL").adapterNotes("").type(DataType.createDecimal(18, 2))
@@ -114,4 +129,57 @@ class TablesMetadataParserTest {
         expectedInvolvedTablesMetadata.add(new TableMetadata("T1", "", tableColumns, ""));
         return expectedInvolvedTablesMetadata;
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParallelParsingKeepsOrder() {
+        final JsonArray tablesAsJson = createTablesJson(1000);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<TableMetadata> tables = TablesMetadataParser.createParallel(pool, 1).parse(tablesAsJson);
+            assertThat(tables, equalTo(TablesMetadataParser.create().parse(tablesAsJson)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelParsingFromStreamKeepsOrder() {
+        final JsonArray tablesAsJson = createTablesJson(1000);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try (final JsonParser parser = Json.createParser(new StringReader(tablesAsJson.toString()))) {
+            parser.next();
+            final List<TableMetadata> tables = TablesMetadataParser.createParallel(pool, 1).parse(parser);
+            assertThat(tables, equalTo(TablesMetadataParser.create().parse(tablesAsJson)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelParsingBelowThreshold() {
+        final JsonArray tablesAsJson = createTablesJson(3);
+        final List<TableMetadata> tables = TablesMetadataParser.createParallel().parse(tablesAsJson);
+        assertThat(tables, equalTo(TablesMetadataParser.create().parse(tablesAsJson)));
+    }
+
+    @Test
+    void testParallelParsingRejectsInvalidThreshold() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> TablesMetadataParser.createParallel(pool, 0));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-41"));
+    }
+
+    private JsonArray createTablesJson(final int numberOfTables) {
+        final JsonArrayBuilder tables = Json.createArrayBuilder();
+        for (int i = 0; i < numberOfTables; ++i) {
+            final JsonArrayBuilder columns = Json.createArrayBuilder();
+            for (int j = 0; j < 5; ++j) {
+                columns.add(Json.createObjectBuilder().add("name", "C" + j).add("dataType",
+                        Json.createObjectBuilder().add("type", "DECIMAL").add("precision", 18).add("scale", j)));
+            }
+            tables.add(Json.createObjectBuilder().add("name", "T" + i).add("columns", columns));
+        }
+        return tables.build();
+    }
+}
@@ -1,15 +1,20 @@
 package com.exasol.adapter.response;
 
-import com.exasol.adapter.metadata.SchemaMetadata;
+import com.exasol.adapter.metadata.*;
 import com.exasol.adapter.response.converter.ResponseException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,4 +33,46 @@ class RefreshResponseTest {
         final ResponseException exception = assertThrows(ResponseException.class, RefreshResponse.builder()::build);
         assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-23"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRefreshResponseContainsOnlyRequestedTables() {
+        final TableMetadata tableA = createTable("A");
+        final SchemaMetadata metadata = new SchemaMetadata("notes", List.of(tableA, createTable("B")));
+        final RefreshResponse response = RefreshResponse.builder().schemaMetadata(metadata)
+                .requestedTables(List.of("A")).build();
+        assertAll(() -> assertThat(response.getSchemaMetadata().getTables(), contains(tableA)),
+                () -> assertThat(response.getRequestedTables(), contains("A")));
+    }
+
+    @Test
+    void testRefreshResponseOmitsUnchangedMetadata() {
+        final SchemaMetadata previous = new SchemaMetadata("notes", List.of(createTable("A"), createTable("B")));
+        final SchemaMetadata current = new SchemaMetadata("notes", List.of(createTable("A"), createTable("B")));
+        final RefreshResponse response = RefreshResponse.builder().schemaMetadata(current)
+                .previousSchemaMetadata(previous).build();
+        assertThat(response.getSchemaMetadata(), nullValue());
+    }
+
+    @Test
+    void testRefreshResponseIgnoresChangesOutsideRequestedTables() {
+        final SchemaMetadata previous = new SchemaMetadata("notes", List.of(createTable("A")));
+        final SchemaMetadata current = new SchemaMetadata("notes", List.of(createTable("A"), createTable("B")));
+        final RefreshResponse response = RefreshResponse.builder().schemaMetadata(current)
+                .previousSchemaMetadata(previous).requestedTables(List.of("A")).build();
+        assertThat(response.getSchemaMetadata(), nullValue());
+    }
+
+    @Test
+    void testRefreshResponseKeepsChangedMetadata() {
+        final SchemaMetadata previous = new SchemaMetadata("notes", List.of(createTable("A")));
+        final SchemaMetadata current = new SchemaMetadata("notes", List.of(createTable("A"), createTable("B")));
+        final RefreshResponse response = RefreshResponse.builder().schemaMetadata(current)
+                .previousSchemaMetadata(previous).requestedTables(List.of("B")).build();
+        assertThat(response.getSchemaMetadata().getTables(), contains(createTable("B")));
+    }
+
+    private static TableMetadata createTable(final String name) {
+        return new TableMetadata(name, "",
+                List.of(ColumnMetadata.builder().name("ID").type(DataType.createDecimal(18, 0)).build()), "");
+    }
+}
@@ -1,14 +1,30 @@
 package com.exasol.adapter.response.converter;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
 import com.exasol.adapter.capabilities.*;
-import com.exasol.adapter.metadata.SchemaMetadata;
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metadata.converter.SchemaMetadataJsonConverter;
 import com.exasol.adapter.response.*;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.json.Json;
 
 class ResponseJsonConverterTest {
     private ResponseJsonConverter responseJsonConverter;
@@ -89,6 +105,51 @@ class ResponseJsonConverterTest {
                 this.responseJsonConverter.convertSetPropertiesResponse(setPropertiesResponse), false);
     }
 
+    @Test
+    void testParallelInstanceProducesIdenticalRefreshResponse() {
+        final List<ColumnMetadata> columns = List.of(
+                ColumnMetadata.builder().name("ID").type(DataType.createDecimal(18, 0)).nullable(false).build());
+        final List<TableMetadata> tables = new ArrayList<>();
+        for (int i = 0; i < (ResponseJsonConverter.DEFAULT_PARALLEL_THRESHOLD * 2); ++i) {
+            tables.add(new TableMetadata("T" + i, "notes", columns, "comment"));
+        }
+        final RefreshResponse refreshResponse = RefreshResponse.builder()
+                .schemaMetadata(new SchemaMetadata("\"notes\"", tables)).requestedTables(List.of("T1", "T2")).build();
+        assertThat(ResponseJsonConverter.getParallelInstance().convertRefreshResponse(refreshResponse),
+                equalTo(this.responseJsonConverter.convertRefreshResponse(refreshResponse)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1, 1", "7, 1", "1000, 1", "1000, 2000" })
+    void testParallelConversionIsIdenticalToSequentialConversion(final int numberOfTables, final int threshold) {
+        final List<ColumnMetadata> columns = List.of(
+                ColumnMetadata.builder().name("ID").type(DataType.createDecimal(18, 0)).nullable(false).build(),
+                ColumnMetadata.builder().name("TEXT").type(DataType.createVarChar(100, DataType.ExaCharset.UTF8))
+                        .adapterNotes("\"[notes]\"").comment("line\nbreak").build());
+        final List<TableMetadata> tables = new ArrayList<>();
+        for (int i = 0; i < numberOfTables; ++i) {
+            tables.add(new TableMetadata("T" + i, (i % 2 == 0) ? "notes " + i : null, columns, "\u00c4"));
+        }
+        final RefreshResponse refreshResponse = RefreshResponse.builder()
+                .schemaMetadata(new SchemaMetadata("{\"schema\":[\"notes\"]}", tables)).build();
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final ResponseJsonConverter parallelConverter = ResponseJsonConverter.createParallel(pool, threshold);
+            assertThat(parallelConverter.convertRefreshResponse(refreshResponse),
+                    equalTo(this.responseJsonConverter.convertRefreshResponse(refreshResponse)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCreateParallelRejectsInvalidThreshold() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ResponseJsonConverter.createParallel(pool, 0));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-42"));
+    }
+
     @Test
     void testConvertSetPropertiesResponseWhenMetadataIsNull() throws JSONException {
         final SetPropertiesResponse.Builder builder = SetPropertiesResponse.builder();
@@ -96,4 +157,68 @@ class ResponseJsonConverterTest {
         JSONAssert.assertEquals("{\"type\":\"setProperties\"}",
                 this.responseJsonConverter.convertSetPropertiesResponse(setPropertiesResponse), false);
     }
+
+    @Test
+    void testConvertRefreshResponseIsIdenticalToJsonObjectTree() {
+        final List<ColumnMetadata> columns = List.of(
+                ColumnMetadata.builder().name("ID").type(DataType.createDecimal(18, 0)).nullable(false).build(),
+                ColumnMetadata.builder().name("NAME").type(DataType.createVarChar(200, DataType.ExaCharset.UTF8))
+                        .adapterNotes("\"notes\"").comment("comment\twith tab").build());
+        final SchemaMetadata schemaMetadata = new SchemaMetadata("{\"catalog\":\"\"}",
+                List.of(new TableMetadata("T1", "table notes", columns, "table comment"),
+                        new TableMetadata("T2", null, columns, null)));
+        final RefreshResponse refreshResponse = RefreshResponse.builder().schemaMetadata(schemaMetadata).build();
+        final String expected = Json.createObjectBuilder() //
+                .add("type", "refresh") //
+                .add("schemaMetadata", SchemaMetadataJsonConverter.getInstance().convert(schemaMetadata)) //
+                .build() //
+                .toString();
+        assertThat(this.responseJsonConverter.convertRefreshResponse(refreshResponse), equalTo(expected));
+    }
+
+    @Test
+    void testConvertToWriterKeepsWriterOpen() {
+        final StringWriter writer = new StringWriter();
+        this.responseJsonConverter.convertDropVirtualSchemaResponse(DropVirtualSchemaResponse.builder().build(),
+                writer);
+        writer.write("\n");
+        this.responseJsonConverter.convertPushDownResponse(PushDownResponse.builder().pushDownSql("SELECT 1").build(),
+                writer);
+        assertThat(writer.toString(),
+                equalTo("{\"type\":\"dropVirtualSchema\"}\n{\"type\":\"pushdown\",\"sql\":\"SELECT 1\"}"));
+    }
+
+    @Test
+    void testConvertGetCapabilitiesResponseReusesCachedJsonForEqualCapabilities() {
+        final GetCapabilitiesResponse first = GetCapabilitiesResponse.builder()
+                .capabilities(Capabilities.builder().addMain(MainCapability.JOIN).build()).build();
+        final GetCapabilitiesResponse second = GetCapabilitiesResponse.builder()
+                .capabilities(Capabilities.builder().addMain(MainCapability.JOIN).build()).build();
+        final String json = this.responseJsonConverter.convertGetCapabilitiesResponse(first);
+        assertAll(() -> assertThat(json, equalTo("{\"type\":\"getCapabilities\",\"capabilities\":[\"JOIN\"]}")),
+                () -> assertThat(this.responseJsonConverter.convertGetCapabilitiesResponse(second),
+                        sameInstance(json)));
+    }
+
+    @Test
+    void testConvertRefreshResponseForRequestedTables() {
+        final SchemaMetadata schemaMetadata = new SchemaMetadata("notes",
+                List.of(new TableMetadata("T1", "", List.of(), ""), new TableMetadata("T2", "", List.of(), "")));
+        final RefreshResponse refreshResponse = RefreshResponse.builder().schemaMetadata(schemaMetadata)
+                .requestedTables(List.of("T2", "T3")).build();
+        assertThat(this.responseJsonConverter.convertRefreshResponse(refreshResponse),
+                equalTo("{\"type\":\"refresh\",\"schemaMetadata\":{\"tables\":[{\"type\":\"table\","
+                        + "\"name\":\"T2\",\"columns\":[]}],\"adapterNotes\":\"notes\"},"
+                        + "\"requestedTables\":[\"T2\",\"T3\"]}"));
+    }
+
+    @Test
+    void testConvertRefreshResponseWithoutChanges() {
+        final SchemaMetadata schemaMetadata = new SchemaMetadata("notes",
+                List.of(new TableMetadata("T1", "", List.of(), "")));
+        final RefreshResponse refreshResponse = RefreshResponse.builder().schemaMetadata(schemaMetadata)
+                .previousSchemaMetadata(schemaMetadata).build();
+        assertThat(this.responseJsonConverter.convertRefreshResponse(refreshResponse),
+                equalTo("{\"type\":\"refresh\"}"));
+    }
 }
@@ -0,0 +1,74 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class LazySqlStatementSelectTest {
+    private final AtomicInteger filterParseCount = new AtomicInteger();
+
+    private LazySqlStatementSelect createSelect() {
+        return LazySqlStatementSelect.lazyBuilder() //
+                .fromClause(() -> new SqlTable("T", null)) //
+                .selectList(SqlSelectList::createAnyValueSelectList) //
+                .whereClause(() -> {
+                    this.filterParseCount.incrementAndGet();
+                    return new SqlLiteralBool(true);
+                }).build();
+    }
+
+    @Test
+    void testClauseIsNotCreatedBeforeAccess() {
+        final LazySqlStatementSelect select = createSelect();
+        select.getFromClause();
+        assertAll(() -> assertThat(select.hasFilter(), equalTo(true)),
+                () -> assertThat(this.filterParseCount.get(), equalTo(0)));
+    }
+
+    @Test
+    void testClauseIsCreatedOnce() {
+        final LazySqlStatementSelect select = createSelect();
+        final SqlNode first = select.getWhereClause();
+        final SqlNode second = select.getWhereClause();
+        assertAll(() -> assertThat(second, sameInstance(first)),
+                () -> assertThat(first.getParent(), sameInstance(select)),
+                () -> assertThat(this.filterParseCount.get(), equalTo(1)));
+    }
+
+    @Test
+    void testMissingClause() {
+        final LazySqlStatementSelect select = createSelect();
+        assertAll(() -> assertThat(select.hasLimit(), equalTo(false)),
+                () -> assertThat(select.getLimit(), nullValue()));
+    }
+
+    @Test
+    void testClauseIsCreatedOnceWithConcurrentAccess() throws Exception {
+        final LazySqlStatementSelect select = createSelect();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<SqlNode>> tasks = List.of(select::getWhereClause, select::getWhereClause,
+                    select::getWhereClause, select::getWhereClause, select::getWhereClause, select::getWhereClause,
+                    select::getWhereClause, select::getWhereClause);
+            for (final Future<SqlNode> result : executor.invokeAll(tasks)) {
+                assertThat(result.get(), sameInstance(select.getWhereClause()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(this.filterParseCount.get(), equalTo(1));
+    }
+
+    @Test
+    void testStructuralFormEqualsEagerStatement() {
+        final SqlStatementSelect eager = SqlStatementSelect.builder().fromClause(new SqlTable("T", null))
+                .selectList(SqlSelectList.createAnyValueSelectList()).whereClause(new SqlLiteralBool(true)).build();
+        assertThat(createSelect().getStructuralForm(), equalTo(eager.getStructuralForm()));
+    }
+}
@@ -0,0 +1,124 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+class SqlConstantInListTest {
+    private static List<SqlNode> exactNumerics(final String... values) {
+        final List<SqlNode> literals = new ArrayList<>();
+        for (final String value : values) {
+            literals.add(new SqlLiteralExactnumeric(new BigDecimal(value)));
+        }
+        return literals;
+    }
+
+    private static SqlConstantInList.LongValues longValues(final String... values) {
+        return (SqlConstantInList.LongValues) SqlConstantInList.of(exactNumerics(values)).orElseThrow();
+    }
+
+    @Test
+    void testLongValuesAreDeduplicated() {
+        final SqlConstantInList.LongValues values = longValues("3", "1", "1.0", "2", "3");
+        assertAll(() -> assertThat(values.getElementType(), equalTo(SqlConstantInList.ElementType.LONG)),
+                () -> assertThat(values.size(), equalTo(3)),
+                () -> assertThat(values.toSortedArray(), equalTo(new long[] { 1, 2, 3 })));
+    }
+
+    @Test
+    void testLongValuesContains() {
+        final SqlConstantInList.LongValues values = longValues("0", "-5", "100000");
+        assertAll(() -> assertThat(values.contains(0), equalTo(true)),
+                () -> assertThat(values.contains(-5), equalTo(true)),
+                () -> assertThat(values.contains(100000), equalTo(true)),
+                () -> assertThat(values.contains(1), equalTo(false)));
+    }
+
+    @Test
+    void testLongValuesWithManyElements() {
+        final List<SqlNode> literals = new ArrayList<>();
+        for (int i = 0; i < 50000; ++i) {
+            literals.add(new SqlLiteralExactnumeric(BigDecimal.valueOf(i * 2L)));
+        }
+        final SqlConstantInList.LongValues values = (SqlConstantInList.LongValues) SqlConstantInList.of(literals)
+                .orElseThrow();
+        assertAll(() -> assertThat(values.size(), equalTo(50000)),
+                () -> assertThat(values.contains(99998), equalTo(true)),
+                () -> assertThat(values.contains(99999), equalTo(false)));
+    }
+
+    @Test
+    void testLongRanges() {
+        final SqlConstantInList.LongValues values = longValues("10", "9", "1", "7", "2", "3");
+        final List<SqlConstantInList.LongRange> ranges = values.getRanges();
+        assertAll(() -> assertThat(ranges.size(), equalTo(3)),
+                () -> assertThat(ranges.get(0).toString(), equalTo("[1, 3]")),
+                () -> assertThat(ranges.get(1).isSingleValue(), equalTo(true)),
+                () -> assertThat(ranges.get(2).getFrom(), equalTo(9L)),
+                () -> assertThat(ranges.get(2).getTo(), equalTo(10L)));
+    }
+
+    @Test
+    void testFractionalExactNumericsAreNotSupported() {
+        assertThat(SqlConstantInList.of(exactNumerics("1", "1.5")).isPresent(), equalTo(false));
+    }
+
+    @Test
+    void testMixedLiteralTypesAreNotSupported() {
+        final List<SqlNode> literals = List.of(new SqlLiteralString("a"), new SqlLiteralDouble(1.0));
+        assertThat(SqlConstantInList.of(literals).isPresent(), equalTo(false));
+    }
+
+    @Test
+    void testDoubleValues() {
+        final List<SqlNode> literals = List.of(new SqlLiteralDouble(2.5), new SqlLiteralDouble(-0.0),
+                new SqlLiteralDouble(0.0), new SqlLiteralDouble(-1.0));
+        final SqlConstantInList.DoubleValues values = (SqlConstantInList.DoubleValues) SqlConstantInList.of(literals)
+                .orElseThrow();
+        assertAll(() -> assertThat(values.size(), equalTo(3)),
+                () -> assertThat(values.contains(-0.0), equalTo(true)),
+                () -> assertThat(values.contains(2.5), equalTo(true)),
+                () -> assertThat(values.toSortedArray(), equalTo(new double[] { -1.0, 0.0, 2.5 })));
+    }
+
+    @Test
+    void testStringValues() {
+        final List<SqlNode> literals = List.of(new SqlLiteralString("b"), new SqlLiteralString("a"),
+                new SqlLiteralString("b"));
+        final SqlConstantInList.StringValues values = (SqlConstantInList.StringValues) SqlConstantInList.of(literals)
+                .orElseThrow();
+        assertAll(() -> assertThat(values.contains("a"), equalTo(true)),
+                () -> assertThat(values.contains("c"), equalTo(false)),
+                () -> assertThat(values.getSortedValues(), equalTo(List.of("a", "b"))));
+    }
+
+    @Test
+    void testPartition() {
+        final List<List<SqlNode>> batches = longValues("5", "4", "3", "2", "1").partition(2);
+        assertAll(() -> assertThat(batches.size(), equalTo(3)),
+                () -> assertThat(batches.get(0), equalTo(exactNumerics("1", "2"))),
+                () -> assertThat(batches.get(2), equalTo(exactNumerics("5"))));
+    }
+
+    @Test
+    void testPartitionWithInvalidBatchSizeThrowsException() {
+        final SqlConstantInList values = longValues("1");
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> values.partition(0));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-39"));
+    }
+
+    @Test
+    void testGetConstantValuesFromPredicate() {
+        final SqlPredicateInConstList predicate = new SqlPredicateInConstList(new SqlLiteralNull(),
+                exactNumerics("1", "2"));
+        assertThat(predicate.getConstantValues().orElseThrow().size(), equalTo(2));
+    }
+}
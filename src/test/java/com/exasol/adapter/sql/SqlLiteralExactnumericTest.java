@@ -0,0 +1,57 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class SqlLiteralExactnumericTest {
+    @Test
+    void testLongBackedLiteral() {
+        final SqlLiteralExactnumeric literal = new SqlLiteralExactnumeric(-42L);
+        assertAll(() -> assertThat(literal.hasLongValue(), equalTo(true)),
+                () -> assertThat(literal.getLongValue(), equalTo(-42L)),
+                () -> assertThat(literal.getValueAsString(), equalTo("-42")),
+                () -> assertThat(literal.getValue(), equalTo(BigDecimal.valueOf(-42))));
+    }
+
+    @Test
+    void testIntegralBigDecimalHasLongValue() {
+        final SqlLiteralExactnumeric literal = new SqlLiteralExactnumeric(new BigDecimal("123"));
+        assertAll(() -> assertThat(literal.hasLongValue(), equalTo(true)),
+                () -> assertThat(literal.getLongValue(), equalTo(123L)));
+    }
+
+    @Test
+    void testFractionalBigDecimalHasNoLongValue() {
+        final SqlLiteralExactnumeric literal = new SqlLiteralExactnumeric(new BigDecimal("1.5"));
+        assertAll(() -> assertThat(literal.hasLongValue(), equalTo(false)),
+                () -> assertThat(literal.getValueAsString(), equalTo("1.5")),
+                () -> assertThrows(ArithmeticException.class, literal::getLongValue));
+    }
+
+    @Test
+    void testLiteralWithoutValue() {
+        final SqlLiteralExactnumeric literal = new SqlLiteralExactnumeric((BigDecimal) null);
+        final ArithmeticException exception = assertThrows(ArithmeticException.class, literal::getLongValue);
+        assertAll(() -> assertThat(literal.hasLongValue(), equalTo(false)),
+                () -> assertThat(literal.getValueAsString(), nullValue()),
+                () -> assertThat(literal.getStructuralForm(), equalTo("LITERAL_EXACTNUMERIC(~,)")),
+                () -> assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-45")));
+    }
+
+    @Test
+    void testLongBackedLiteralHasStructuralFormOfBigDecimalLiteral() {
+        assertThat(new SqlLiteralExactnumeric(7L).getStructuralForm(),
+                equalTo(new SqlLiteralExactnumeric(new BigDecimal("7")).getStructuralForm()));
+    }
+
+    @Test
+    void testGetType() {
+        assertThat(new SqlLiteralExactnumeric(1L).getType(), equalTo(SqlNodeType.LITERAL_EXACTNUMERIC));
+    }
+}
@@ -0,0 +1,61 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SqlNodeWalkerTest {
+    private static final SqlNode PREDICATE = new SqlPredicateAnd(List.of(
+            new SqlPredicateEqual(new SqlLiteralString("a"), new SqlLiteralString("b")),
+            new SqlPredicateNot(new SqlLiteralBool(true))));
+
+    @Test
+    void testWalkVisitsNodesInPreAndPostOrder() {
+        final List<String> events = new ArrayList<>();
+        SqlNodeWalker.walk(PREDICATE, new SqlNodeWalker.Callback() {
+            @Override
+            public boolean enter(final SqlNode node) {
+                events.add("+" + node.getType());
+                return true;
+            }
+
+            @Override
+            public void leave(final SqlNode node) {
+                events.add("-" + node.getType());
+            }
+        });
+        assertThat(events, equalTo(List.of("+PREDICATE_AND", "+PREDICATE_EQUAL", "+LITERAL_STRING", "-LITERAL_STRING",
+                "+LITERAL_STRING", "-LITERAL_STRING", "-PREDICATE_EQUAL", "+PREDICATE_NOT", "+LITERAL_BOOL",
+                "-LITERAL_BOOL", "-PREDICATE_NOT", "-PREDICATE_AND")));
+    }
+
+    @Test
+    void testWalkSkipsChildren() {
+        final List<SqlNodeType> entered = new ArrayList<>();
+        SqlNodeWalker.walk(PREDICATE, node -> {
+            entered.add(node.getType());
+            return node.getType() != SqlNodeType.PREDICATE_EQUAL;
+        });
+        assertThat(entered, equalTo(List.of(SqlNodeType.PREDICATE_AND, SqlNodeType.PREDICATE_EQUAL,
+                SqlNodeType.PREDICATE_NOT, SqlNodeType.LITERAL_BOOL)));
+    }
+
+    @Test
+    void testWalkDeepTreeWithoutStackOverflow() {
+        final int depth = 100000;
+        SqlNode node = new SqlLiteralBool(true);
+        for (int i = 0; i < depth; ++i) {
+            node = new SqlPredicateNot(node);
+        }
+        final int[] count = { 0 };
+        SqlNodeWalker.walk(node, visited -> {
+            ++count[0];
+            return true;
+        });
+        assertThat(count[0], equalTo(depth + 1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+
+class SqlQueryShapeTest {
+    private static final ColumnMetadata COLUMN_METADATA = ColumnMetadata.builder().name("C")
+            .type(DataType.createDate()).build();
+
+    private static SqlStatementSelect createSelect(final String date, final long amount) {
+        final SqlNode where = new SqlPredicateAnd(List.of(
+                new SqlPredicateEqual(new SqlColumn(0, COLUMN_METADATA, "T"), new SqlLiteralDate(date)),
+                new SqlPredicateLess(new SqlColumn(1, COLUMN_METADATA, "T"),
+                        new SqlLiteralExactnumeric(BigDecimal.valueOf(amount)))));
+        return SqlStatementSelect.builder().fromClause(new SqlTable("T", null))
+                .selectList(SqlSelectList.createAnyValueSelectList()).whereClause(where).build();
+    }
+
+    @Test
+    void testQueriesWithDifferentLiteralsHaveSameShape() {
+        final SqlQueryShape first = SqlQueryShape.create(createSelect("2021-01-01", 1));
+        final SqlQueryShape second = SqlQueryShape.create(createSelect("2022-12-31", 2));
+        assertAll(() -> assertThat(first.hasSameShape(second), equalTo(true)),
+                () -> assertThat(first.getShape(), equalTo(second.getShape())),
+                () -> assertThat(first.fingerprint(), equalTo(second.fingerprint())),
+                () -> assertThat(first, not(equalTo(second))));
+    }
+
+    @Test
+    void testParametersAreCollectedInOrder() {
+        final SqlQueryShape shape = SqlQueryShape.create(createSelect("2021-01-01", 42));
+        assertAll(() -> assertThat(shape.getParameterCount(), equalTo(2)),
+                () -> assertThat(shape.getParameters().get(0).getStructuralForm(),
+                        equalTo(new SqlLiteralDate("2021-01-01").getStructuralForm())),
+                () -> assertThat(shape.getParameters().get(1).getStructuralForm(),
+                        equalTo(new SqlLiteralExactnumeric(BigDecimal.valueOf(42)).getStructuralForm())),
+                () -> assertThat(shape.getShape(), containsString("?1:LITERAL_DATE")),
+                () -> assertThat(shape.getShape(), containsString("?2:LITERAL_EXACTNUMERIC")),
+                () -> assertThat(shape.getShape(), not(containsString("2021-01-01"))));
+    }
+
+    @Test
+    void testLiteralTypeIsPartOfShape() {
+        final SqlQueryShape stringShape = SqlQueryShape.create(new SqlPredicateEqual(new SqlColumn(0, COLUMN_METADATA),
+                new SqlLiteralString("2021-01-01")));
+        final SqlQueryShape dateShape = SqlQueryShape.create(new SqlPredicateEqual(new SqlColumn(0, COLUMN_METADATA),
+                new SqlLiteralDate("2021-01-01")));
+        assertThat(stringShape.hasSameShape(dateShape), equalTo(false));
+    }
+
+    @Test
+    void testNullLiteralStaysInShape() {
+        final SqlQueryShape shape = SqlQueryShape.create(new SqlPredicateEqual(new SqlColumn(0, COLUMN_METADATA),
+                new SqlLiteralNull()));
+        assertThat(shape.getParameterCount(), equalTo(0));
+    }
+
+    @Test
+    void testSeparatorStaysInShape() {
+        final SqlNode groupConcat = SqlFunctionAggregateGroupConcat.builder(new SqlColumn(0, COLUMN_METADATA))
+                .separator(new SqlLiteralString(";")).build();
+        final SqlQueryShape shape = SqlQueryShape.create(groupConcat);
+        assertAll(() -> assertThat(shape.getParameterCount(), equalTo(0)),
+                () -> assertThat(shape.getShape(), containsString("LITERAL_STRING(1:;,)")));
+    }
+
+    @Test
+    void testLikeEscapeCharacterStaysInShape() {
+        final SqlNode like = new SqlPredicateLike(new SqlColumn(0, COLUMN_METADATA), new SqlLiteralString("a!%%"),
+                new SqlLiteralString("!"));
+        final SqlQueryShape shape = SqlQueryShape.create(like);
+        assertAll(() -> assertThat(shape.getParameterCount(), equalTo(1)),
+                () -> assertThat(shape.getShape(), containsString("LITERAL_STRING(1:!,)")));
+    }
+}
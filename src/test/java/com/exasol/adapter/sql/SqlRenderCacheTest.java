@@ -0,0 +1,112 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.AdapterException;
+import com.exasol.adapter.metadata.*;
+
+class SqlRenderCacheTest {
+    private static final TableMetadata TABLE = createTable(DataType.createBool());
+    private AtomicInteger renderCount;
+    private SqlRenderCache.Renderer renderer;
+
+    private static TableMetadata createTable(final DataType type) {
+        return new TableMetadata("T", "", List.of(ColumnMetadata.builder().name("C").type(type).build()), "");
+    }
+
+    private static SqlStatement createSelect(final int limit) {
+        return SqlStatementSelect.builder().fromClause(new SqlTable("T", TABLE))
+                .selectList(SqlSelectList.createAnyValueSelectList()).limit(new SqlLimit(limit)).build();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        this.renderCount = new AtomicInteger();
+        this.renderer = statement -> "SELECT " + this.renderCount.incrementAndGet();
+    }
+
+    @Test
+    void testRenderReusesEntryForStructurallyEqualStatement() throws AdapterException {
+        final SqlRenderCache cache = SqlRenderCache.create(10);
+        final String first = cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        final String second = cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        assertAll(() -> assertThat(second, equalTo(first)), //
+                () -> assertThat(this.renderCount.get(), equalTo(1)),
+                () -> assertThat(cache.getHitCount(), equalTo(1L)),
+                () -> assertThat(cache.getMissCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testRenderWithPrecomputedKey() throws AdapterException {
+        final SqlRenderCache cache = SqlRenderCache.create(10);
+        final SqlStatement statement = createSelect(1);
+        final SqlRenderCache.Key key = SqlRenderCache.Key.of(statement, List.of(TABLE));
+        final String first = cache.render(key, statement, this.renderer);
+        final String second = cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        assertAll(() -> assertThat(second, equalTo(first)), //
+                () -> assertThat(this.renderCount.get(), equalTo(1)));
+    }
+
+    @Test
+    void testKeysOfStructurallyEqualStatementsAreEqual() {
+        final SqlRenderCache.Key first = SqlRenderCache.Key.of(createSelect(1), List.of(TABLE));
+        final SqlRenderCache.Key second = SqlRenderCache.Key.of(createSelect(1), List.of(TABLE));
+        assertAll(() -> assertThat(first, equalTo(second)), //
+                () -> assertThat(first.hashCode(), equalTo(second.hashCode())),
+                () -> assertThat(first.getFingerprint(), equalTo(second.getFingerprint())));
+    }
+
+    @Test
+    void testRenderDistinguishesStatements() throws AdapterException {
+        final SqlRenderCache cache = SqlRenderCache.create(10);
+        cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        cache.render(createSelect(2), List.of(TABLE), this.renderer);
+        assertThat(this.renderCount.get(), equalTo(2));
+    }
+
+    @Test
+    void testRenderDistinguishesInvolvedTableMetadata() throws AdapterException {
+        final SqlRenderCache cache = SqlRenderCache.create(10);
+        cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        cache.render(createSelect(1), List.of(createTable(DataType.createDouble())), this.renderer);
+        assertThat(this.renderCount.get(), equalTo(2));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() throws AdapterException {
+        final SqlRenderCache cache = SqlRenderCache.create(2);
+        cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        cache.render(createSelect(2), List.of(TABLE), this.renderer);
+        cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        cache.render(createSelect(3), List.of(TABLE), this.renderer);
+        cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        cache.render(createSelect(2), List.of(TABLE), this.renderer);
+        assertAll(() -> assertThat(cache.size(), equalTo(2)), //
+                () -> assertThat(this.renderCount.get(), equalTo(4)));
+    }
+
+    @Test
+    void testClear() throws AdapterException {
+        final SqlRenderCache cache = SqlRenderCache.create(2);
+        cache.render(createSelect(1), List.of(TABLE), this.renderer);
+        cache.clear();
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test
+    void testCreateWithInvalidSizeThrowsException() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SqlRenderCache.create(0));
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-37"));
+    }
+}
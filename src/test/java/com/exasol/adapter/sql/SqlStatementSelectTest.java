@@ -1,9 +1,15 @@
 package com.exasol.adapter.sql;
 
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
-import static org.hamcrest.CoreMatchers.instanceOf;
-import static org.hamcrest.MatcherAssert.assertThat;
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
 
 class SqlStatementSelectTest {
     @Test
@@ -11,4 +17,52 @@ class SqlStatementSelectTest {
         final SqlStatementSelect.Builder sqlStatementSelectBuilder = SqlStatementSelect.builder();
         assertThat(sqlStatementSelectBuilder, instanceOf(SqlStatementSelect.Builder.class));
     }
-}
\ No newline at end of file
+
+    private static SqlStatementSelect createSelect(final String filterValue, final int limit) {
+        final ColumnMetadata columnMetadata = ColumnMetadata.builder().name("NAME").type(DataType.createVarChar(20,
+                DataType.ExaCharset.UTF8)).build();
+        final SqlNode where = new SqlPredicateEqual(new SqlColumn(0, columnMetadata, "T"),
+                new SqlLiteralString(filterValue));
+        return SqlStatementSelect.builder().fromClause(new SqlTable("T", null))
+                .selectList(SqlSelectList.createRegularSelectList(List.of(new SqlColumn(0, columnMetadata, "T"))))
+                .whereClause(where).limit(new SqlLimit(limit)).build();
+    }
+
+    @Test
+    void testStructurallyEqualStatements() {
+        final SqlStatementSelect first = createSelect("a", 10);
+        final SqlStatementSelect second = createSelect("a", 10);
+        assertAll(() -> assertThat(first.getStructuralForm(), equalTo(second.getStructuralForm())), //
+                () -> assertThat(first.fingerprint(), equalTo(second.fingerprint())));
+    }
+
+    @Test
+    void testStructurallyEqualStatementsAreDistinctNodes() {
+        final SqlStatementSelect first = createSelect("a", 10);
+        assertAll(() -> assertThat(first, equalTo(first)), //
+                () -> assertThat(first, not(equalTo(createSelect("a", 10)))));
+    }
+
+    @Test
+    void testStatementsWithDifferentLiteralsAreNotEqual() {
+        final SqlStatementSelect first = createSelect("a", 10);
+        final SqlStatementSelect second = createSelect("b", 10);
+        assertAll(() -> assertThat(first.getStructuralForm(), not(equalTo(second.getStructuralForm()))),
+                () -> assertThat(first.fingerprint(), not(equalTo(second.fingerprint()))));
+    }
+
+    @Test
+    void testStatementsWithDifferentLimitsAreNotEqual() {
+        assertThat(createSelect("a", 10).getStructuralForm(),
+                not(equalTo(createSelect("a", 11).getStructuralForm())));
+    }
+
+    @Test
+    void testStructuralFormDoesNotDependOnStringBoundaries() {
+        final SqlNode first = new SqlFunctionScalar(ScalarFunction.CONCAT,
+                List.of(new SqlLiteralString("a,"), new SqlLiteralString("b")));
+        final SqlNode second = new SqlFunctionScalar(ScalarFunction.CONCAT,
+                List.of(new SqlLiteralString("a"), new SqlLiteralString(",b")));
+        assertThat(first.getStructuralForm(), not(equalTo(second.getStructuralForm())));
+    }
+}
@@ -0,0 +1,162 @@
+package com.exasol.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.logging.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.logging.AsyncSocketHandler.OverflowPolicy;
+
+class AsyncSocketHandlerTest {
+    private static final String LARGE_MESSAGE = "x".repeat(64 * 1024);
+
+    @Test
+    void testRecordsArriveInOrder() throws IOException, InterruptedException {
+        try (final LocalLogReceiver receiver = LocalLogReceiver.start()) {
+            final AsyncSocketHandler handler = AsyncSocketHandler.builder().host(receiver.getHost())
+                    .port(receiver.getPort()).capacity(16).build();
+            for (int i = 0; i < 1000; ++i) {
+                handler.publish(new LogRecord(Level.INFO, "message " + i));
+            }
+            handler.flush();
+            final List<String> lines = receiver.awaitLines(1000, 5000);
+            handler.close();
+            assertAll(() -> assertThat(lines, hasSize(1000)),
+                    () -> assertThat(lines.get(0), endsWith("message 0")),
+                    () -> assertThat(lines.get(999), endsWith("message 999")),
+                    () -> assertThat(handler.getWrittenRecordCount(), equalTo(1000L)),
+                    () -> assertThat(handler.getDroppedRecordCount(), equalTo(0L)));
+        }
+    }
+
+    @Test
+    void testSourceClassOfLoggerCallIsKept() throws IOException, InterruptedException {
+        final Logger logger = Logger.getLogger(AsyncSocketHandlerTest.class.getName() + ".source");
+        logger.setUseParentHandlers(false);
+        try (final LocalLogReceiver receiver = LocalLogReceiver.start()) {
+            final AsyncSocketHandler handler = AsyncSocketHandler.builder().host(receiver.getHost())
+                    .port(receiver.getPort()).build();
+            logger.addHandler(handler);
+            try {
+                logger.info("through logger");
+                handler.flush();
+            } finally {
+                logger.removeHandler(handler);
+                handler.close();
+            }
+            final List<String> lines = receiver.awaitLines(1, 5000);
+            assertAll(() -> assertThat(lines, hasSize(1)),
+                    () -> assertThat(lines.get(0), endsWith("[c.e.l.AsyncSocketHandlerTest] through logger")));
+        }
+    }
+
+    @Test
+    void testRecordsBelowHandlerLevelAreIgnored() throws IOException, InterruptedException {
+        try (final LocalLogReceiver receiver = LocalLogReceiver.start()) {
+            final AsyncSocketHandler handler = AsyncSocketHandler.builder().host(receiver.getHost())
+                    .port(receiver.getPort()).build();
+            handler.setLevel(Level.INFO);
+            handler.publish(new LogRecord(Level.FINE, "ignored"));
+            handler.publish(new LogRecord(Level.WARNING, "kept"));
+            handler.close();
+            final List<String> lines = receiver.awaitLines(1, 5000);
+            assertAll(() -> assertThat(lines, hasSize(1)), () -> assertThat(lines.get(0), endsWith("kept")));
+        }
+    }
+
+    @Test
+    void testDropOldestDoesNotBlockOnStalledReceiver() throws IOException {
+        try (final LocalLogReceiver receiver = LocalLogReceiver.startStalled()) {
+            final AsyncSocketHandler handler = AsyncSocketHandler.builder().host(receiver.getHost())
+                    .port(receiver.getPort()).capacity(2).overflowPolicy(OverflowPolicy.DROP_OLDEST).build();
+            for (int i = 0; i < 2000; ++i) {
+                handler.publish(new LogRecord(Level.INFO, LARGE_MESSAGE));
+            }
+            assertThat(handler.getDroppedRecordCount(), greaterThan(0L));
+            receiver.close();
+            handler.close();
+        }
+    }
+
+    @Test
+    void testDropBelowLevelDropsDetailedRecordsOnStalledReceiver() throws IOException {
+        try (final LocalLogReceiver receiver = LocalLogReceiver.startStalled()) {
+            final AsyncSocketHandler handler = AsyncSocketHandler.builder().host(receiver.getHost())
+                    .port(receiver.getPort()).capacity(2).overflowPolicy(OverflowPolicy.DROP_BELOW_LEVEL)
+                    .dropThreshold(Level.INFO).build();
+            for (int i = 0; i < 2000; ++i) {
+                handler.publish(new LogRecord(Level.FINE, LARGE_MESSAGE));
+            }
+            assertThat(handler.getDroppedRecordCount(), greaterThan(0L));
+            receiver.close();
+            handler.close();
+        }
+    }
+
+    @Test
+    void testPublishAfterCloseIsCountedAsDropped() throws IOException {
+        try (final LocalLogReceiver receiver = LocalLogReceiver.start()) {
+            final AsyncSocketHandler handler = AsyncSocketHandler.builder().host(receiver.getHost())
+                    .port(receiver.getPort()).build();
+            handler.close();
+            handler.publish(new LogRecord(Level.INFO, "too late"));
+            assertThat(handler.getDroppedRecordCount(), equalTo(1L));
+        }
+    }
+
+    @Test
+    void testReconnectsAfterConnectionBreaks() throws IOException, InterruptedException {
+        try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final AsyncSocketHandler handler = AsyncSocketHandler.builder()
+                    .host(serverSocket.getInetAddress().getHostAddress()).port(serverSocket.getLocalPort()).build();
+            handler.setErrorManager(new ErrorManager() {
+                @Override
+                public synchronized void error(final String message, final Exception exception, final int code) {
+                    // expected when the connection breaks
+                }
+            });
+            serverSocket.accept().close();
+            for (int i = 0; (i < 500) && handler.isConnected(); ++i) {
+                handler.publish(new LogRecord(Level.INFO, "lost"));
+                Thread.sleep(10);
+            }
+            assertThat(handler.isConnected(), equalTo(false));
+            try (final Socket client = serverSocket.accept();
+                    final BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(client.getInputStream(), Charset.defaultCharset()))) {
+                while (!handler.isConnected()) {
+                    Thread.sleep(10);
+                }
+                handler.publish(new LogRecord(Level.INFO, "after reconnect"));
+                handler.flush();
+                final String line = reader.readLine();
+                handler.close();
+                assertAll(() -> assertThat(line, endsWith("after reconnect")),
+                        () -> assertThat(handler.getReconnectCount(), equalTo(1L)));
+            }
+        }
+    }
+
+    @Test
+    void testUnknownHostThrowsException() {
+        final AsyncSocketHandler.Builder builder = AsyncSocketHandler.builder()
+                .host("this.hostname.should.not.exist.exasol.com").port(3000);
+        assertThrows(UnknownHostException.class, builder::build);
+    }
+
+    @Test
+    void testInvalidCapacityThrowsException() {
+        final AsyncSocketHandler.Builder builder = AsyncSocketHandler.builder().host("localhost").port(3000)
+                .capacity(0);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(exception.getMessage(), containsString("E-VS-COM-JAVA-44"));
+    }
+}
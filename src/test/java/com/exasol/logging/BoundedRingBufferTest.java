@@ -0,0 +1,74 @@
+package com.exasol.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedRingBufferTest {
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertAll(() -> assertThat(new BoundedRingBuffer<String>(1).capacity(), equalTo(2)),
+                () -> assertThat(new BoundedRingBuffer<String>(5).capacity(), equalTo(8)),
+                () -> assertThat(new BoundedRingBuffer<String>(8).capacity(), equalTo(8)));
+    }
+
+    @Test
+    void testOfferFailsWhenFull() {
+        final BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(2);
+        assertAll(() -> assertThat(buffer.offer("a"), equalTo(true)),
+                () -> assertThat(buffer.offer("b"), equalTo(true)),
+                () -> assertThat(buffer.offer("c"), equalTo(false)));
+    }
+
+    @Test
+    void testPollReturnsElementsInOrder() {
+        final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        final List<Integer> polled = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            buffer.offer(i);
+            polled.add(buffer.poll());
+        }
+        assertAll(() -> assertThat(polled, contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)),
+                () -> assertThat(buffer.poll(), nullValue()), () -> assertThat(buffer.isEmpty(), equalTo(true)));
+    }
+
+    @Test
+    void testConcurrentProducersAndConsumerLoseNothing() throws InterruptedException, ExecutionException {
+        final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+        final int producers = 4;
+        final int elementsPerProducer = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; ++p) {
+                final int offset = p * elementsPerProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerProducer; ++i) {
+                        while (!buffer.offer(offset + i)) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+            final Set<Integer> received = new HashSet<>();
+            while (received.size() < (producers * elementsPerProducer)) {
+                final Integer element = buffer.poll();
+                if (element != null) {
+                    received.add(element);
+                }
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            assertAll(() -> assertThat(received.size(), equalTo(producers * elementsPerProducer)),
+                    () -> assertThat(buffer.isEmpty(), equalTo(true)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
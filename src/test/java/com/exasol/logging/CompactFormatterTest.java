@@ -1,6 +1,7 @@
 package com.exasol.logging;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -92,4 +93,53 @@ class CompactFormatterTest {
                 () -> assertThat(formattedRecord, containsString("the exception")),
                 () -> assertThat(formattedRecord, containsString("the cause")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFormatTimestampWithinAndAcrossSeconds() {
+        this.record.setMillis(1000);
+        final String first = this.formatter.format(this.record);
+        this.record.setMillis(1999);
+        final String sameSecond = this.formatter.format(this.record);
+        this.record.setMillis(2007);
+        final String nextSecond = this.formatter.format(this.record);
+        assertAll(() -> assertThat(first, startsWith("1970-01-01 00:00:01.000 SEVERE  message")),
+                () -> assertThat(sameSecond, startsWith("1970-01-01 00:00:01.999 SEVERE  message")),
+                () -> assertThat(nextSecond, startsWith("1970-01-01 00:00:02.007 SEVERE  message")));
+    }
+
+    @Test
+    void testNestedFormattingDoesNotOverwriteOuterRecord() {
+        final Object parameter = new Object() {
+            @Override
+            public String toString() {
+                return CompactFormatterTest.this.formatter.format(new LogRecord(Level.INFO, "inner")).trim();
+            }
+        };
+        final LogRecord outerRecord = new LogRecord(Level.WARNING, "outer {0}");
+        outerRecord.setParameters(new Object[] { parameter });
+        final String formattedRecord = this.formatter.format(outerRecord);
+        assertThat(formattedRecord, matchesPattern(this.TIMESTAMP_PATTERN + " WARNING outer " + this.TIMESTAMP_PATTERN
+                + " INFO +inner\\n"));
+    }
+
+    @Test
+    void testFormatDistinguishesCustomLevelWithValueOfStandardLevel() {
+        final Level customLevel = new Level("NOTICE", Level.INFO.intValue()) {
+            private static final long serialVersionUID = 1L;
+        };
+        this.formatter.format(new LogRecord(Level.INFO, "message"));
+        final String formattedRecord = this.formatter.format(new LogRecord(customLevel, "message"));
+        assertThat(formattedRecord, matchesPattern(this.TIMESTAMP_PATTERN + " NOTICE +message\\n"));
+    }
+
+    @Test
+    void testFormatPadsLongAndCustomLevels() {
+        final LogRecord customLevelRecord = new LogRecord(Level.parse("1234"), "message");
+        final LogRecord finestRecord = new LogRecord(Level.FINEST, "message");
+        assertAll(
+                () -> assertThat(this.formatter.format(customLevelRecord),
+                        matchesPattern(this.TIMESTAMP_PATTERN + " 1234    message\\n")),
+                () -> assertThat(this.formatter.format(finestRecord),
+                        matchesPattern(this.TIMESTAMP_PATTERN + " FINEST  message\\n")));
+    }
+}
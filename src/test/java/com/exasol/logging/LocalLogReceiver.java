@@ -0,0 +1,97 @@
+package com.exasol.logging;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stand-in for a remote log receiver that listens on the loopback interface.
+ */
+final class LocalLogReceiver implements AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final boolean reading;
+    private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+    private final Thread thread;
+    private volatile Socket client;
+
+    private LocalLogReceiver(final boolean reading) throws IOException {
+        this.serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        this.reading = reading;
+        this.thread = new Thread(this::receive, "local-log-receiver");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Start a receiver that collects the received lines.
+     *
+     * @return running receiver
+     * @throws IOException if the server socket cannot be opened
+     */
+    static LocalLogReceiver start() throws IOException {
+        return new LocalLogReceiver(true);
+    }
+
+    /**
+     * Start a receiver that accepts the connection but never reads from it, so that the sender eventually stalls.
+     *
+     * @return running receiver
+     * @throws IOException if the server socket cannot be opened
+     */
+    static LocalLogReceiver startStalled() throws IOException {
+        return new LocalLogReceiver(false);
+    }
+
+    private void receive() {
+        try {
+            this.client = this.serverSocket.accept();
+            if (this.reading) {
+                try (final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(this.client.getInputStream(), Charset.defaultCharset()))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        this.lines.add(line);
+                    }
+                }
+            }
+        } catch (final IOException exception) {
+            // receiver was closed
+        }
+    }
+
+    String getHost() {
+        return this.serverSocket.getInetAddress().getHostAddress();
+    }
+
+    int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Wait until the given number of lines has been received.
+     *
+     * @param count   expected number of lines
+     * @param timeout maximum time to wait in milliseconds
+     * @return copy of the received lines
+     * @throws InterruptedException if interrupted while waiting
+     */
+    List<String> awaitLines(final int count, final long timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        while ((this.lines.size() < count) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+        synchronized (this.lines) {
+            return new ArrayList<>(this.lines);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.client != null) {
+            this.client.close();
+        }
+        this.serverSocket.close();
+    }
+}
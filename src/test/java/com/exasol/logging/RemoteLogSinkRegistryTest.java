@@ -0,0 +1,98 @@
+package com.exasol.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.*;
+
+class RemoteLogSinkRegistryTest {
+    private static final Logger LOGGER = Logger.getLogger(RemoteLogSinkRegistryTest.class.getName());
+    private RemoteLogSinkRegistry registry;
+
+    @BeforeEach
+    void beforeEach() {
+        this.registry = new RemoteLogSinkRegistry();
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.registry.configureConsoleLogging(Level.INFO);
+    }
+
+    // The receiver only accepts a single connection, so all lines arriving proves that the connection was reused.
+    @Test
+    void testReusesConnectionAcrossCalls() throws IOException, InterruptedException {
+        try (final LocalLogReceiver receiver = LocalLogReceiver.start()) {
+            this.registry.configureRemoteLogging(receiver.getHost(), receiver.getPort(), Level.INFO);
+            LOGGER.info("first call");
+            this.registry.configureRemoteLogging(receiver.getHost(), receiver.getPort(), Level.INFO);
+            LOGGER.info("second call");
+            this.registry.configureRemoteLogging(receiver.getHost(), receiver.getPort(), Level.FINE);
+            LOGGER.fine("third call");
+            final List<String> lines = receiver.awaitLines(5, 5000);
+            assertAll(() -> assertThat(lines, hasSize(5)), //
+                    () -> assertThat(lines, hasItem(endsWith("first call"))),
+                    () -> assertThat(lines, hasItem(endsWith("second call"))),
+                    () -> assertThat(lines, hasItem(endsWith("third call"))));
+        }
+    }
+
+    @Test
+    void testUnreachableReceiverFallsBackToConsole() throws IOException {
+        final int port;
+        try (final LocalLogReceiver receiver = LocalLogReceiver.start()) {
+            port = receiver.getPort();
+        }
+        this.registry.configureRemoteLogging("127.0.0.1", port, Level.INFO);
+        assertThat(Logger.getLogger("").getHandlers()[0], not(instanceOf(AsyncSocketHandler.class)));
+    }
+
+    @Test
+    void testFallbackAttachesOnceReceiverIsReachable() throws IOException, InterruptedException {
+        final int port;
+        try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        this.registry.configureRemoteLogging("127.0.0.1", port, Level.INFO);
+        try (final ServerSocket serverSocket = new ServerSocket(port, 1, InetAddress.getLoopbackAddress())) {
+            for (int i = 0; (i < 1000) && !isRootLoggerRemote(); ++i) {
+                this.registry.configureRemoteLogging("127.0.0.1", port, Level.INFO);
+                Thread.sleep(10);
+            }
+            assertThat(isRootLoggerRemote(), equalTo(true));
+        }
+    }
+
+    @Test
+    void testConsoleLoggingIsOnlySetUpOnceForTheSameLevel() {
+        this.registry.configureConsoleLogging(Level.FINE);
+        final Handler handler = getRootHandler();
+        this.registry.configureConsoleLogging(Level.FINE);
+        assertThat(getRootHandler(), sameInstance(handler));
+    }
+
+    @Test
+    void testConsoleLoggingIsSetUpAgainForAnotherLevel() {
+        this.registry.configureConsoleLogging(Level.FINE);
+        final Handler handler = getRootHandler();
+        this.registry.configureConsoleLogging(Level.WARNING);
+        assertThat(getRootHandler(), not(sameInstance(handler)));
+    }
+
+    private static Handler getRootHandler() {
+        return Logger.getLogger("").getHandlers()[0];
+    }
+
+    private static boolean isRootLoggerRemote() {
+        return Logger.getLogger("").getHandlers()[0] instanceof AsyncSocketHandler;
+    }
+}